@@ -0,0 +1,17 @@
+#!/bin/sh
+# Restores the checkpoint in /app/checkpoint if the image has one. Otherwise starts the application with the
+# checkpoint profile, which warms it up and writes the checkpoint there; the JVM then exits.
+set -e
+
+CHECKPOINT=/app/checkpoint
+
+if [ -n "$(ls -A "$CHECKPOINT" 2>/dev/null)" ]; then
+    exec java -XX:CRaCRestoreFrom="$CHECKPOINT"
+fi
+
+mkdir -p "$CHECKPOINT"
+java -XX:CRaCCheckpointTo="$CHECKPOINT" -Dspring.profiles.include=checkpoint -jar /app/extracted/app.jar || true
+if [ -z "$(ls -A "$CHECKPOINT")" ]; then
+    echo "No checkpoint was written to $CHECKPOINT" >&2
+    exit 1
+fi
@@ -0,0 +1,53 @@
+package com.library.management.benchmark;
+
+import com.library.management.dto.BookDTO;
+import com.library.management.service.BookService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BookService#addBook} for an ISBN that already has 1, 100 or 10,000 copies,
+ * against an embedded PostgreSQL database.
+ * <p>
+ * The score is inserts per second on the book save path; it should not depend on {@code existingCopies}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class AddBookBenchmark {
+
+    @Param({"1", "100", "10000"})
+    int existingCopies;
+
+    private BenchmarkContext context;
+    private BookService bookService;
+    private BookDTO copy;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start();
+        context.seedBooks("isbn-", 1, existingCopies);
+        bookService = context.bean(BookService.class);
+        copy = new BookDTO(null, "Title 1", "Author 1", "isbn-1", null);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+    }
+
+    @Benchmark
+    public void addCopy() throws Exception {
+        bookService.addBook(copy);
+    }
+}
@@ -0,0 +1,128 @@
+package com.library.management.benchmark;
+
+import com.library.management.LibraryManagementApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the application against a throwaway embedded PostgreSQL server for the database-backed benchmarks.
+ * <p>
+ * The server is a real PostgreSQL binary, so the Flyway migrations, the partial unique index and the
+ * {@code ON CONFLICT} statements behave exactly as in production. Unless started with {@link #startWeb}, the
+ * web layer is not started and benchmarks call the service beans directly.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class BenchmarkContext implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+    private final ConfigurableApplicationContext context;
+
+    private BenchmarkContext(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    /**
+     * Starts an empty database, applies the migrations and boots the application context on it.
+     *
+     * @param arguments additional application arguments, such as {@code --ledger.mode=write-behind}
+     */
+    static BenchmarkContext start(String... arguments) throws IOException {
+        return start(WebApplicationType.NONE, arguments);
+    }
+
+    /**
+     * Like {@link #start()}, but also starts the embedded web server on a free port; see {@link #baseUrl()}.
+     *
+     * @param arguments additional application arguments, such as {@code --spring.threads.virtual.enabled=true}
+     */
+    static BenchmarkContext startWeb(String... arguments) throws IOException {
+        return start(WebApplicationType.SERVLET, arguments);
+    }
+
+    private static BenchmarkContext start(WebApplicationType type, String... arguments) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        args.addAll(List.of(arguments));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LibraryManagementApplication.class)
+                .web(type)
+                .run(args.toArray(String[]::new));
+        return new BenchmarkContext(postgres, context);
+    }
+
+    /**
+     * Returns the root URL of the application, including the context path; only for {@link #startWeb}.
+     */
+    String baseUrl() {
+        Environment environment = context.getEnvironment();
+        return "http://localhost:" + environment.getProperty("local.server.port")
+                + environment.getProperty("server.servlet.context-path", "");
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    JdbcTemplate jdbc() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    /**
+     * Inserts {@code isbnCount} ISBNs with {@code copiesPerIsbn} copies each, plus their master records.
+     * Book IDs start at 1; {@code book_seq} is moved past them.
+     */
+    void seedBooks(String isbnPrefix, int isbnCount, int copiesPerIsbn) {
+        jdbc().update("insert into book (id, isbn_no, title, author, version, created_date, updated_date) "
+                + "select (i - 1) * ? + v, ? || i, 'Title ' || i, 'Author ' || i, v, now(), now() "
+                + "from generate_series(1, ?) i, generate_series(1, ?) v", copiesPerIsbn, isbnPrefix, isbnCount,
+                copiesPerIsbn);
+        jdbc().update("insert into book_isbn (isbn_no, title, author, copy_count, created_date, updated_date) "
+                + "select ? || i, 'Title ' || i, 'Author ' || i, ?, now(), now() "
+                + "from generate_series(1, ?) i", isbnPrefix, copiesPerIsbn, isbnCount);
+        jdbc().execute("select setval('book_seq', (select max(id) from book) + 1)");
+        jdbc().execute("analyze book");
+    }
+
+    /**
+     * Inserts {@code count} borrowers named {@code Borrower <n>} with IDs starting at 1.
+     */
+    void seedBorrowers(int count) {
+        jdbc().update("insert into borrower (id, name, email, created_date, updated_date) "
+                + "select i, 'Borrower ' || i, 'borrower' || i || '@example.com', now(), now() "
+                + "from generate_series(1, ?) i", count);
+        jdbc().execute("select setval('borrower_seq', (select max(id) from borrower) + 1)");
+        jdbc().execute("analyze borrower");
+    }
+
+    /**
+     * Closes all open loans.
+     */
+    void returnAllBooks() {
+        jdbc().update("update ledger set status = 'RETURNED' where status = 'BORROWED'");
+        jdbc().update("delete from ledger_active");
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        postgres.close();
+    }
+}
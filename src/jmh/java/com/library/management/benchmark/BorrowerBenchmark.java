@@ -0,0 +1,66 @@
+package com.library.management.benchmark;
+
+import com.library.management.dto.BorrowerDTO;
+import com.library.management.exception.ConflictException;
+import com.library.management.service.BorrowerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link BorrowerService#addBorrower} against an embedded PostgreSQL database holding
+ * {@value #BORROWERS} borrowers.
+ * <p>
+ * {@code addDuplicate} measures duplicate detection for an existing name and email; {@code addNew} measures
+ * inserts per second on the borrower save path.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class BorrowerBenchmark {
+
+    private static final int BORROWERS = 100_000;
+
+    private BenchmarkContext context;
+    private BorrowerService borrowerService;
+    private BorrowerDTO duplicate;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start();
+        context.seedBorrowers(BORROWERS);
+        borrowerService = context.bean(BorrowerService.class);
+        duplicate = new BorrowerDTO(null, "Borrower 4242", "borrower4242@example.com");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+    }
+
+    @Benchmark
+    public String addDuplicate() {
+        try {
+            borrowerService.addBorrower(duplicate);
+            throw new IllegalStateException("borrower 4242 should already exist");
+        } catch (ConflictException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public void addNew() throws ConflictException {
+        long n = next++;
+        borrowerService.addBorrower(new BorrowerDTO(null, "New " + n, "new" + n + "@example.com"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.library.management.benchmark;
+
+import com.library.management.dto.BookDTO;
+import com.library.management.dto.BookSliceDTO;
+import com.library.management.exception.BadRequestException;
+import com.library.management.service.BookService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures catalog reads with entity-to-DTO mapping at several page sizes, against an embedded
+ * PostgreSQL database holding {@value #BOOKS} books.
+ * <p>
+ * Compares the first and the last page of the offset-based {@link BookService#getBooks} with the
+ * cursor-based {@link BookService#browseBooks} at the same positions.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class CatalogBenchmark {
+
+    private static final int BOOKS = 100_000;
+
+    @Param({"20", "100", "1000"})
+    int pageSize;
+
+    private BenchmarkContext context;
+    private BookService bookService;
+    private int lastPage;
+    private String lastPageCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start();
+        context.seedBooks("isbn-", BOOKS, 1);
+        bookService = context.bean(BookService.class);
+        lastPage = BOOKS / pageSize - 1;
+        // Same encoding as the service: base64url of the last ID of the previous slice
+        lastPageCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString((long) lastPage * pageSize).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BookDTO> getBooksFirstPage() {
+        return bookService.getBooks(PageRequest.of(0, pageSize));
+    }
+
+    @Benchmark
+    public List<BookDTO> getBooksLastPage() {
+        return bookService.getBooks(PageRequest.of(lastPage, pageSize));
+    }
+
+    @Benchmark
+    public BookSliceDTO browseBooksFirstSlice() throws BadRequestException {
+        return bookService.browseBooks(null, pageSize, false);
+    }
+
+    @Benchmark
+    public BookSliceDTO browseBooksLastSlice() throws BadRequestException {
+        return bookService.browseBooks(lastPageCursor, pageSize, false);
+    }
+}
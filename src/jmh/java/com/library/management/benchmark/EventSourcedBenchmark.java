@@ -0,0 +1,88 @@
+package com.library.management.benchmark;
+
+import com.library.management.exception.ConflictException;
+import com.library.management.service.LedgerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Compares a borrow followed by a return in the {@code sync} and {@code event-sourced} ledger modes.
+ * <p>
+ * Eight threads each borrow and return a distinct book. In {@code sync} mode that is an insert into
+ * {@code ledger} and {@code ledger_active} followed by an update of {@code ledger} and a delete from
+ * {@code ledger_active}; in {@code event-sourced} mode it is two inserts into {@code ledger_event}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(8)
+public class EventSourcedBenchmark {
+
+    /**
+     * Books to cycle through; more than the threads, so no two threads share a book.
+     */
+    private static final int BOOKS = 10_000;
+
+    @Param({"sync", "event-sourced"})
+    public String mode;
+
+    private Path snapshotDirectory;
+    private BenchmarkContext context;
+    private LedgerService ledgerService;
+    /**
+     * The book of one benchmark thread.
+     */
+    @State(Scope.Thread)
+    public static class Book {
+
+        private static final AtomicLong next = new AtomicLong();
+
+        long bookId;
+
+        @Setup(Level.Trial)
+        public void assign() {
+            bookId = next.incrementAndGet();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        snapshotDirectory = Files.createTempDirectory("ledger-snapshots");
+        context = BenchmarkContext.start("--ledger.mode=" + mode,
+                "--ledger.event-sourced.snapshot-directory=" + snapshotDirectory);
+        context.seedBooks("isbn-", BOOKS, 1);
+        context.seedBorrowers(1);
+        ledgerService = context.bean(LedgerService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (Stream<Path> files = Files.walk(snapshotDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void borrowAndReturn(Book book) throws ConflictException {
+        ledgerService.handleLedger(book.bookId, 1L, true);
+        ledgerService.handleLedger(book.bookId, 1L, false);
+    }
+}
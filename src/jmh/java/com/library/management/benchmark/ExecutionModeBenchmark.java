@@ -0,0 +1,113 @@
+package com.library.management.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares platform-thread and virtual-thread request execution over HTTP under database saturation.
+ * <p>
+ * {@value #LOAN_THREADS} client threads borrow and return their own book in a loop while
+ * {@value #SEARCH_THREADS} threads search the catalog, which is answered from memory. The connection pool
+ * is deliberately small and Tomcat is limited to {@value #TOMCAT_THREADS} platform threads, so in platform
+ * mode most request threads sit blocked waiting for a connection and searches queue behind them for a free
+ * thread. In virtual mode every request gets its own thread; loans queue on the connection limiter and
+ * searches are served immediately. Compare the {@code search} percentiles and the {@code loan} throughput
+ * of both modes.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ExecutionModeBenchmark {
+
+    private static final int LOAN_THREADS = 48;
+    private static final int SEARCH_THREADS = 4;
+    private static final int TOMCAT_THREADS = 32;
+    private static final int POOL_SIZE = 4;
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    private BenchmarkContext context;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.startWeb("--spring.threads.virtual.enabled=" + virtualThreads,
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--server.tomcat.threads.min-spare=" + TOMCAT_THREADS,
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--spring.datasource.hikari.minimum-idle=" + POOL_SIZE);
+        context.seedBooks("isbn-", 10_000, 1);
+        context.seedBorrowers(1);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10)).build();
+        baseUrl = context.baseUrl();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+    }
+
+    /**
+     * The book a loan thread borrows and returns; no two threads share one, so loans never conflict.
+     */
+    @State(Scope.Thread)
+    public static class LoanBook {
+
+        long bookId;
+
+        @Setup(Level.Trial)
+        public void setUp(ThreadParams threadParams) {
+            bookId = threadParams.getThreadIndex() + 1;
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(LOAN_THREADS)
+    public int loan(LoanBook book) throws IOException, InterruptedException {
+        return post("/book/borrow?bookId=" + book.bookId + "&borrowerId=1")
+                + post("/book/return?bookId=" + book.bookId + "&borrowerId=1");
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(SEARCH_THREADS)
+    public int search() throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl
+                + "/book/search?q=Title+42")).build(), HttpResponse.BodyHandlers.ofString());
+        return expectOk(response);
+    }
+
+    private int post(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .POST(HttpRequest.BodyPublishers.noBody()).build(), HttpResponse.BodyHandlers.ofString());
+        return expectOk(response);
+    }
+
+    private static int expectOk(HttpResponse<String> response) {
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(response.uri() + " returned " + response.statusCode() + ": "
+                    + response.body());
+        }
+        return response.body().length();
+    }
+}
@@ -0,0 +1,140 @@
+package com.library.management.benchmark;
+
+import com.library.management.dto.BookDTO;
+import com.library.management.dto.BookImportReportDTO;
+import com.library.management.dto.BorrowerDTO;
+import com.library.management.dto.LedgerRequestDTO;
+import com.library.management.dto.LedgerResultDTO;
+import com.library.management.enums.BookImportFormat;
+import com.library.management.exception.ConflictException;
+import com.library.management.service.BookImportService;
+import com.library.management.service.BookService;
+import com.library.management.service.BorrowerService;
+import com.library.management.service.LedgerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the inserts per second of every service path that saves new rows, against an embedded PostgreSQL
+ * database, with the application's ID allocation and with one {@code nextval} and one insert statement per row.
+ * <p>
+ * {@code pooled-lo} is the application's configuration. {@code sequence} switches the Hibernate optimizer to
+ * {@code none} and JDBC batching off. Only {@code addBook} saves through Hibernate, so it is the only path the
+ * parameter should move:
+ * </p>
+ * <ul>
+ *     <li>{@code addBook}: {@link BookService#addBook} of a new ISBN, IDs from the {@code book_seq} generator</li>
+ *     <li>{@code importBooks}: {@link BookImportService#importBooks} of {@value #IMPORT_ROWS} CSV rows, IDs
+ *     taken from blocks of {@code book_seq} by the import itself</li>
+ *     <li>{@code addBorrower}: {@link BorrowerService#addBorrower}, one {@code nextval('borrower_seq')} in the
+ *     native insert</li>
+ *     <li>{@code borrow} and {@code borrowBatch}: {@link LedgerService#handleLedger} and
+ *     {@link LedgerService#handleLedgerBatch} of {@value #BATCH} books, one {@code nextval('ledger_seq')} per
+ *     ledger row</li>
+ * </ul>
+ * <p>
+ * Loans are closed before each iteration, and the borrow paths walk the books from the first one.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class IdAllocationBenchmark {
+
+    private static final int BATCH = 50;
+
+    private static final int IMPORT_ROWS = 1000;
+
+    /**
+     * Books available to borrow in one iteration; must exceed the borrows of one iteration.
+     */
+    private static final int BOOKS = 300_000;
+
+    @Param({"sequence", "pooled-lo"})
+    String idAllocation;
+
+    private BenchmarkContext context;
+    private BookService bookService;
+    private BookImportService bookImportService;
+    private BorrowerService borrowerService;
+    private LedgerService ledgerService;
+    private String importCsv;
+    private long next;
+    private long nextBook;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = "sequence".equals(idAllocation)
+                ? BenchmarkContext.start("--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=none",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=1")
+                : BenchmarkContext.start();
+        context.seedBooks("isbn-", BOOKS, 1);
+        context.seedBorrowers(1);
+        bookService = context.bean(BookService.class);
+        bookImportService = context.bean(BookImportService.class);
+        borrowerService = context.bean(BorrowerService.class);
+        ledgerService = context.bean(LedgerService.class);
+
+        StringBuilder csv = new StringBuilder("title,isbnNo,author\n");
+        for (int i = 0; i < IMPORT_ROWS; i++) {
+            csv.append("Imported ").append(i).append(",import-").append(i).append(",Author ").append(i).append('\n');
+        }
+        importCsv = csv.toString();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLoans() {
+        context.returnAllBooks();
+        nextBook = 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+    }
+
+    @Benchmark
+    public void addBook() throws Exception {
+        long n = next++;
+        bookService.addBook(new BookDTO(null, "New " + n, "Author " + n, "new-" + n, null));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(IMPORT_ROWS)
+    public BookImportReportDTO importBooks() throws IOException {
+        return bookImportService.importBooks(new StringReader(importCsv), BookImportFormat.CSV);
+    }
+
+    @Benchmark
+    public void addBorrower() throws ConflictException {
+        long n = next++;
+        borrowerService.addBorrower(new BorrowerDTO(null, "New " + n, "new" + n + "@example.com"));
+    }
+
+    @Benchmark
+    public void borrow() throws ConflictException {
+        ledgerService.handleLedger(nextBook++, 1L, true);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<LedgerResultDTO> borrowBatch() {
+        List<LedgerRequestDTO> requests = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            requests.add(new LedgerRequestDTO(nextBook++, 1L));
+        }
+        return ledgerService.handleLedgerBatch(requests, true);
+    }
+}
@@ -0,0 +1,83 @@
+package com.library.management.benchmark;
+
+import com.library.management.exception.ConflictException;
+import com.library.management.service.LedgerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LedgerService#handleLedger} borrow and return against an embedded PostgreSQL database.
+ * <p>
+ * Before each iteration every even-numbered book is on loan and every odd-numbered book is available, so
+ * {@code borrow} walks the odd books and {@code giveBack} walks the even ones without ever hitting a conflict.
+ * {@code borrowAlreadyBorrowed} measures the rejection path: the insert writing nothing and the two lookups
+ * explaining why.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class LedgerBenchmark {
+
+    /**
+     * Books per iteration for each of borrow and return; must exceed the operations of one iteration.
+     */
+    private static final int BOOKS = 400_000;
+
+    private BenchmarkContext context;
+    private LedgerService ledgerService;
+    private long next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = BenchmarkContext.start();
+        context.seedBooks("isbn-", BOOKS, 1);
+        context.seedBorrowers(1);
+        ledgerService = context.bean(LedgerService.class);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetLoans() {
+        context.jdbc().update("update ledger set status = 'RETURNED' where status = 'BORROWED'");
+        context.jdbc().update("delete from ledger_active");
+        context.jdbc().update("insert into ledger (id, book_id, borrower_id, status, created_date, updated_date) "
+                + "select nextval('ledger_seq'), id, 1, 'BORROWED', now(), now() from book where id % 2 = 0");
+        context.jdbc().update("insert into ledger_active (book_id, ledger_id, created_date) "
+                + "select book_id, id, created_date from ledger where status = 'BORROWED'");
+        next = 0;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+    }
+
+    @Benchmark
+    public void borrow() throws ConflictException {
+        ledgerService.handleLedger(2 * next++ + 1, 1L, true);
+    }
+
+    @Benchmark
+    public void giveBack() throws ConflictException {
+        ledgerService.handleLedger(2 * next++ + 2, 1L, false);
+    }
+
+    @Benchmark
+    public String borrowAlreadyBorrowed() {
+        try {
+            ledgerService.handleLedger(2L, 1L, true);
+            throw new IllegalStateException("book 2 should be on loan");
+        } catch (ConflictException e) {
+            return e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.library.management.benchmark;
+
+import com.library.management.dto.BookDTO;
+import com.library.management.mapper.BookMapper;
+import com.library.management.model.Book;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the explicit {@link BookMapper} against the reflection-based {@link ModelMapper} with STRICT matching
+ * that the services used before.
+ * <p>
+ * {@code mapBookPage*} map a whole catalog page entity-to-DTO as {@code getBooks} does; {@code mapBookPayload*}
+ * map a request DTO to an entity as {@code addBook} does.
+ * Run with {@code -prof gc} to compare allocation rates as well.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int pageSize;
+
+    private final BookMapper bookMapper = new BookMapper();
+    private ModelMapper modelMapper;
+
+    private List<Book> page;
+    private BookDTO bookPayload;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
+
+        page = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Book book = new Book();
+            book.setId((long) i);
+            book.setIsbnNo("978-0132350" + i);
+            book.setTitle("Clean Code " + i);
+            book.setAuthor("Robert C. Martin");
+            book.setVersion(i % 5 + 1);
+            page.add(book);
+        }
+        bookPayload = new BookDTO(null, "Clean Code", "Robert C. Martin", "978-0132350884", null);
+    }
+
+    @Benchmark
+    public List<BookDTO> mapBookPageModelMapper() {
+        List<BookDTO> dtos = new ArrayList<>(page.size());
+        for (Book book : page) {
+            dtos.add(modelMapper.map(book, BookDTO.class));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public List<BookDTO> mapBookPageExplicit() {
+        List<BookDTO> dtos = new ArrayList<>(page.size());
+        for (Book book : page) {
+            dtos.add(bookMapper.toDTO(book));
+        }
+        return dtos;
+    }
+
+    @Benchmark
+    public Book mapBookPayloadModelMapper() {
+        return modelMapper.map(bookPayload, Book.class);
+    }
+
+    @Benchmark
+    public Book mapBookPayloadExplicit() {
+        return bookMapper.toEntity(bookPayload);
+    }
+}
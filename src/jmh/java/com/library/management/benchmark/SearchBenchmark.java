@@ -0,0 +1,88 @@
+package com.library.management.benchmark;
+
+import com.library.management.index.CatalogSearchIndex;
+import com.library.management.model.Book;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CatalogSearchIndex} queries over a synthetic catalog.
+ * <p>
+ * Titles and authors are drawn from a vocabulary with a skewed word frequency, with five copies per title,
+ * so the index sees both very common and rare words. {@code searchRarePair} looks up two uncommon words,
+ * {@code searchCommonPair} a frequent word with an uncommon one, and {@code searchCommonWord} the most frequent
+ * word alone, which is the worst case as every book containing it is scored.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class SearchBenchmark {
+
+    private static final int VOCABULARY_SIZE = 20000;
+    private static final int COPIES_PER_TITLE = 5;
+
+    @Param({"100000", "1000000"})
+    int books;
+
+    private CatalogSearchIndex searchIndex;
+
+    @Setup
+    public void setUp() {
+        searchIndex = new CatalogSearchIndex();
+        Random random = new Random(42);
+        List<Book> batch = new ArrayList<>(10000);
+        long id = 0;
+        while (id < books) {
+            String title = word(random) + " " + word(random) + " " + word(random);
+            String author = word(random) + " " + word(random);
+            for (int copy = 1; copy <= COPIES_PER_TITLE && id < books; copy++) {
+                Book book = new Book();
+                book.setId(++id);
+                book.setIsbnNo("isbn-" + id / COPIES_PER_TITLE);
+                book.setTitle(title);
+                book.setAuthor(author);
+                book.setVersion(copy);
+                batch.add(book);
+            }
+            if (batch.size() >= 10000) {
+                searchIndex.index(batch);
+                batch = new ArrayList<>(10000);
+            }
+        }
+        searchIndex.index(batch);
+    }
+
+    /**
+     * Picks a vocabulary word with a roughly Zipfian frequency: {@code w0} is the most frequent.
+     */
+    private static String word(Random random) {
+        return "w" + (int) Math.floor(Math.pow(VOCABULARY_SIZE, random.nextDouble())) % VOCABULARY_SIZE;
+    }
+
+    @Benchmark
+    public List<Long> searchRarePair() {
+        return searchIndex.search("w5000 w7000", 20);
+    }
+
+    @Benchmark
+    public List<Long> searchCommonPair() {
+        return searchIndex.search("w1 w5000", 20);
+    }
+
+    @Benchmark
+    public List<Long> searchCommonWord() {
+        return searchIndex.search("w1", 20);
+    }
+}
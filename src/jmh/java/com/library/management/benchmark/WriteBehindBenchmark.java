@@ -0,0 +1,73 @@
+package com.library.management.benchmark;
+
+import com.library.management.exception.ConflictException;
+import com.library.management.service.LedgerService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Compares borrow throughput of the {@code sync} and {@code write-behind} ledger modes under concurrency.
+ * <p>
+ * Eight threads borrow distinct books, so every request writes. In {@code sync} mode each borrow is its own
+ * transaction and commit; in {@code write-behind} mode concurrent borrows share an {@code fsync} of the
+ * write-ahead log and are applied to {@code ledger} in groups by the committer.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(8)
+public class WriteBehindBenchmark {
+
+    /**
+     * Books to borrow; must exceed the borrows of the whole trial.
+     */
+    private static final int BOOKS = 1_000_000;
+
+    @Param({"sync", "write-behind"})
+    public String mode;
+
+    private Path walDirectory;
+    private BenchmarkContext context;
+    private LedgerService ledgerService;
+    private final AtomicLong next = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        walDirectory = Files.createTempDirectory("ledger-wal");
+        context = BenchmarkContext.start("--ledger.mode=" + mode,
+                "--ledger.write-behind.directory=" + walDirectory);
+        context.seedBooks("isbn-", BOOKS, 1);
+        context.seedBorrowers(1);
+        ledgerService = context.bean(LedgerService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (Stream<Path> files = Files.walk(walDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public void borrow() throws ConflictException {
+        ledgerService.handleLedger(next.incrementAndGet(), 1L, true);
+    }
+}
@@ -0,0 +1,78 @@
+package com.library.management.loadtest;
+
+import com.library.management.LibraryManagementApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the application in the load test's JVM against a throwaway embedded PostgreSQL server, for
+ * {@code --embedded} runs.
+ * <p>
+ * The server is a real PostgreSQL binary, so the migrations and queries behave as in production, but it starts
+ * empty and is deleted afterwards. The application and the load generator share the machine's cores; compare
+ * embedded runs with each other rather than with production.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class EmbeddedTarget implements AutoCloseable {
+
+    private final EmbeddedPostgres postgres;
+
+    private final ConfigurableApplicationContext context;
+
+    private EmbeddedTarget(EmbeddedPostgres postgres, ConfigurableApplicationContext context) {
+        this.postgres = postgres;
+        this.context = context;
+    }
+
+    /**
+     * Starts an empty database and the web application on a free port.
+     *
+     * @param appArgs additional application arguments, such as {@code --ledger.mode=write-behind}
+     */
+    static EmbeddedTarget start(List<String> appArgs) throws IOException {
+        EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--server.port=0",
+                "--spring.main.banner-mode=off",
+                "--logging.level.root=WARN"));
+        args.addAll(appArgs);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LibraryManagementApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run(args.toArray(String[]::new));
+        return new EmbeddedTarget(postgres, context);
+    }
+
+    /**
+     * Returns the root URL of the application, including the context path.
+     */
+    String baseUrl() {
+        Environment environment = context.getEnvironment();
+        return "http://localhost:" + environment.getProperty("local.server.port")
+                + environment.getProperty("server.servlet.context-path", "");
+    }
+
+    JdbcTemplate jdbc() {
+        return context.getBean(JdbcTemplate.class);
+    }
+
+    @Override
+    public void close() throws IOException {
+        context.close();
+        postgres.close();
+    }
+}
@@ -0,0 +1,227 @@
+package com.library.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a fixed offered rate, whatever the response times, and records them in a {@link LoadReport}.
+ * <p>
+ * This is an open-loop generator: one thread schedules the arrivals, evenly spaced or with exponentially
+ * distributed gaps as independent users make, and each request runs on its own virtual thread. A slow server
+ * therefore sees requests pile up, as it would in production, instead of a client that politely waits. At most
+ * {@code --max-in-flight} requests await a response; arrivals beyond that are dropped and counted.
+ * </p>
+ *
+ * <p>
+ * The operation, book and borrower of each request are drawn on the scheduling thread from the seeded random
+ * source, so runs with the same options send the same sequence of requests as long as the same loans succeed.
+ * Returns prefer the hot books on loan and use the borrower the fixture recorded for them, so they succeed
+ * unless another request returned the book first.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class LoadGenerator {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static final int RETURN_DRAWS = 8;
+
+    private final HttpClient client;
+
+    private final String baseUrl;
+
+    private final LoadTestOptions options;
+
+    private final LoadTestFixture fixture;
+
+    private final ZipfSampler hotBooks;
+
+    private final SplittableRandom random;
+
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    LoadGenerator(HttpClient client, String baseUrl, LoadTestOptions options, LoadTestFixture fixture) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.options = options;
+        this.fixture = fixture;
+        this.hotBooks = new ZipfSampler(options.books(), options.zipf());
+        this.random = new SplittableRandom(options.seed());
+    }
+
+    /**
+     * Sends the warm-up and measured requests and waits for their responses.
+     *
+     * @return the report of the requests scheduled during the measured phase
+     */
+    LoadReport run() {
+        LoadReport report = new LoadReport();
+        Semaphore inFlight = new Semaphore(options.maxInFlight());
+        long meanGapNanos = Math.round(1e9 / options.rate());
+        long start = System.nanoTime();
+        long measuredFrom = start + options.warmup().toNanos();
+        long end = measuredFrom + options.duration().toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long scheduled = start; scheduled < end; scheduled += gap(meanGapNanos)) {
+                long wait;
+                while ((wait = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean measured = scheduled >= measuredFrom;
+                Planned request = next();
+                if (!inFlight.tryAcquire()) {
+                    if (measured) {
+                        report.drop();
+                    }
+                    continue;
+                }
+                long startedAt = scheduled;
+                executor.execute(() -> {
+                    try {
+                        String outcome = send(request);
+                        if (measured) {
+                            report.record(request.operation(), System.nanoTime() - startedAt, outcome);
+                        }
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return report;
+    }
+
+    private long gap(long meanGapNanos) {
+        if (!options.poisson()) {
+            return meanGapNanos;
+        }
+        return Math.max(1, Math.round(-Math.log(1 - random.nextDouble()) * meanGapNanos));
+    }
+
+    /**
+     * Draws the next request.
+     */
+    private Planned next() {
+        Operation operation = options.mix().next(random);
+        long n;
+        return switch (operation) {
+            case ADD_BOOK -> {
+                n = sequence.incrementAndGet();
+                yield new Planned(operation, post("/book/add", "{\"isbnNo\":\"LOAD-A-" + runId + "-" + n
+                        + "\",\"title\":\"Load test title " + n + "\",\"author\":\"Load test author " + n % 1000
+                        + "\"}"), 0, 0);
+            }
+            case LIST_BOOKS -> new Planned(operation, request("/book/?pageNum="
+                    + random.nextInt(Math.max(1, options.books() / options.pageSize())) + "&pageSize="
+                    + options.pageSize()).GET(), 0, 0);
+            case BORROW -> loan(operation, fixture.book(hotBooks.next(random)), fixture.randomBorrower(random));
+            case RETURN -> returnLoan();
+            case ADD_BORROWER -> {
+                n = sequence.incrementAndGet();
+                yield new Planned(operation, post("/borrower/add", "{\"name\":\"Load borrower " + n
+                        + "\",\"email\":\"added-" + runId + "-" + n + "@loadtest.invalid\"}"), 0, 0);
+            }
+        };
+    }
+
+    /**
+     * Draws up to {@value #RETURN_DRAWS} hot books and returns the first one on loan, or the last one drawn if
+     * none is, which then conflicts.
+     */
+    private Planned returnLoan() {
+        long bookId = 0;
+        for (int i = 0; i < RETURN_DRAWS; i++) {
+            bookId = fixture.book(hotBooks.next(random));
+            Long borrowerId = fixture.loans().get(bookId);
+            if (borrowerId != null) {
+                return loan(Operation.RETURN, bookId, borrowerId);
+            }
+        }
+        return loan(Operation.RETURN, bookId, fixture.randomBorrower(random));
+    }
+
+    private Planned loan(Operation operation, long bookId, long borrowerId) {
+        String path = operation == Operation.BORROW ? "/book/borrow" : "/book/return";
+        return new Planned(operation, post(path + "?bookId=" + bookId + "&borrowerId=" + borrowerId, null),
+                bookId, borrowerId);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(options.timeout());
+    }
+
+    private HttpRequest.Builder post(String path, String json) {
+        HttpRequest.Builder builder = request(path);
+        if (json == null) {
+            return builder.POST(HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.header("Content-Type", "application/json").POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    /**
+     * Sends the request, keeps the loans of the fixture up to date and describes the outcome.
+     */
+    private String send(Planned planned) {
+        HttpResponse<String> response;
+        try {
+            response = client.send(planned.request().build(), HttpResponse.BodyHandlers.ofString());
+        } catch (HttpTimeoutException e) {
+            return "timeout";
+        } catch (IOException e) {
+            return "io " + e.getClass().getSimpleName();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "interrupted";
+        }
+        int status = response.statusCode();
+        if (status / 100 != 2) {
+            return status + " " + errorMessage(response.body());
+        }
+        if (planned.operation() == Operation.BORROW) {
+            fixture.loans().put(planned.bookId(), planned.borrowerId());
+        } else if (planned.operation() == Operation.RETURN) {
+            fixture.loans().remove(planned.bookId(), planned.borrowerId());
+        }
+        return Integer.toString(status);
+    }
+
+    /**
+     * Extracts the message of an {@code ErrorDetailsDTO} body, or of Spring's default error body.
+     */
+    private static String errorMessage(String body) {
+        try {
+            JsonNode error = objectMapper.readTree(body);
+            JsonNode message = error.path("message");
+            if (message.isArray() && !message.isEmpty()) {
+                return message.get(0).asText();
+            }
+            return error.path("error").asText(message.asText(""));
+        } catch (IOException e) {
+            return body.length() > 80 ? body.substring(0, 80) : body;
+        }
+    }
+
+    /**
+     * A drawn request, with the book and borrower of a borrow or return.
+     */
+    private record Planned(Operation operation, HttpRequest.Builder request, long bookId, long borrowerId) {
+    }
+}
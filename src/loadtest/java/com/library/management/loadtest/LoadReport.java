@@ -0,0 +1,119 @@
+package com.library.management.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latencies and outcomes of the measured requests of a load test.
+ * <p>
+ * Latency is taken from the time a request was scheduled to be sent, not from when it was sent, so time spent
+ * waiting behind earlier requests counts and a stalled server cannot hide its stall by slowing the generator
+ * down. Outcomes are grouped by status code and, for errors, by the message of the {@code ExceptionAdvice}
+ * error body, such as {@code 409 Book is already borrowed by someone}. Requests that got no response are
+ * grouped as {@code timeout} or {@code io}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+
+    private final Map<Operation, Map<String, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+
+    private final LongAdder dropped = new LongAdder();
+
+    LoadReport() {
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_MICROS, 3));
+            outcomes.put(operation, new ConcurrentHashMap<>());
+        }
+    }
+
+    /**
+     * Records a completed request.
+     *
+     * @param operation    the operation of the request
+     * @param latencyNanos the time from its scheduled start to its response
+     * @param outcome      its status code, with the error message for errors
+     */
+    void record(Operation operation, long latencyNanos, String outcome) {
+        latencies.get(operation).recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_MICROS));
+        outcomes.get(operation).computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Records a request that was not sent because too many were awaiting a response.
+     */
+    void drop() {
+        dropped.increment();
+    }
+
+    /**
+     * Prints the throughput, latency percentiles and outcomes of each operation.
+     *
+     * @param out      the stream to print to
+     * @param measured the length of the measured phase
+     */
+    void print(PrintStream out, Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        Histogram total = new Histogram(HIGHEST_MICROS, 3);
+        long totalOk = 0;
+        out.printf("%-13s %9s %9s %8s %8s %8s %8s %8s %8s%n", "operation", "requests", "req/s", "ok/s", "p50 ms",
+                "p99 ms", "p999 ms", "max ms", "errors");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            long ok = successes(outcomes.get(operation));
+            totalOk += ok;
+            printRow(out, operation.key(), histogram, ok, seconds);
+        }
+        printRow(out, "total", total, totalOk, seconds);
+        if (dropped.sum() > 0) {
+            out.printf("%ndropped: %d requests not sent, over --max-in-flight%n", dropped.sum());
+        }
+
+        out.printf("%n%-13s %9s  %s%n", "operation", "requests", "outcome");
+        for (Operation operation : Operation.values()) {
+            outcomes.get(operation).entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, LongAdder> entry) -> entry.getValue().sum())
+                            .reversed())
+                    .forEach(entry -> out.printf("%-13s %9d  %s%n", operation.key(), entry.getValue().sum(),
+                            entry.getKey()));
+        }
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long ok, double seconds) {
+        long count = histogram.getTotalCount();
+        out.printf("%-13s %9d %9.1f %8.1f %8.2f %8.2f %8.2f %8.2f %8d%n", name, count, count / seconds, ok / seconds,
+                millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)), millis(histogram.getMaxValue()), count - ok);
+    }
+
+    private static long successes(Map<String, LongAdder> outcomes) {
+        return outcomes.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith("2"))
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
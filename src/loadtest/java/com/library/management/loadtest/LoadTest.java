@@ -0,0 +1,79 @@
+package com.library.management.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Drives the book and borrower endpoints over HTTP with a configurable mix, rate and hot-book skew, and prints
+ * throughput, latency percentiles and error counts.
+ * <p>
+ * Run it against a running application and its PostgreSQL database, or with {@code --embedded} against an
+ * instance started in this JVM on an embedded PostgreSQL server:
+ * </p>
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--embedded --rate=500 --duration=60s"
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--rate=1000 --zipf=1.2 --mix=borrow:50,return:50"
+ * </pre>
+ * <p>
+ * See {@link LoadTestOptions#USAGE} for all options, or pass {@code --help}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LoadGenerator
+ * @since 2026-10-17
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 1 && args[0].equals("--help")) {
+            System.out.print(LoadTestOptions.USAGE);
+            return;
+        }
+        LoadTestOptions options;
+        try {
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        try (HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build()) {
+            if (options.embedded()) {
+                try (EmbeddedTarget target = EmbeddedTarget.start(options.appArgs())) {
+                    run(client, target.baseUrl(), target.jdbc(), options);
+                }
+            } else {
+                SingleConnectionDataSource dataSource = new SingleConnectionDataSource(options.jdbcUrl(),
+                        options.jdbcUser(), options.jdbcPass(), true);
+                try {
+                    run(client, options.target(), new JdbcTemplate(dataSource), options);
+                } finally {
+                    dataSource.destroy();
+                }
+            }
+        }
+    }
+
+    private static void run(HttpClient client, String baseUrl, JdbcTemplate jdbc, LoadTestOptions options)
+            throws Exception {
+        LoadTestFixture fixture = LoadTestFixture.prepare(client, baseUrl, jdbc, options);
+        System.out.printf("Offering %.0f requests/s (%s arrivals) to %s for %s after a %s warm-up%n",
+                options.rate(), options.poisson() ? "poisson" : "uniform", baseUrl, options.duration(),
+                options.warmup());
+        System.out.printf("Mix %s; zipf %.2f over %d books, %d borrowers, %d open loans%n%n", options.mix(),
+                options.zipf(), options.books(), options.borrowers(), fixture.loans().size());
+        LoadReport report = new LoadGenerator(client, baseUrl, options, fixture).run();
+        report.print(System.out, options.duration());
+    }
+}
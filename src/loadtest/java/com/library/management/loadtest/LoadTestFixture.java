@@ -0,0 +1,148 @@
+package com.library.management.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * The books and borrowers a load test draws from, and the loans already open on them.
+ * <p>
+ * Load-test books have the ISBNs {@code LOAD-B1}, {@code LOAD-B2} and so on, one copy each. Missing ones are
+ * added through {@code POST /book/import}, so that the application's caches and indexes see them as they would
+ * see real books. Borrowers have no bulk endpoint and are inserted with SQL; their emails end in
+ * {@value #BORROWER_DOMAIN}. Both are kept between runs, and the requests of a run only add books and
+ * borrowers under other names, so every run against the same database draws from the same rows.
+ * </p>
+ *
+ * <p>
+ * Book IDs are shuffled with the seed before being ranked, so that the hot books are spread over the table
+ * rather than being its first rows.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class LoadTestFixture {
+
+    static final String BOOK_ISBN_PREFIX = "LOAD-B";
+
+    static final String BORROWER_DOMAIN = "@seed.loadtest.invalid";
+
+    private static final String ACTIVE_LOANS = "select l.book_id, l.borrower_id from ledger_active a "
+            + "join ledger l on l.id = a.ledger_id and l.created_date = a.created_date "
+            + "union all "
+            + "select book_id, borrower_id from (select distinct on (book_id) book_id, borrower_id, status "
+            + "from ledger_event order by book_id, id desc) e where status = 'BORROWED'";
+
+    private final long[] bookIds;
+
+    private final long[] borrowerIds;
+
+    private final Map<Long, Long> loans;
+
+    private LoadTestFixture(long[] bookIds, long[] borrowerIds, Map<Long, Long> loans) {
+        this.bookIds = bookIds;
+        this.borrowerIds = borrowerIds;
+        this.loans = loans;
+    }
+
+    /**
+     * Adds the missing books and borrowers and reads their IDs and open loans.
+     *
+     * @param client  the HTTP client of the load test
+     * @param baseUrl the root URL of the application
+     * @param jdbc    the database of the application
+     * @param options the options of the run
+     * @return the fixture of the run
+     */
+    static LoadTestFixture prepare(HttpClient client, String baseUrl, JdbcTemplate jdbc, LoadTestOptions options)
+            throws IOException, InterruptedException {
+        int books = jdbc.queryForObject("select count(*) from book where isbn_no like ?", Integer.class,
+                BOOK_ISBN_PREFIX + "%");
+        if (books < options.books()) {
+            importBooks(client, baseUrl, books + 1, options.books());
+        }
+        int borrowers = jdbc.queryForObject("select count(*) from borrower where email like ?", Integer.class,
+                "%" + BORROWER_DOMAIN);
+        if (borrowers < options.borrowers()) {
+            jdbc.update("insert into borrower (id, name, email, created_date, updated_date) "
+                    + "select nextval('borrower_seq'), 'Load borrower ' || i, 'load' || i || ?, now(), now() "
+                    + "from generate_series(?, ?) i", BORROWER_DOMAIN, borrowers + 1, options.borrowers());
+        }
+
+        List<Long> bookIds = jdbc.queryForList("select id from book where isbn_no like ? order by id limit ?",
+                Long.class, BOOK_ISBN_PREFIX + "%", options.books());
+        List<Long> borrowerIds = jdbc.queryForList(
+                "select id from borrower where email like ? order by id limit ?", Long.class,
+                "%" + BORROWER_DOMAIN, options.borrowers());
+        if (bookIds.size() < options.books() || borrowerIds.size() < options.borrowers()) {
+            throw new IllegalStateException("Found " + bookIds.size() + " books and " + borrowerIds.size()
+                    + " borrowers after seeding; was the import rejected?");
+        }
+        Map<Long, Long> loans = new ConcurrentHashMap<>();
+        jdbc.query(ACTIVE_LOANS, row -> {
+            loans.put(row.getLong(1), row.getLong(2));
+        });
+        return new LoadTestFixture(shuffle(bookIds, options.seed()),
+                borrowerIds.stream().mapToLong(Long::longValue).toArray(), loans);
+    }
+
+    private static void importBooks(HttpClient client, String baseUrl, int from, int to)
+            throws IOException, InterruptedException {
+        String csv = IntStream.rangeClosed(from, to)
+                .mapToObj(i -> BOOK_ISBN_PREFIX + i + ",Load test title " + i + ",Load test author " + i % 1000)
+                .collect(Collectors.joining("\n", "isbnNo,title,author\n", "\n"));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/book/import"))
+                .header("Content-Type", "text/csv")
+                .timeout(Duration.ofMinutes(10))
+                .POST(HttpRequest.BodyPublishers.ofString(csv))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Importing the load-test books returned " + response.statusCode()
+                    + ": " + response.body());
+        }
+    }
+
+    private static long[] shuffle(List<Long> ids, long seed) {
+        long[] shuffled = ids.stream().mapToLong(Long::longValue).toArray();
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = shuffled.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long swap = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = swap;
+        }
+        return shuffled;
+    }
+
+    /**
+     * Returns the ID of the book of the given popularity rank.
+     */
+    long book(int rank) {
+        return bookIds[rank];
+    }
+
+    long randomBorrower(SplittableRandom random) {
+        return borrowerIds[random.nextInt(borrowerIds.length)];
+    }
+
+    /**
+     * Returns the open loans by book ID, with their borrower; updated as the run borrows and returns.
+     */
+    Map<Long, Long> loans() {
+        return loans;
+    }
+}
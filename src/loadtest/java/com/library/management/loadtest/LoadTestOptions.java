@@ -0,0 +1,122 @@
+package com.library.management.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The options of a load test run, parsed from {@code --name=value} arguments.
+ *
+ * @param embedded    whether to start the application on an embedded PostgreSQL server in this JVM
+ * @param appArgs     extra arguments of the embedded application, such as {@code --ledger.mode=write-behind}
+ * @param target      the root URL of a running application, including the context path
+ * @param jdbcUrl     the database of the running application, to seed borrowers and find the book IDs
+ * @param jdbcUser    the database user
+ * @param jdbcPass    the database password
+ * @param rate        the requests offered per second
+ * @param poisson     whether arrivals are spaced randomly, as independent users are, or evenly
+ * @param duration    how long the measured phase lasts
+ * @param warmup      how long requests are sent before measuring
+ * @param mix         the share of each operation
+ * @param books       how many load-test books the requests draw from
+ * @param borrowers   how many load-test borrowers the requests draw from
+ * @param zipf        the exponent of the hot-book distribution; 0 for uniform
+ * @param pageSize    the page size of the book listings
+ * @param maxInFlight the most requests waiting for a response; further arrivals are dropped and counted
+ * @param timeout     how long a request may take before it counts as a timeout
+ * @param seed        the seed of the random choices, so that runs can be repeated
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+record LoadTestOptions(boolean embedded, List<String> appArgs, String target, String jdbcUrl, String jdbcUser,
+                       String jdbcPass, double rate, boolean poisson, Duration duration, Duration warmup,
+                       OperationMix mix, int books, int borrowers, double zipf, int pageSize, int maxInFlight,
+                       Duration timeout, long seed) {
+
+    static final String USAGE = """
+            Options, with their defaults:
+              --embedded                   start the application on an embedded PostgreSQL server in this JVM
+              --app-arg=<arg>              argument of the embedded application, repeatable
+              --target=http://localhost:8000/lib-management
+                                           running application to load, when not embedded
+              --jdbc-url=jdbc:postgresql://localhost:5432/library-service
+              --jdbc-user=postgres
+              --jdbc-password=root         its database, to seed borrowers and find the book IDs
+              --rate=200                   requests offered per second
+              --arrivals=poisson           poisson or uniform spacing of the requests
+              --duration=60s               length of the measured phase
+              --warmup=10s                 length of the unmeasured phase before it
+              --mix=list:40,borrow:25,return:25,add-book:5,add-borrower:5
+                                           relative weight of each operation
+              --books=10000                load-test books to draw from, imported if missing
+              --borrowers=1000             load-test borrowers to draw from, inserted if missing
+              --zipf=1.0                   hot-book skew; 0 draws books uniformly
+              --page-size=20               page size of the book listings
+              --max-in-flight=5000         requests awaiting a response before arrivals are dropped
+              --timeout=10s                time after which a request counts as timed out
+              --seed=42                    seed of the random choices
+            """;
+
+    static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>();
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument " + arg);
+            }
+            int equals = arg.indexOf('=');
+            String name = equals < 0 ? arg.substring(2) : arg.substring(2, equals);
+            String value = equals < 0 ? "true" : arg.substring(equals + 1);
+            if (name.equals("app-arg")) {
+                appArgs.add(value);
+            } else {
+                values.put(name, value);
+            }
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Boolean.parseBoolean(values.remove("embedded")),
+                List.copyOf(appArgs),
+                values.getOrDefault("target", "http://localhost:8000/lib-management").replaceAll("/+$", ""),
+                values.getOrDefault("jdbc-url", "jdbc:postgresql://localhost:5432/library-service"),
+                values.getOrDefault("jdbc-user", "postgres"),
+                values.getOrDefault("jdbc-password", "root"),
+                Double.parseDouble(values.getOrDefault("rate", "200")),
+                arrivals(values.getOrDefault("arrivals", "poisson")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+                OperationMix.parse(values.getOrDefault("mix",
+                        "list:40,borrow:25,return:25,add-book:5,add-borrower:5")),
+                Integer.parseInt(values.getOrDefault("books", "10000")),
+                Integer.parseInt(values.getOrDefault("borrowers", "1000")),
+                Double.parseDouble(values.getOrDefault("zipf", "1.0")),
+                Integer.parseInt(values.getOrDefault("page-size", "20")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "5000")),
+                DurationStyle.detectAndParse(values.getOrDefault("timeout", "10s")),
+                Long.parseLong(values.getOrDefault("seed", "42")));
+        values.keySet().removeAll(List.of("target", "jdbc-url", "jdbc-user", "jdbc-password", "rate", "arrivals",
+                "duration", "warmup", "mix", "books", "borrowers", "zipf", "page-size", "max-in-flight", "timeout",
+                "seed"));
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options " + values.keySet());
+        }
+        if (options.rate <= 0 || options.books < 1 || options.borrowers < 1 || options.zipf < 0
+                || options.pageSize < 1 || options.maxInFlight < 1) {
+            throw new IllegalArgumentException("rate, books, borrowers, page-size and max-in-flight must be "
+                    + "positive and zipf must not be negative");
+        }
+        return options;
+    }
+
+    private static boolean arrivals(String arrivals) {
+        return switch (arrivals) {
+            case "poisson" -> true;
+            case "uniform" -> false;
+            default -> throw new IllegalArgumentException("Unknown arrivals " + arrivals);
+        };
+    }
+}
@@ -0,0 +1,55 @@
+package com.library.management.loadtest;
+
+/**
+ * The requests the load generator sends, named as in {@code --mix}.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+enum Operation {
+
+    /**
+     * {@code POST /book/add} of a copy of a new ISBN.
+     */
+    ADD_BOOK("add-book"),
+
+    /**
+     * {@code GET /book/} of a random page.
+     */
+    LIST_BOOKS("list"),
+
+    /**
+     * {@code POST /book/borrow} of a book drawn from the hot-book distribution, by a random borrower.
+     */
+    BORROW("borrow"),
+
+    /**
+     * {@code POST /book/return} of a hot book on loan, by the borrower it was lent to.
+     */
+    RETURN("return"),
+
+    /**
+     * {@code POST /borrower/add} of a new borrower.
+     */
+    ADD_BORROWER("add-borrower");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation " + key + " in the mix");
+    }
+}
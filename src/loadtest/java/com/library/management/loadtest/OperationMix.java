@@ -0,0 +1,81 @@
+package com.library.management.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+
+/**
+ * The share of each {@link Operation} in the offered load, parsed from a list such as
+ * {@code list:40,borrow:25,return:25,add-book:5,add-borrower:5}.
+ * <p>
+ * Weights are relative and need not add up to 100; operations left out are not sent.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+final class OperationMix {
+
+    private final Map<Operation, Integer> weights;
+
+    private final Operation[] operations;
+
+    private final int[] cumulative;
+
+    private OperationMix(Map<Operation, Integer> weights) {
+        this.weights = weights;
+        this.operations = weights.keySet().toArray(Operation[]::new);
+        this.cumulative = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += weights.get(operations[i]);
+            cumulative[i] = total;
+        }
+    }
+
+    static OperationMix parse(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected operation:weight in the mix, got " + entry);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative weight in the mix: " + entry);
+            }
+            if (weight > 0) {
+                weights.merge(Operation.fromKey(parts[0].trim()), weight, Integer::sum);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("The mix has no operation with a positive weight");
+        }
+        return new OperationMix(weights);
+    }
+
+    /**
+     * Draws the operation of the next request.
+     *
+     * @param random the generator's random source
+     * @return an operation, with a probability proportional to its weight
+     */
+    Operation next(SplittableRandom random) {
+        int value = random.nextInt(cumulative[cumulative.length - 1]);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (value < cumulative[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+
+    @Override
+    public String toString() {
+        return weights.entrySet().stream()
+                .map(entry -> entry.getKey().key() + ":" + entry.getValue())
+                .collect(Collectors.joining(","));
+    }
+}
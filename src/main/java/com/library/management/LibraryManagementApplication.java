@@ -1,16 +1,13 @@
 package com.library.management;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.convention.MatchingStrategies;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Library Management System Spring Boot application.
  * <p>
- * This class is responsible for bootstrapping the Spring Boot context and initializing
- * application-wide beans such as {@link ModelMapper}.
+ * This class is responsible for bootstrapping the Spring Boot context.
  * </p>
  *
  * <p>
@@ -18,11 +15,16 @@ import org.springframework.context.annotation.Bean;
  * through a RESTful API using Spring Boot and JPA.
  * </p>
  *
+ * <p>
+ * Scheduling is enabled for background maintenance such as rebuilding the catalog suggestions.
+ * </p>
+ *
  * @author Chandru
  * @version 1.0
  * @since 2025-05-19
  */
 @SpringBootApplication
+@EnableScheduling
 public class LibraryManagementApplication {
 
     /**
@@ -33,19 +35,4 @@ public class LibraryManagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(LibraryManagementApplication.class, args);
     }
-
-    /**
-     * Configures and returns a {@link ModelMapper} bean with strict matching strategy.
-     * <p>
-     * This bean is used to map between DTOs and entities throughout the application.
-     * </p>
-     *
-     * @return a configured {@link ModelMapper} instance
-     */
-    @Bean
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setMatchingStrategy(MatchingStrategies.STRICT);
-        return modelMapper;
-    }
 }
@@ -0,0 +1,42 @@
+package com.library.management.archive;
+
+import java.sql.Timestamp;
+import java.util.Date;
+
+/**
+ * A returned ledger entry as stored in the archive.
+ * <p>
+ * Timestamps are kept as microseconds since the epoch, the precision of the {@code timestamp(6)} columns.
+ * </p>
+ *
+ * @param id            the ID of the ledger entry
+ * @param bookId        the ID of the borrowed book
+ * @param borrowerId    the ID of the borrower
+ * @param createdMicros when the book was borrowed
+ * @param updatedMicros when the book was returned
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record ArchivedLoan(long id, long bookId, long borrowerId, long createdMicros, long updatedMicros) {
+
+    /**
+     * Converts a JDBC timestamp to microseconds since the epoch.
+     *
+     * @param timestamp the timestamp
+     * @return the microseconds since the epoch
+     */
+    public static long toMicros(Timestamp timestamp) {
+        return Math.floorDiv(timestamp.getTime(), 1000) * 1_000_000 + timestamp.getNanos() / 1000;
+    }
+
+    /**
+     * Converts microseconds since the epoch to a date, truncated to milliseconds.
+     *
+     * @param micros the microseconds since the epoch
+     * @return the date
+     */
+    public static Date toDate(long micros) {
+        return new Date(Math.floorDiv(micros, 1000));
+    }
+}
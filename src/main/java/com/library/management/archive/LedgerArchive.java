@@ -0,0 +1,164 @@
+package com.library.management.archive;
+
+import com.library.management.repository.LedgerArchiveRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Append-only store of archived loans, kept as {@link LedgerSegment} files in
+ * {@code ledger.archive.directory}.
+ * <p>
+ * A segment is first staged on disk, then committed by the archiver together with the delete of its rows
+ * from the {@code ledger} table, and only then published to queries. At startup, segment files that were
+ * never committed are removed, so a crash between staging and commit neither loses nor duplicates loans.
+ * </p>
+ *
+ * <p>
+ * Queries read the mapped segments only and never touch the database; segments and blocks whose book and
+ * date ranges cannot match are skipped without being decoded.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class LedgerArchive {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerArchive.class);
+
+    /**
+     * Most recently borrowed loans first, by ID among loans borrowed at the same time.
+     */
+    private static final Comparator<ArchivedLoan> NEWEST_FIRST = Comparator
+            .comparingLong(ArchivedLoan::createdMicros)
+            .thenComparingLong(ArchivedLoan::id)
+            .reversed();
+
+    @Autowired
+    private LedgerArchiveRepository ledgerArchiveRepository;
+
+    @Value("${ledger.archive.directory:archive/ledger}")
+    private Path directory;
+
+    private final List<LedgerSegment> segments = new CopyOnWriteArrayList<>();
+
+    /**
+     * Maps the committed segments and removes the files left behind by uncommitted ones.
+     *
+     * @throws IOException if the archive directory cannot be read
+     */
+    @PostConstruct
+    public void load() throws IOException {
+        Files.createDirectories(directory);
+        Set<String> committed = new HashSet<>(ledgerArchiveRepository.findSegmentNames());
+        List<LedgerSegment> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (committed.remove(name)) {
+                    try {
+                        loaded.add(LedgerSegment.open(file));
+                    } catch (IOException e) {
+                        log.error("Could not open archive segment {}, its loans are not queryable", file, e);
+                    }
+                } else if (name.endsWith(LedgerSegment.EXTENSION) || name.endsWith(".tmp")) {
+                    log.warn("Removing uncommitted archive segment {}", file);
+                    Files.delete(file);
+                }
+            }
+        }
+        for (String missing : committed) {
+            log.error("Archive segment {} is committed but missing from {}", missing, directory);
+        }
+        segments.clear();
+        segments.addAll(loaded);
+    }
+
+    /**
+     * Writes the given loans as a new segment, not yet visible to queries.
+     *
+     * @param loans the loans to archive
+     * @return the staged segment
+     * @throws IOException if the segment cannot be written
+     */
+    public LedgerSegment stage(List<ArchivedLoan> loans) throws IOException {
+        long firstId = loans.stream().mapToLong(ArchivedLoan::id).min().orElseThrow();
+        // Ledger IDs are never reused, so the smallest one names the segment uniquely
+        String name = String.format("ledger-%019d%s", firstId, LedgerSegment.EXTENSION);
+        return LedgerSegment.write(directory.resolve(name), loans);
+    }
+
+    /**
+     * Makes a committed segment visible to queries.
+     *
+     * @param segment the committed segment
+     */
+    public void publish(LedgerSegment segment) {
+        segments.add(segment);
+    }
+
+    /**
+     * Removes a staged segment whose commit failed.
+     *
+     * @param segment the staged segment
+     */
+    public void discard(LedgerSegment segment) {
+        try {
+            Files.deleteIfExists(segment.getPath());
+        } catch (IOException e) {
+            // Removed at the next startup instead
+            log.warn("Could not remove uncommitted archive segment {}", segment.getPath(), e);
+        }
+    }
+
+    /**
+     * Finds archived loans, most recently borrowed first.
+     *
+     * @param bookId     the book to look for, or {@code null} for all books
+     * @param fromMicros the earliest borrow date, inclusive
+     * @param toMicros   the latest borrow date, exclusive
+     * @param limit      the maximum number of loans to return
+     * @return the matching loans, most recently borrowed first
+     */
+    public List<ArchivedLoan> find(Long bookId, long fromMicros, long toMicros, int limit) {
+        // Keeps the newest loans seen so far, with the oldest of them at the head
+        PriorityQueue<ArchivedLoan> newest = new PriorityQueue<>(limit + 1, NEWEST_FIRST.reversed());
+        for (LedgerSegment segment : segments) {
+            segment.scan(bookId, fromMicros, toMicros, loan -> {
+                newest.add(loan);
+                if (newest.size() > limit) {
+                    newest.poll();
+                }
+            });
+        }
+        List<ArchivedLoan> result = new ArrayList<>(newest);
+        result.sort(NEWEST_FIRST);
+        return result;
+    }
+
+    /**
+     * Returns the number of segments visible to queries.
+     *
+     * @return the number of published segments
+     */
+    public int segmentCount() {
+        return segments.size();
+    }
+}
@@ -0,0 +1,324 @@
+package com.library.management.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * An immutable, memory-mapped file of archived loans.
+ * <p>
+ * The loans are sorted by book ID and borrow date and split into blocks of {@link #BLOCK_SIZE} rows. Each
+ * block stores its five columns one after the other, every column as zigzag varint deltas from the previous
+ * row (the return date as a delta from the borrow date), so sorted book IDs and dates mostly take one or two
+ * bytes. A footer at the end of the file keeps the book ID and borrow date range of every block, which lets
+ * a scan skip whole segments and blocks without reading them.
+ * </p>
+ *
+ * <pre>
+ * int magic | block* | footer: int blockCount, (int rows, long minBookId, long maxBookId,
+ *     long minCreated, long maxCreated, int[5] columnOffsets)* | long footerOffset | int magic
+ * </pre>
+ *
+ * <p>
+ * Reads use absolute positions on the shared mapping, so a segment can be scanned by many threads at once.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LedgerSegment {
+
+    /**
+     * Maximum number of rows per block, the unit of pruning and decoding.
+     */
+    public static final int BLOCK_SIZE = 4096;
+
+    /**
+     * File name extension of committed segments.
+     */
+    public static final String EXTENSION = ".seg";
+
+    private static final int MAGIC = 0x4C474131;
+
+    private static final int COLUMNS = 5;
+
+    private static final int BOOK_ID = 0;
+    private static final int CREATED = 1;
+    private static final int ID = 2;
+    private static final int BORROWER_ID = 3;
+    private static final int RETURNED_AFTER = 4;
+
+    private static final Comparator<ArchivedLoan> ORDER = Comparator.comparingLong(ArchivedLoan::bookId)
+            .thenComparingLong(ArchivedLoan::createdMicros)
+            .thenComparingLong(ArchivedLoan::id);
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final Block[] blocks;
+    private final int rowCount;
+    private final long minBookId;
+    private final long maxBookId;
+    private final long minCreated;
+    private final long maxCreated;
+
+    private LedgerSegment(Path path, ByteBuffer buffer, Block[] blocks) {
+        this.path = path;
+        this.buffer = buffer;
+        this.blocks = blocks;
+        int rows = 0;
+        long minBook = Long.MAX_VALUE;
+        long maxBook = Long.MIN_VALUE;
+        long minDate = Long.MAX_VALUE;
+        long maxDate = Long.MIN_VALUE;
+        for (Block block : blocks) {
+            rows += block.rows();
+            minBook = Math.min(minBook, block.minBookId());
+            maxBook = Math.max(maxBook, block.maxBookId());
+            minDate = Math.min(minDate, block.minCreated());
+            maxDate = Math.max(maxDate, block.maxCreated());
+        }
+        this.rowCount = rows;
+        this.minBookId = minBook;
+        this.maxBookId = maxBook;
+        this.minCreated = minDate;
+        this.maxCreated = maxDate;
+    }
+
+    /**
+     * Writes the given loans as a new segment and maps it.
+     * <p>
+     * The file is written under a temporary name, forced to disk and then atomically renamed, so a crash
+     * never leaves a partial segment under its final name.
+     * </p>
+     *
+     * @param path  the path of the segment to create
+     * @param loans the loans to store, in any order; must not be empty
+     * @return the mapped segment
+     * @throws IOException if the file cannot be written
+     */
+    public static LedgerSegment write(Path path, List<ArchivedLoan> loans) throws IOException {
+        if (loans.isEmpty()) {
+            throw new IllegalArgumentException("A segment must hold at least one loan");
+        }
+        List<ArchivedLoan> sorted = new ArrayList<>(loans);
+        sorted.sort(ORDER);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(sorted.size() * 12);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        List<int[]> offsets = new ArrayList<>();
+        for (int start = 0; start < sorted.size(); start += BLOCK_SIZE) {
+            List<ArchivedLoan> block = sorted.subList(start, Math.min(start + BLOCK_SIZE, sorted.size()));
+            int[] columnOffsets = new int[COLUMNS];
+            for (int column = 0; column < COLUMNS; column++) {
+                columnOffsets[column] = out.size();
+                long previous = 0;
+                for (ArchivedLoan loan : block) {
+                    long value = value(loan, column);
+                    writeVarLong(out, column == RETURNED_AFTER ? value : value - previous);
+                    previous = value;
+                }
+            }
+            offsets.add(columnOffsets);
+        }
+
+        long footerOffset = out.size();
+        out.writeInt(offsets.size());
+        for (int i = 0; i < offsets.size(); i++) {
+            List<ArchivedLoan> block = sorted.subList(i * BLOCK_SIZE, Math.min((i + 1) * BLOCK_SIZE, sorted.size()));
+            out.writeInt(block.size());
+            out.writeLong(block.get(0).bookId());
+            out.writeLong(block.get(block.size() - 1).bookId());
+            out.writeLong(block.stream().mapToLong(ArchivedLoan::createdMicros).min().getAsLong());
+            out.writeLong(block.stream().mapToLong(ArchivedLoan::createdMicros).max().getAsLong());
+            for (int offset : offsets.get(i)) {
+                out.writeInt(offset);
+            }
+        }
+        out.writeLong(footerOffset);
+        out.writeInt(MAGIC);
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer content = ByteBuffer.wrap(bytes.toByteArray());
+            while (content.hasRemaining()) {
+                channel.write(content);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        return open(path);
+    }
+
+    /**
+     * Maps an existing segment and reads its footer.
+     *
+     * @param path the path of the segment
+     * @return the mapped segment
+     * @throws IOException if the file cannot be read or is not a segment
+     */
+    public static LedgerSegment open(Path path) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 16 || size > Integer.MAX_VALUE) {
+                throw new IOException("Not a ledger archive segment: " + path);
+            }
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        int size = buffer.capacity();
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(size - 4) != MAGIC) {
+            throw new IOException("Not a ledger archive segment: " + path);
+        }
+        int position = (int) buffer.getLong(size - 12);
+        Block[] blocks = new Block[buffer.getInt(position)];
+        position += 4;
+        for (int i = 0; i < blocks.length; i++) {
+            int rows = buffer.getInt(position);
+            long minBook = buffer.getLong(position + 4);
+            long maxBook = buffer.getLong(position + 12);
+            long minDate = buffer.getLong(position + 20);
+            long maxDate = buffer.getLong(position + 28);
+            position += 36;
+            int[] columnOffsets = new int[COLUMNS];
+            for (int column = 0; column < COLUMNS; column++) {
+                columnOffsets[column] = buffer.getInt(position);
+                position += 4;
+            }
+            blocks[i] = new Block(rows, minBook, maxBook, minDate, maxDate, columnOffsets);
+        }
+        return new LedgerSegment(path, buffer, blocks);
+    }
+
+    /**
+     * Checks from the footer alone whether the segment may hold matching loans.
+     *
+     * @param bookId     the book to look for, or {@code null} for all books
+     * @param fromMicros the earliest borrow date, inclusive
+     * @param toMicros   the latest borrow date, exclusive
+     * @return {@code false} if the segment certainly holds no matching loan
+     */
+    public boolean mayContain(Long bookId, long fromMicros, long toMicros) {
+        return (bookId == null || (bookId >= minBookId && bookId <= maxBookId))
+                && maxCreated >= fromMicros && minCreated < toMicros;
+    }
+
+    /**
+     * Passes the matching loans to the consumer, decoding only the blocks whose range matches.
+     *
+     * @param bookId     the book to look for, or {@code null} for all books
+     * @param fromMicros the earliest borrow date, inclusive
+     * @param toMicros   the latest borrow date, exclusive
+     * @param consumer   receives the matching loans, by book ID and borrow date
+     */
+    public void scan(Long bookId, long fromMicros, long toMicros, Consumer<ArchivedLoan> consumer) {
+        if (!mayContain(bookId, fromMicros, toMicros)) {
+            return;
+        }
+        long[][] columns = null;
+        for (Block block : blocks) {
+            if ((bookId != null && (bookId < block.minBookId() || bookId > block.maxBookId()))
+                    || block.maxCreated() < fromMicros || block.minCreated() >= toMicros) {
+                continue;
+            }
+            if (columns == null) {
+                columns = new long[COLUMNS][BLOCK_SIZE];
+            }
+            for (int column = 0; column < COLUMNS; column++) {
+                readColumn(block.columnOffsets()[column], block.rows(), column != RETURNED_AFTER, columns[column]);
+            }
+            for (int row = 0; row < block.rows(); row++) {
+                long book = columns[BOOK_ID][row];
+                if (bookId != null && book != bookId) {
+                    if (book > bookId) {
+                        break;
+                    }
+                    continue;
+                }
+                long created = columns[CREATED][row];
+                if (created >= fromMicros && created < toMicros) {
+                    consumer.accept(new ArchivedLoan(columns[ID][row], book, columns[BORROWER_ID][row], created,
+                            created + columns[RETURNED_AFTER][row]));
+                }
+            }
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public long getMinBookId() {
+        return minBookId;
+    }
+
+    public long getMaxBookId() {
+        return maxBookId;
+    }
+
+    public long getMinCreated() {
+        return minCreated;
+    }
+
+    public long getMaxCreated() {
+        return maxCreated;
+    }
+
+    private void readColumn(int offset, int rows, boolean deltas, long[] target) {
+        int position = offset;
+        long previous = 0;
+        for (int row = 0; row < rows; row++) {
+            long raw = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = buffer.get(position++);
+                raw |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            long value = (raw >>> 1) ^ -(raw & 1);
+            previous = deltas ? previous + value : value;
+            target[row] = previous;
+        }
+    }
+
+    private static long value(ArchivedLoan loan, int column) {
+        return switch (column) {
+            case BOOK_ID -> loan.bookId();
+            case CREATED -> loan.createdMicros();
+            case ID -> loan.id();
+            case BORROWER_ID -> loan.borrowerId();
+            default -> loan.updatedMicros() - loan.createdMicros();
+        };
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out.write((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        out.write((int) zigzag);
+    }
+
+    private record Block(int rows, long minBookId, long maxBookId, long minCreated, long maxCreated,
+                         int[] columnOffsets) {
+    }
+}
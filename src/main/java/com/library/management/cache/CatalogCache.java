@@ -0,0 +1,264 @@
+package com.library.management.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.library.management.dto.BookDTO;
+import com.library.management.dto.CatalogCacheStatsDTO;
+import com.library.management.mapper.BookMapper;
+import com.library.management.model.Book;
+import com.library.management.repository.BookRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded read-through cache in front of the {@link BookRepository} lookups by ID and by ISBN.
+ * <p>
+ * Books are never updated once saved, so an entry only goes stale when a new copy is added to its ISBN.
+ * {@link #evictIsbn(String)} drops exactly that ISBN's entry once the adding transaction commits; entries
+ * by ID are never invalidated and only leave the cache through eviction or expiry. Lookups that find
+ * nothing are not cached, so a book becomes visible as soon as it is saved.
+ * </p>
+ * <p>
+ * A miss is loaded inside the cache's atomic {@code get}, so invalidating a key waits for a load of that key
+ * in flight. A list read before the adding transaction committed is therefore dropped by the invalidation
+ * after the commit instead of being put back and served until it expires.
+ * </p>
+ * <p>
+ * Entries are weighed by an estimate of their heap footprint and the cache is bounded by
+ * {@code catalog.cache.max-bytes}; the least valuable entries are evicted first once the budget is
+ * reached. Every entry also expires {@code catalog.cache.ttl} after it was loaded.
+ * </p>
+ * <p>
+ * The cache statistics are published as the {@code cache.*} meters tagged {@code cache=catalog}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@Component
+public class CatalogCache implements MeterBinder {
+
+    /**
+     * Approximate bytes taken by the cache's own bookkeeping for one entry, including the key.
+     */
+    private static final int ENTRY_OVERHEAD = 112;
+
+    /**
+     * Approximate bytes taken by a {@link BookDTO} and its boxed ID and version, without its strings.
+     */
+    private static final int BOOK_OVERHEAD = 72;
+
+    /**
+     * Approximate bytes taken by a {@link String} without its characters.
+     */
+    private static final int STRING_OVERHEAD = 40;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private BookMapper bookMapper;
+
+    private final long maxBytes;
+
+    /**
+     * Holds {@link BookDTO} values under {@link Long} ID keys and lists of copies under {@link String}
+     * ISBN keys, so both kinds of entry share one heap budget.
+     */
+    private final Cache<Object, Object> cache;
+
+    /**
+     * Creates the cache with the configured heap budget and time to live.
+     *
+     * @param maxBytes the approximate heap budget of the cache, in bytes
+     * @param ttl      how long an entry is served after it was loaded
+     */
+    public CatalogCache(@Value("${catalog.cache.max-bytes:67108864}") long maxBytes,
+                        @Value("${catalog.cache.ttl:10m}") Duration ttl) {
+        this.maxBytes = maxBytes;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(CatalogCache::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Registers the hit, miss, eviction and size meters of the cache.
+     *
+     * @param registry the registry to publish the meters to
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "catalog");
+    }
+
+    /**
+     * Looks up a book by ID, loading it from the database on a miss.
+     *
+     * @param id the ID of the book
+     * @return the book, or an empty {@link Optional} if there is no book with this ID
+     */
+    public Optional<BookDTO> findById(Long id) {
+        Object book = cache.get(id, key -> bookRepository.findById(id).map(bookMapper::toDTO).orElse(null));
+        return Optional.ofNullable((BookDTO) book);
+    }
+
+    /**
+     * Looks up several books by ID, loading all the missing ones from the database in one query.
+     *
+     * @param ids the IDs of the books
+     * @return the books that exist, in the order of {@code ids}
+     */
+    public List<BookDTO> findAllById(List<Long> ids) {
+        Map<Object, Object> found = new HashMap<>(cache.getAllPresent(ids));
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            if (!found.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Book book : bookRepository.findAllById(missing)) {
+                BookDTO dto = bookMapper.toDTO(book);
+                cache.put(book.getId(), dto);
+                found.put(book.getId(), dto);
+            }
+        }
+        List<BookDTO> books = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            BookDTO book = (BookDTO) found.get(id);
+            if (book != null) {
+                books.add(book);
+            }
+        }
+        return books;
+    }
+
+    /**
+     * Looks up all copies of an ISBN, loading them from the database on a miss.
+     *
+     * @param isbnNo the ISBN of the book
+     * @return the copies of the book, or an empty list if the ISBN is unknown
+     */
+    @SuppressWarnings("unchecked")
+    public List<BookDTO> findByIsbnNo(String isbnNo) {
+        boolean[] loaded = new boolean[1];
+        List<BookDTO> copies = (List<BookDTO>) cache.get(isbnNo, key -> {
+            loaded[0] = true;
+            List<BookDTO> found = bookRepository.findByIsbnNo(isbnNo).stream().map(bookMapper::toDTO).toList();
+            return found.isEmpty() ? null : found;
+        });
+        if (copies == null) {
+            return List.of();
+        }
+        if (loaded[0]) {
+            // other keys cannot be written from inside the load, so the copies are cached by ID afterwards
+            for (BookDTO copy : copies) {
+                cache.put(copy.getId(), copy);
+            }
+        }
+        return copies;
+    }
+
+    /**
+     * Drops the cached copies of an ISBN after a copy was added to it.
+     * <p>
+     * Inside a transaction the entry is dropped once the transaction commits. Dropping it waits for a
+     * concurrent lookup that is still loading the list, so the list from before the commit does not stay
+     * in the cache.
+     * </p>
+     *
+     * @param isbnNo the ISBN a copy was added to
+     */
+    public void evictIsbn(String isbnNo) {
+        evictIsbns(List.of(isbnNo));
+    }
+
+    /**
+     * Drops the cached copies of several ISBNs after copies were added to them.
+     *
+     * @param isbnNos the ISBNs copies were added to
+     * @see #evictIsbn(String)
+     */
+    public void evictIsbns(Collection<String> isbnNos) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidateAll(isbnNos);
+            return;
+        }
+        List<String> keys = List.copyOf(isbnNos);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidateAll(keys);
+            }
+        });
+    }
+
+    /**
+     * Drops every entry, for when the books may have changed without going through this application.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * Returns the hit, miss and eviction counters of the cache and its current size.
+     *
+     * @return a {@link CatalogCacheStatsDTO} snapshot of the cache statistics
+     */
+    public CatalogCacheStatsDTO stats() {
+        // apply pending writes and evictions, which are otherwise accounted for asynchronously
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        long weightedSize = cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+        return new CatalogCacheStatsDTO(stats.hitCount(), stats.missCount(), stats.hitRate(),
+                stats.evictionCount(), cache.estimatedSize(), weightedSize, maxBytes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static int weigh(Object key, Object value) {
+        long weight = ENTRY_OVERHEAD;
+        if (key instanceof String isbnNo) {
+            weight += STRING_OVERHEAD + isbnNo.length();
+        }
+        if (value instanceof BookDTO book) {
+            weight += weigh(book);
+        } else {
+            // copies may outlive their entries by ID, so they are counted in full
+            weight += 16;
+            for (BookDTO book : (List<BookDTO>) value) {
+                weight += 4 + weigh(book);
+            }
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static long weigh(BookDTO book) {
+        return BOOK_OVERHEAD
+                + 3L * STRING_OVERHEAD + length(book.getTitle()) + length(book.getAuthor()) + length(book.getIsbnNo());
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
@@ -0,0 +1,178 @@
+package com.library.management.config;
+
+import com.library.management.dto.BorrowerDTO;
+import com.library.management.exception.ConflictException;
+import com.library.management.repository.BorrowerRepository;
+import com.library.management.service.BookService;
+import com.library.management.service.BorrowerService;
+import com.library.management.service.LedgerService;
+import jakarta.annotation.PostConstruct;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Warms the application up and takes a CRaC checkpoint of it, active with the {@code checkpoint} profile.
+ * <p>
+ * Once the application is ready, {@code checkpoint.warmup.iterations} rounds of a synthetic workload run so
+ * that the JIT compiles the hot paths and the connection pool, Hibernate and Jackson are initialized. Each
+ * round adds a book and a borrower, borrows and returns the book and lists the first page of books through
+ * the services, in a transaction that is rolled back. It then lists books and borrows and returns a missing
+ * book over HTTP, which only reads. The warm-up book is inserted with SQL rather than through JPA: the
+ * pooled-lo optimizer would otherwise carry the same block of book IDs into every instance restored from the
+ * checkpoint.
+ * </p>
+ *
+ * <p>
+ * The checkpoint is then taken with {@link Core#checkpointRestore()}. On a JVM started with
+ * {@code -XX:CRaCCheckpointTo} the process exits once the image is written; restored instances continue from
+ * here, after {@link InMemoryStateLifecycle} has reloaded what changed in the meantime. On a JVM without CRaC
+ * the application keeps running, warmed up. Checkpoints are refused with {@code ledger.mode=write-behind},
+ * whose write-ahead log keeps files open and acknowledged entries in memory.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@Profile("checkpoint & !reactive")
+public class CheckpointWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckpointWarmup.class);
+
+    private static final String INSERT_BOOK =
+            "insert into book (id, isbn_no, title, author, version, created_date, updated_date) "
+                    + "values (nextval('book_seq'), ?, 'Checkpoint warm-up', 'Checkpoint warm-up', 1, now(), now()) "
+                    + "returning id";
+
+    @Autowired
+    private BookService bookService;
+
+    @Autowired
+    private BorrowerService borrowerService;
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    @Autowired
+    private BorrowerRepository borrowerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private InMemoryStateLifecycle inMemoryState;
+
+    @Value("${checkpoint.warmup.iterations:2000}")
+    private int iterations;
+
+    @Value("${ledger.mode:sync}")
+    private String ledgerMode;
+
+    @Value("${server.servlet.context-path:}")
+    private String contextPath;
+
+    /**
+     * Fails the startup before any warm-up in the ledger mode that cannot be checkpointed.
+     */
+    @PostConstruct
+    public void checkLedgerMode() {
+        if ("write-behind".equals(ledgerMode)) {
+            throw new IllegalStateException("The checkpoint profile does not support ledger.mode=write-behind");
+        }
+    }
+
+    /**
+     * Runs the warm-up, reloads the in-memory state it touched and takes the checkpoint.
+     *
+     * @param event the event of the application being ready, to find the port of the web server
+     * @throws IllegalStateException if a warm-up request fails or the checkpoint cannot be taken
+     */
+    @EventListener
+    public void warmUpAndCheckpoint(ApplicationReadyEvent event) throws IOException, InterruptedException {
+        String port = event.getApplicationContext().getEnvironment().getRequiredProperty("local.server.port");
+        long started = System.nanoTime();
+        warmUp("http://localhost:" + port + contextPath);
+        log.info("Warmed up with {} iterations in {} ms", iterations,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        inMemoryState.refresh();
+        try {
+            Core.checkpointRestore();
+            log.info("Restored from the checkpoint");
+        } catch (UnsupportedOperationException e) {
+            log.warn("This JVM does not support CRaC; running on without a checkpoint");
+        } catch (CheckpointException | RestoreException e) {
+            throw new IllegalStateException("Could not checkpoint the application", e);
+        }
+    }
+
+    void warmUp(String baseUrl) throws IOException, InterruptedException {
+        try (HttpClient client = HttpClient.newHttpClient()) {
+            HttpRequest list = HttpRequest.newBuilder(URI.create(baseUrl + "/book/?pageNum=0&pageSize=20"))
+                    .GET().build();
+            HttpRequest borrow = HttpRequest.newBuilder(URI.create(baseUrl + "/book/borrow?bookId=0&borrowerId=0"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            HttpRequest giveBack = HttpRequest.newBuilder(URI.create(baseUrl + "/book/return?bookId=0&borrowerId=0"))
+                    .POST(HttpRequest.BodyPublishers.noBody()).build();
+            for (int i = 0; i < iterations; i++) {
+                runRolledBack(i);
+                send(client, list, 200);
+                send(client, borrow, 409);
+                send(client, giveBack, 409);
+            }
+        }
+    }
+
+    private void runRolledBack(int iteration) {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            try {
+                Long bookId = jdbcTemplate.queryForObject(INSERT_BOOK, Long.class, "WARMUP-" + iteration);
+                BorrowerDTO borrower = new BorrowerDTO();
+                borrower.setName("Checkpoint warm-up " + iteration);
+                borrower.setEmail("warmup" + iteration + "@checkpoint.invalid");
+                borrowerService.addBorrower(borrower);
+                Long borrowerId = borrowerRepository.findByNameAndEmail(borrower.getName(), borrower.getEmail())
+                        .orElseThrow().getId();
+                ledgerService.handleLedger(bookId, borrowerId, true);
+                if (!"event-sourced".equals(ledgerMode)) {
+                    // Events are applied on commit, which never comes here, so the projection would refuse this
+                    ledgerService.handleLedger(bookId, borrowerId, false);
+                }
+                bookService.getBooks(PageRequest.of(0, 20));
+            } catch (ConflictException e) {
+                throw new IllegalStateException("Warm-up iteration " + iteration + " failed", e);
+            }
+        });
+    }
+
+    private static void send(HttpClient client, HttpRequest request, int expectedStatus)
+            throws IOException, InterruptedException {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != expectedStatus) {
+            throw new IllegalStateException("Warm-up request " + request.uri() + " returned " + status);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.library.management.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Limits concurrent database access when requests run on virtual threads.
+ * <p>
+ * Active only with {@code spring.threads.virtual.enabled=true}. The connection pool is wrapped in a
+ * {@link LimitedDataSource} with one permit per pooled connection, so requests beyond the pool size queue
+ * on the limiter for up to {@code datasource.limiter.max-wait} instead of timing out inside the pool. With
+ * platform threads the servlet container's thread pool already bounds concurrency, and the pool is used
+ * directly.
+ * </p>
+ *
+ * <p>
+ * The limiter publishes {@code library.datasource.limiter.waiting} and
+ * {@code library.datasource.limiter.available}.
+ * </p>
+ *
+ * <p>
+ * The limiter hands out JDK proxies of {@link Connection}; {@link LimitedDataSourceHints} declares that proxy
+ * for the native image, which cannot define proxy classes at runtime.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ImportRuntimeHints(DatabaseConcurrencyConfig.LimitedDataSourceHints.class)
+public class DatabaseConcurrencyConfig {
+
+    /**
+     * Wraps the Hikari pool, once configured, in a limiter sized to its maximum pool size.
+     * <p>
+     * Runs just before {@link StatementRecordingConfig}'s post-processor, so that the statement recorder
+     * wraps the limiter and statements are not timed while their thread waits for a permit.
+     * </p>
+     *
+     * @param maxWait how long a request may wait for a connection permit
+     * @return the post-processor wrapping the pool
+     */
+    @Bean
+    static BeanPostProcessor limitedDataSourcePostProcessor(
+            @Value("${datasource.limiter.max-wait:60s}") Duration maxWait) {
+        return new LimitedDataSourcePostProcessor(maxWait);
+    }
+
+    /**
+     * Publishes the queue length and free permits of the limiter.
+     *
+     * @param dataSource the application data source
+     * @return the binder of the limiter meters
+     */
+    @Bean
+    MeterBinder limitedDataSourceMetrics(DataSource dataSource) {
+        return registry -> {
+            LimitedDataSource limiter = DataSourceUnwrapper.unwrap(dataSource, LimitedDataSource.class);
+            if (limiter != null) {
+                Gauge.builder("library.datasource.limiter.waiting", limiter, LimitedDataSource::getWaitingThreads)
+                        .description("Threads waiting for a database connection permit")
+                        .register(registry);
+                Gauge.builder("library.datasource.limiter.available", limiter, LimitedDataSource::getAvailablePermits)
+                        .description("Database connection permits free to take")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static class LimitedDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Duration maxWait;
+
+        LimitedDataSourcePostProcessor(Duration maxWait) {
+            this.maxWait = maxWait;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource pool) {
+                return new LimitedDataSource(pool, pool.getMaximumPoolSize(), maxWait);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return StatementRecordingConfig.POST_PROCESSOR_ORDER - 1;
+        }
+    }
+
+    /**
+     * Registers the {@link Connection} proxy created by {@link LimitedDataSource}.
+     */
+    static class LimitedDataSourceHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.proxies().registerJdkProxy(Connection.class);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.library.management.config;
 
 import com.library.management.dto.ErrorDetailsDTO;
+import com.library.management.exception.BadRequestException;
 import com.library.management.exception.ConflictException;
+import com.library.management.exception.NotFoundException;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -27,14 +31,22 @@ import java.util.stream.Collectors;
  * Using {@link ControllerAdvice}, this class intercepts exceptions thrown from controllers
  * and transforms them into standardized error responses with relevant HTTP status codes.
  * </p>
+ * <p>
+ * The handlers return {@code ResponseEntity<?>}, which does not tell Spring AOT what is serialized, so
+ * {@link ErrorDetailsDTO} is registered for JSON binding explicitly for the native image.
+ * </p>
  *
  * @author Chandru
  * @version 1.0
  * @see ErrorDetailsDTO
  * @see ConflictException
+ * @see BadRequestException
+ * @see NotFoundException
  * @since 2025-05-19
  */
 @ControllerAdvice
+@Profile("!reactive")
+@RegisterReflectionForBinding(ErrorDetailsDTO.class)
 public class ExceptionAdvice {
 
     /**
@@ -54,6 +66,40 @@ public class ExceptionAdvice {
         return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
     }
 
+    /**
+     * Handles {@link BadRequestException} which occurs when a request parameter cannot be
+     * interpreted (e.g., a malformed pagination cursor).
+     * <p>
+     * This handler returns a 400 BAD REQUEST response with details about the invalid parameter.
+     * </p>
+     *
+     * @param ex      The BadRequestException that was thrown
+     * @param request The current web request
+     * @return ResponseEntity containing error details and HTTP status 400 BAD REQUEST
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<?> handleBadRequests(Exception ex, WebRequest request) {
+        ErrorDetailsDTO errorDetails = new ErrorDetailsDTO(new Date(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles {@link NotFoundException} which occurs when a request refers to a record that
+     * does not exist (e.g., an unknown book ID).
+     * <p>
+     * This handler returns a 404 NOT FOUND response with details about the missing record.
+     * </p>
+     *
+     * @param ex      The NotFoundException that was thrown
+     * @param request The current web request
+     * @return ResponseEntity containing error details and HTTP status 404 NOT FOUND
+     */
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<?> handleNotFound(Exception ex, WebRequest request) {
+        ErrorDetailsDTO errorDetails = new ErrorDetailsDTO(new Date(), ex.getMessage(), request.getDescription(false));
+        return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
+    }
+
     /**
      * Handles validation failures for request bodies annotated with {@code @Valid}.
      * <p>
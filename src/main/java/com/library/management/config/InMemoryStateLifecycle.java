@@ -0,0 +1,97 @@
+package com.library.management.config;
+
+import com.library.management.cache.CatalogCache;
+import com.library.management.event.EventSourcedLedger;
+import com.library.management.index.CatalogSearchIndex;
+import com.library.management.index.CatalogSuggester;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reloads the in-memory copies of database state when the application context is restarted, as it is after a
+ * restore from a CRaC checkpoint.
+ * <p>
+ * Spring stops the lifecycle beans before a checkpoint and starts them again after the restore, which may be
+ * days later and on another host. In the meantime other instances have borrowed, returned and added books, so
+ * the event-sourced projection, the catalog cache, the search index and the suggestions are reloaded before the
+ * web server takes requests again. The first start, at boot, does nothing: these are loaded as the beans are
+ * created.
+ * </p>
+ *
+ * <p>
+ * The phase is above that of the connection pool lifecycle, which reopens connections on restore, and far
+ * below that of the web server.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @see CheckpointWarmup
+ * @since 2026-10-17
+ */
+@Component
+public class InMemoryStateLifecycle implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryStateLifecycle.class);
+
+    private static final int PHASE = 1024;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private CatalogSearchIndex searchIndex;
+
+    @Autowired
+    private CatalogSuggester suggester;
+
+    @Autowired(required = false)
+    private EventSourcedLedger eventSourcedLedger;
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+
+    @Override
+    public void start() {
+        if (stopped) {
+            refresh();
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopped = true;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    /**
+     * Reloads the event-sourced active loans, the catalog search index and the suggestions from the database and
+     * empties the catalog cache.
+     */
+    public void refresh() {
+        long started = System.nanoTime();
+        if (eventSourcedLedger != null) {
+            eventSourcedLedger.catchUp();
+        }
+        // The write-behind mode is refused for checkpoints, and the default mode keeps no active loans in memory
+        catalogCache.invalidateAll();
+        searchIndex.load();
+        suggester.rebuild();
+        log.info("Reloaded the in-memory state in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+    }
+}
@@ -0,0 +1,131 @@
+package com.library.management.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@link DataSource} that lets at most as many threads hold a connection as the pool has connections.
+ * <p>
+ * With virtual threads every request gets its own thread, so thousands of threads can ask the pool for a
+ * connection at once; each of them would wait inside the pool and fail after its {@code connection-timeout}.
+ * This data source makes them wait on a fair {@link Semaphore} first instead. A waiting virtual thread is
+ * parked cheaply, threads are served in arrival order, and a thread holding a permit always finds a free
+ * connection in the pool. The permit is returned when the connection is closed.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see DatabaseConcurrencyConfig
+ * @since 2026-10-17
+ */
+public class LimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+
+    private final Duration maxWait;
+
+    /**
+     * Creates the limiter in front of a connection pool.
+     *
+     * @param targetDataSource the connection pool
+     * @param maxConnections   the number of connections of the pool
+     * @param maxWait          how long a thread may wait for a permit before failing
+     */
+    public LimitedDataSource(DataSource targetDataSource, int maxConnections, Duration maxWait) {
+        super(targetDataSource);
+        this.permits = new Semaphore(maxConnections, true);
+        this.maxWait = maxWait;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of threads waiting for a connection permit.
+     *
+     * @return the estimated number of waiting threads
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Returns the number of connections that can be taken without waiting.
+     *
+     * @return the number of free permits
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + maxWait + " waiting for a database connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+        }
+    }
+
+    /**
+     * Wraps the connection so that closing it, once, returns its permit.
+     */
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (isClose(method)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private static boolean isClose(Method method) {
+        return method.getName().equals("close") && method.getParameterCount() == 0;
+    }
+}
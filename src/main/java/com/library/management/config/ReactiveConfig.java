@@ -0,0 +1,117 @@
+package com.library.management.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.config.BlockingExecutionConfigurer;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * Infrastructure of the {@code reactive} profile, which serves borrow and return on WebFlux and R2DBC.
+ * <p>
+ * The web server is Reactor Netty, so requests are handled by a small, fixed set of event-loop threads
+ * (one per core, at least four). Boot would otherwise pick Tomcat, which is also on the class path.
+ * </p>
+ *
+ * <p>
+ * The R2DBC pool is built here rather than by Boot's R2DBC auto-configuration, which is excluded in
+ * {@code application.properties}: a {@code ConnectionFactory} bean would make Boot back off from creating the
+ * JDBC {@code DataSource}, and the catalog and the scheduled jobs still run on JPA.
+ * The pool is therefore deliberately not exposed as a bean; only its {@link DatabaseClient} is.
+ * </p>
+ *
+ * <p>
+ * The catalog and borrower endpoints are served in this profile too, by the same controllers as on the servlet
+ * stack. Their handler methods do not return a reactive type and block on JPA, so WebFlux runs them on the
+ * application task executor instead of an event-loop thread. Boot only sets that up when virtual threads are
+ * enabled; it is configured here so that the profile does not depend on {@code spring.threads.virtual.enabled}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig implements WebFluxConfigurer {
+
+    private final ConnectionPool connectionPool;
+
+    @Autowired
+    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    private AsyncTaskExecutor taskExecutor;
+
+    /**
+     * Creates the R2DBC connection pool.
+     *
+     * @param url      the R2DBC URL of the database, e.g. {@code r2dbc:postgresql://localhost:5432/library-service}
+     * @param username the database user
+     * @param password the password of the database user
+     * @param maxSize  the maximum number of pooled connections
+     */
+    public ReactiveConfig(@Value("${spring.r2dbc.url}") String url,
+                          @Value("${spring.r2dbc.username}") String username,
+                          @Value("${spring.r2dbc.password}") String password,
+                          @Value("${spring.r2dbc.pool.max-size:20}") int maxSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .name("library-service-r2dbc-pool")
+                .initialSize(Math.min(5, maxSize))
+                .maxSize(maxSize)
+                .build());
+    }
+
+    /**
+     * The non-blocking client of the ledger statements.
+     *
+     * @return a database client on the R2DBC pool
+     */
+    @Bean
+    public DatabaseClient databaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Serves the application on Reactor Netty.
+     *
+     * @return the Netty web server factory
+     */
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Runs the handler methods that do not return a reactive type on the application task executor.
+     *
+     * @param configurer the blocking execution settings of WebFlux
+     */
+    @Override
+    public void configureBlockingExecution(BlockingExecutionConfigurer configurer) {
+        configurer.setExecutor(taskExecutor);
+    }
+
+    /**
+     * Closes the pooled connections on shutdown.
+     */
+    @PreDestroy
+    public void closePool() {
+        connectionPool.dispose();
+    }
+}
@@ -0,0 +1,97 @@
+package com.library.management.config;
+
+import com.library.management.dto.ErrorDetailsDTO;
+import com.library.management.exception.BadRequestException;
+import com.library.management.exception.ConflictException;
+import com.library.management.exception.NotFoundException;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Exception handler of the {@code reactive} profile, producing the same error bodies as {@link ExceptionAdvice}.
+ * <p>
+ * The {@code details} field is {@code uri=<path>}, exactly what the servlet stack reports through
+ * {@code WebRequest.getDescription(false)}. As in {@link ExceptionAdvice}, {@link ErrorDetailsDTO} is registered for
+ * JSON binding because the handlers return {@code ResponseEntity<?>}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see ExceptionAdvice
+ * @see ErrorDetailsDTO
+ * @since 2026-10-17
+ */
+@ControllerAdvice
+@Profile("reactive")
+@RegisterReflectionForBinding(ErrorDetailsDTO.class)
+public class ReactiveExceptionAdvice {
+
+    /**
+     * Handles {@link ConflictException} with a 409 CONFLICT response.
+     *
+     * @param ex       The ConflictException that was thrown
+     * @param exchange The current exchange
+     * @return ResponseEntity containing error details and HTTP status 409 CONFLICT
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<?> handleConflicts(Exception ex, ServerWebExchange exchange) {
+        return new ResponseEntity<>(errorDetails(ex.getMessage(), exchange), HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handles {@link BadRequestException} with a 400 BAD REQUEST response.
+     *
+     * @param ex       The BadRequestException that was thrown
+     * @param exchange The current exchange
+     * @return ResponseEntity containing error details and HTTP status 400 BAD REQUEST
+     */
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<?> handleBadRequests(Exception ex, ServerWebExchange exchange) {
+        return new ResponseEntity<>(errorDetails(ex.getMessage(), exchange), HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handles {@link NotFoundException} with a 404 NOT FOUND response.
+     *
+     * @param ex       The NotFoundException that was thrown
+     * @param exchange The current exchange
+     * @return ResponseEntity containing error details and HTTP status 404 NOT FOUND
+     */
+    @ExceptionHandler(NotFoundException.class)
+    public ResponseEntity<?> handleNotFound(Exception ex, ServerWebExchange exchange) {
+        return new ResponseEntity<>(errorDetails(ex.getMessage(), exchange), HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handles validation failures of {@code @Valid} request bodies with a 400 BAD REQUEST response listing
+     * every field error.
+     *
+     * @param ex       The WebExchangeBindException containing validation errors
+     * @param exchange The current exchange
+     * @return ResponseEntity containing all validation error messages and HTTP status 400 BAD REQUEST
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<?> handleValidation(WebExchangeBindException ex, ServerWebExchange exchange) {
+        List<String> errorMessages = ex.getFieldErrors().stream().map(FieldError::getDefaultMessage).toList();
+        ErrorDetailsDTO errorDetails = new ErrorDetailsDTO(new Date(), errorMessages, description(exchange));
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    private static ErrorDetailsDTO errorDetails(String message, ServerWebExchange exchange) {
+        return new ErrorDetailsDTO(new Date(), message, description(exchange));
+    }
+
+    private static String description(ServerWebExchange exchange) {
+        return "uri=" + exchange.getRequest().getPath().value();
+    }
+}
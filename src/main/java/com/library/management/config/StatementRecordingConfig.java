@@ -0,0 +1,124 @@
+package com.library.management.config;
+
+import com.library.management.sql.StatementBudget;
+import com.library.management.sql.StatementRecordingDataSource;
+import com.library.management.sql.StatementRecordingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Records the SQL statements run per HTTP request, in place of {@code spring.jpa.show-sql}.
+ * <p>
+ * The application data source is wrapped in a {@link StatementRecordingDataSource}, outside the database
+ * limiter when there is one, and a {@link StatementRecordingInterceptor} attributes the statements to the
+ * controller method handling each request. Statements slower than {@code sql.slow-statement-threshold} are
+ * logged with that method. With {@code sql.statement-budget.enforce=true}, as in the tests, a request going
+ * over the {@link StatementBudget} of its method fails.
+ * </p>
+ *
+ * <p>
+ * The recorder hands out JDK proxies of {@link Connection} and of the statement interfaces;
+ * {@link StatementRecordingHints} declares them for the native image.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Configuration
+@ImportRuntimeHints(StatementRecordingConfig.StatementRecordingHints.class)
+public class StatementRecordingConfig {
+
+    /**
+     * Order of the post-processor wrapping the data source, the last to run so that it wraps outermost.
+     */
+    static final int POST_PROCESSOR_ORDER = Ordered.LOWEST_PRECEDENCE;
+
+    /**
+     * Wraps the application data source, once configured, in the statement recorder.
+     *
+     * @param slowThreshold  how long a statement may run before it is logged as slow
+     * @param enforceBudgets whether a statement over the budget of its request fails
+     * @return the post-processor wrapping the data source
+     */
+    @Bean
+    static BeanPostProcessor statementRecordingPostProcessor(
+            @Value("${sql.slow-statement-threshold:100ms}") Duration slowThreshold,
+            @Value("${sql.statement-budget.enforce:false}") boolean enforceBudgets) {
+        return new StatementRecordingPostProcessor(slowThreshold, enforceBudgets);
+    }
+
+    /**
+     * Registers the interceptor opening and closing the statement tally of each request.
+     *
+     * @param meterRegistry the registry to publish the statement meters to
+     * @return the configurer adding the interceptor
+     */
+    @Bean
+    @Profile("!reactive")
+    WebMvcConfigurer statementRecordingConfigurer(MeterRegistry meterRegistry) {
+        StatementRecordingInterceptor interceptor = new StatementRecordingInterceptor(meterRegistry);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+
+    private static class StatementRecordingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final Duration slowThreshold;
+
+        private final boolean enforceBudgets;
+
+        StatementRecordingPostProcessor(Duration slowThreshold, boolean enforceBudgets) {
+            this.slowThreshold = slowThreshold;
+            this.enforceBudgets = enforceBudgets;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof StatementRecordingDataSource)) {
+                return new StatementRecordingDataSource(dataSource, slowThreshold, enforceBudgets);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return POST_PROCESSOR_ORDER;
+        }
+    }
+
+    /**
+     * Registers the {@link Connection} and statement proxies created by {@link StatementRecordingDataSource}.
+     */
+    static class StatementRecordingHints implements RuntimeHintsRegistrar {
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            hints.proxies().registerJdkProxy(Connection.class);
+            hints.proxies().registerJdkProxy(Statement.class);
+            hints.proxies().registerJdkProxy(PreparedStatement.class);
+            hints.proxies().registerJdkProxy(CallableStatement.class);
+        }
+    }
+}
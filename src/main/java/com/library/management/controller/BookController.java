@@ -1,8 +1,18 @@
 package com.library.management.controller;
 
+import com.library.management.dto.ArchivedLoanDTO;
 import com.library.management.dto.BookDTO;
+import com.library.management.dto.BookSliceDTO;
+import com.library.management.dto.CatalogCacheStatsDTO;
+import com.library.management.dto.LedgerBatchRequestDTO;
+import com.library.management.dto.LedgerResultDTO;
+import com.library.management.dto.SuggestionDTO;
+import com.library.management.exception.BadRequestException;
+import com.library.management.exception.NotFoundException;
 import com.library.management.service.BookService;
+import com.library.management.service.LedgerArchiveService;
 import com.library.management.service.LedgerService;
+import com.library.management.sql.StatementBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,9 +20,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -23,9 +35,14 @@ import java.util.List;
  * returning process. It exposes RESTful endpoints that respond to various HTTP
  * methods for client applications to interact with the library's book collection.
  * </p>
+ * <p>
+ * The controller is served by both web stacks. The single borrow and return endpoints are in
+ * {@link LedgerController}, or {@link ReactiveLedgerController} in the {@code reactive} profile, and the
+ * streaming import is in {@link BookImportController} or {@link ReactiveBookImportController}.
+ * </p>
  *
  * @author Chandru
- * @version 1.0
+ * @version 1.1
  * @see BookService
  * @see LedgerService
  * @see BookDTO
@@ -41,6 +58,9 @@ public class BookController {
     @Autowired
     private LedgerService ledgerService;
 
+    @Autowired
+    private LedgerArchiveService ledgerArchiveService;
+
     /**
      * Adds a new book to the library collection.
      * <p>
@@ -55,6 +75,7 @@ public class BookController {
      */
     @PostMapping("/add")
     @ResponseStatus(HttpStatus.CREATED)
+    @StatementBudget(3)
     public String addBook(@Valid @RequestBody BookDTO book) throws Exception {
         bookService.addBook(book);
         return "Added new book in your Library";
@@ -73,50 +94,187 @@ public class BookController {
      * @throws Exception If there are errors accessing the book repository or processing the request
      */
     @GetMapping("/")
+    @StatementBudget(2)
     public List<BookDTO> getBooks(@RequestParam int pageNum, @RequestParam int pageSize) throws Exception {
         PageRequest pageable = PageRequest.of(pageNum, pageSize);
         return bookService.getBooks(pageable);
     }
 
     /**
-     * Processes a book borrowing request.
+     * Retrieves a single book copy by ID.
+     *
+     * @param id The ID of the book
+     * @return The book with this ID
+     * @throws NotFoundException If there is no book with this ID
+     */
+    @GetMapping("/{id}")
+    @StatementBudget(1)
+    public BookDTO getBook(@PathVariable Long id) throws NotFoundException {
+        return bookService.getBook(id);
+    }
+
+    /**
+     * Retrieves all copies of a book by ISBN.
+     *
+     * @param isbnNo The ISBN of the book
+     * @return The copies of the book, empty if the ISBN is unknown
+     */
+    @GetMapping("/isbn/{isbnNo}")
+    @StatementBudget(1)
+    public List<BookDTO> getCopies(@PathVariable String isbnNo) {
+        return bookService.getCopies(isbnNo);
+    }
+
+    /**
+     * Searches the library collection by title and author.
+     * <p>
+     * Every word of the query must occur in the title or the author of a book. Results are ranked so
+     * that rare words and words in the title count more, and are served from an in-memory index.
+     * </p>
+     *
+     * @param q     The words to look for
+     * @param limit The maximum number of books to return, between 1 and 100
+     * @return The matching books, best match first
+     * @throws BadRequestException If the query is blank or the limit is out of range
+     */
+    @GetMapping("/search")
+    @StatementBudget(1)
+    public List<BookDTO> searchBooks(@RequestParam String q, @RequestParam(defaultValue = "20") int limit)
+            throws BadRequestException {
+        if (q.isBlank()) {
+            throw new BadRequestException("Please provide a search query");
+        }
+        if (limit < 1 || limit > 100) {
+            throw new BadRequestException("Please provide a limit between 1 and 100");
+        }
+        return bookService.searchBooks(q, limit);
+    }
+
+    /**
+     * Suggests titles and authors while the user types.
      * <p>
-     * This endpoint records a borrowing transaction in the library's ledger,
-     * marking the specified book as borrowed by the identified borrower.
-     * The book's availability status is updated accordingly.
+     * Matches titles and authors containing a word that starts with the typed text, most-held first.
+     * Suggestions are served from memory and refreshed in the background, so a newly added title may
+     * take up to a refresh interval to appear.
      * </p>
      *
-     * @param bookId     The unique identifier of the book to be borrowed
-     * @param borrowerId The unique identifier of the user borrowing the book
-     * @return A confirmation message indicating successful borrowing
-     * @throws Exception If the book is not available, the borrower is not eligible,
-     *                   or other processing errors occur
+     * @param prefix The text typed so far
+     * @param limit  The maximum number of suggestions to return, between 1 and 20
+     * @return The matching titles and authors, most copies first
+     * @throws BadRequestException If the limit is out of range
      */
-    @PostMapping("/borrow")
+    @GetMapping("/suggest")
+    @StatementBudget(0)
+    public List<SuggestionDTO> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit)
+            throws BadRequestException {
+        if (limit < 1 || limit > 20) {
+            throw new BadRequestException("Please provide a limit between 1 and 20");
+        }
+        return bookService.suggest(prefix, limit);
+    }
+
+    /**
+     * Retrieves the hit, miss and eviction statistics of the catalog cache serving the lookups by ID and ISBN.
+     *
+     * @return The current statistics of the catalog cache
+     */
+    @GetMapping("/cache/stats")
+    @StatementBudget(0)
+    public CatalogCacheStatsDTO getCacheStats() {
+        return bookService.getCacheStats();
+    }
+
+    /**
+     * Browses the library collection with cursor-based pagination.
+     * <p>
+     * Unlike {@link #getBooks}, this endpoint never counts the catalog and seeks directly to the
+     * requested position, so the last slice of a large catalog is as fast as the first. Pass the
+     * {@code nextCursor} of each response as {@code cursor} to fetch the following slice.
+     * </p>
+     *
+     * @param cursor       The cursor returned by the previous slice; omit it for the first slice
+     * @param size         The maximum number of books to return, between 1 and 1000
+     * @param includeTotal Whether to include an estimated total number of books
+     * @return The slice of books with the cursor for the next slice
+     * @throws BadRequestException If the cursor is malformed or the size is out of range
+     */
+    @GetMapping("/browse")
+    @StatementBudget(2)
+    public BookSliceDTO browseBooks(@RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "20") int size,
+                                    @RequestParam(defaultValue = "false") boolean includeTotal)
+            throws BadRequestException {
+        if (size < 1 || size > 1000) {
+            throw new BadRequestException("Please provide a size between 1 and 1000");
+        }
+        return bookService.browseBooks(cursor, size, includeTotal);
+    }
+
+    /**
+     * Processes a batch of book borrowing requests.
+     * <p>
+     * This endpoint is meant for self-checkout kiosks that submit many borrows at once. All items
+     * are recorded in a single transaction, and each item gets its own result: a conflict on one
+     * book does not stop the others from being borrowed.
+     * </p>
+     *
+     * @param request The batch of book and borrower pairs to record as borrowed
+     * @return The success or conflict result for each item, in request order
+     */
+    @PostMapping("/borrow/batch")
     @ResponseStatus(HttpStatus.OK)
-    public String borrowBook(@RequestParam Long bookId, @RequestParam Long borrowerId) throws Exception {
-        ledgerService.handleLedger(bookId, borrowerId, true);
-        return "Borrowed book Successfully";
+    @StatementBudget(3)
+    public List<LedgerResultDTO> borrowBooks(@Valid @RequestBody LedgerBatchRequestDTO request) {
+        return ledgerService.handleLedgerBatch(request.getItems(), true);
     }
 
     /**
-     * Processes a book return request.
+     * Processes a batch of book return requests.
      * <p>
-     * This endpoint records a return transaction in the library's ledger,
-     * marking the specified book as returned by the identified borrower.
-     * The book's availability status is updated accordingly.
+     * This endpoint is meant for end-of-day drop-box processing. All items are recorded in a
+     * single transaction, and each item gets its own result: a conflict on one book does not
+     * stop the others from being returned.
      * </p>
      *
-     * @param bookId     The unique identifier of the book being returned
-     * @param borrowerId The unique identifier of the user returning the book
-     * @return A confirmation message indicating successful return
-     * @throws Exception If the book was not borrowed by the specified user
-     *                   or other processing errors occur
+     * @param request The batch of book and borrower pairs to record as returned
+     * @return The success or conflict result for each item, in request order
      */
-    @PostMapping("/return")
+    @PostMapping("/return/batch")
     @ResponseStatus(HttpStatus.OK)
-    public String returnBook(@RequestParam Long bookId, @RequestParam Long borrowerId) throws Exception {
-        ledgerService.handleLedger(bookId, borrowerId, false);
-        return "Returned book Successfully";
+    @StatementBudget(3)
+    public List<LedgerResultDTO> returnBooks(@Valid @RequestBody LedgerBatchRequestDTO request) {
+        return ledgerService.handleLedgerBatch(request.getItems(), false);
+    }
+
+    /**
+     * Retrieves the archived loan history.
+     * <p>
+     * Returned loans older than the archive retention are no longer in the ledger; they are read from the
+     * archive files on local disk, without querying the database.
+     * </p>
+     *
+     * @param bookId The book whose loans to return; omit it for all books
+     * @param from   The first borrow day to include, as {@code yyyy-MM-dd}
+     * @param to     The last borrow day to include, as {@code yyyy-MM-dd}
+     * @param limit  The maximum number of loans to return, between 1 and 1000
+     * @return The archived loans, most recently borrowed first
+     * @throws BadRequestException If the limit is out of range or {@code from} is after {@code to}
+     */
+    @GetMapping("/history")
+    @StatementBudget(0)
+    public List<ArchivedLoanDTO> getHistory(@RequestParam(required = false) Long bookId,
+                                            @RequestParam(required = false)
+                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                            @RequestParam(required = false)
+                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                            @RequestParam(defaultValue = "100") int limit)
+            throws BadRequestException {
+        if (limit < 1 || limit > 1000) {
+            throw new BadRequestException("Please provide a limit between 1 and 1000");
+        }
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new BadRequestException("Please provide a from date not after the to date");
+        }
+        return ledgerArchiveService.getHistory(bookId, from, to, limit);
     }
-}
\ No newline at end of file
+}
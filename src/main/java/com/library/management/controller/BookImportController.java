@@ -0,0 +1,66 @@
+package com.library.management.controller;
+
+import com.library.management.dto.BookImportReportDTO;
+import com.library.management.enums.BookImportFormat;
+import com.library.management.service.BookImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * REST Controller serving the bulk book import on the servlet stack.
+ * <p>
+ * The import reads the servlet request body as a stream, so the {@code reactive} profile serves the same
+ * endpoint with {@link ReactiveBookImportController} instead.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see BookImportService
+ * @since 2026-10-17
+ */
+@RestController
+@RequestMapping("/book")
+@Profile("!reactive")
+public class BookImportController {
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    /**
+     * Imports book copies in bulk from a CSV or NDJSON file of any size.
+     * <p>
+     * The request body is streamed rather than buffered, so large migrations can be uploaded
+     * in one request. CSV files need a header row naming the {@code isbnNo}, {@code title} and
+     * {@code author} columns; NDJSON files hold one book object per line. Every row is validated
+     * like a {@code /book/add} payload and follows the same ISBN rules; rejected rows are listed
+     * in the response and do not stop the import.
+     * </p>
+     *
+     * @param contentType The request content type, either {@code text/csv} or {@code application/x-ndjson}
+     * @param body        The raw request body
+     * @return A report with the number of imported and rejected rows and the reasons for rejection
+     * @throws IOException If the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public BookImportReportDTO importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           InputStream body) throws IOException {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        BookImportFormat format = mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? BookImportFormat.NDJSON : BookImportFormat.CSV;
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        Reader reader = new InputStreamReader(body, charset);
+        return bookImportService.importBooks(reader, format);
+    }
+}
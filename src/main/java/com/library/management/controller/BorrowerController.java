@@ -2,6 +2,7 @@ package com.library.management.controller;
 
 import com.library.management.dto.BorrowerDTO;
 import com.library.management.service.BorrowerService;
+import com.library.management.sql.StatementBudget;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -50,6 +51,7 @@ public class BorrowerController {
      */
     @PostMapping("/add")
     @ResponseStatus(HttpStatus.CREATED)
+    @StatementBudget(2)
     public String addBorrower(@Valid @RequestBody BorrowerDTO borrowerDTO) throws Exception {
         borrowerService.addBorrower(borrowerDTO);
         return "Added new Borrower in your Library";
@@ -0,0 +1,73 @@
+package com.library.management.controller;
+
+import com.library.management.service.LedgerService;
+import com.library.management.sql.StatementBudget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller serving the single borrow and return endpoints on the servlet stack.
+ * <p>
+ * These endpoints are kept apart from {@link BookController} because the {@code reactive} profile serves
+ * the same paths with {@link ReactiveLedgerController}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerService
+ * @since 2026-10-17
+ */
+@RestController
+@RequestMapping("/book")
+@Profile("!reactive")
+public class LedgerController {
+
+    @Autowired
+    private LedgerService ledgerService;
+
+    /**
+     * Processes a book borrowing request.
+     * <p>
+     * This endpoint records a borrowing transaction in the library's ledger,
+     * marking the specified book as borrowed by the identified borrower.
+     * The book's availability status is updated accordingly.
+     * </p>
+     *
+     * @param bookId     The unique identifier of the book to be borrowed
+     * @param borrowerId The unique identifier of the user borrowing the book
+     * @return A confirmation message indicating successful borrowing
+     * @throws Exception If the book is not available, the borrower is not eligible,
+     *                   or other processing errors occur
+     */
+    @PostMapping("/borrow")
+    @ResponseStatus(HttpStatus.OK)
+    @StatementBudget(3)
+    public String borrowBook(@RequestParam Long bookId, @RequestParam Long borrowerId) throws Exception {
+        ledgerService.handleLedger(bookId, borrowerId, true);
+        return "Borrowed book Successfully";
+    }
+
+    /**
+     * Processes a book return request.
+     * <p>
+     * This endpoint records a return transaction in the library's ledger,
+     * marking the specified book as returned by the identified borrower.
+     * The book's availability status is updated accordingly.
+     * </p>
+     *
+     * @param bookId     The unique identifier of the book being returned
+     * @param borrowerId The unique identifier of the user returning the book
+     * @return A confirmation message indicating successful return
+     * @throws Exception If the book was not borrowed by the specified user
+     *                   or other processing errors occur
+     */
+    @PostMapping("/return")
+    @ResponseStatus(HttpStatus.OK)
+    @StatementBudget(3)
+    public String returnBook(@RequestParam Long bookId, @RequestParam Long borrowerId) throws Exception {
+        ledgerService.handleLedger(bookId, borrowerId, false);
+        return "Returned book Successfully";
+    }
+}
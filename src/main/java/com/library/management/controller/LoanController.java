@@ -0,0 +1,82 @@
+package com.library.management.controller;
+
+import com.library.management.dto.LoanDTO;
+import com.library.management.exception.BadRequestException;
+import com.library.management.service.LoanEventService;
+import com.library.management.sql.StatementBudget;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST Controller for reading loans in the event-sourced ledger mode.
+ * <p>
+ * Only registered with {@code ledger.mode=event-sourced}, where loans are derived from borrow and return
+ * events instead of being kept as rows.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LoanEventService
+ * @since 2026-10-17
+ */
+@RestController
+@RequestMapping("/loan")
+@Profile("!reactive")
+@ConditionalOnProperty(name = "ledger.mode", havingValue = "event-sourced")
+public class LoanController {
+
+    @Autowired
+    private LoanEventService loanEventService;
+
+    /**
+     * Retrieves the books on loan, now or at a past time.
+     * <p>
+     * A past state is rebuilt from the latest snapshot taken before that time and the events after it.
+     * </p>
+     *
+     * @param at    The point in time, as an ISO-8601 instant such as {@code 2026-10-01T00:00:00Z}; omit it for now
+     * @param limit The maximum number of loans to return, between 1 and 1000
+     * @return The active loans, by book ID
+     * @throws BadRequestException If the limit is out of range or the time is in the future
+     */
+    @GetMapping("/active")
+    @StatementBudget(1)
+    public List<LoanDTO> getActiveLoans(@RequestParam(required = false)
+                                        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at,
+                                        @RequestParam(defaultValue = "100") int limit) throws BadRequestException {
+        if (limit < 1 || limit > 1000) {
+            throw new BadRequestException("Please provide a limit between 1 and 1000");
+        }
+        if (at != null && at.isAfter(Instant.now())) {
+            throw new BadRequestException("Please provide a time that is not in the future");
+        }
+        return loanEventService.getActiveLoans(at, limit);
+    }
+
+    /**
+     * Retrieves the loan history of a book from its events, including its current loan.
+     *
+     * @param bookId The book whose loans to return
+     * @param limit  The maximum number of loans to return, between 1 and 1000
+     * @return The loans, most recently borrowed first
+     * @throws BadRequestException If the limit is out of range
+     */
+    @GetMapping("/history")
+    @StatementBudget(1)
+    public List<LoanDTO> getHistory(@RequestParam Long bookId, @RequestParam(defaultValue = "100") int limit)
+            throws BadRequestException {
+        if (limit < 1 || limit > 1000) {
+            throw new BadRequestException("Please provide a limit between 1 and 1000");
+        }
+        return loanEventService.getHistory(bookId, limit);
+    }
+}
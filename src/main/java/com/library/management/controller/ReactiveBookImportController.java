@@ -0,0 +1,66 @@
+package com.library.management.controller;
+
+import com.library.management.dto.BookImportReportDTO;
+import com.library.management.enums.BookImportFormat;
+import com.library.management.service.BookImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * WebFlux controller serving the bulk book import of {@link BookImportController} in the {@code reactive} profile.
+ * <p>
+ * The request body arrives as a stream of buffers and is read through a blocking {@link InputStream} that
+ * requests at most {@value #PREFETCH} buffers ahead, so the file is still never held in memory. The import writes
+ * through JPA, so the method does not return a reactive type and runs on the blocking executor configured in
+ * {@code ReactiveConfig}, never on an event-loop thread.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see BookImportService
+ * @since 2026-10-17
+ */
+@RestController
+@RequestMapping("/book")
+@Profile("reactive")
+public class ReactiveBookImportController {
+
+    private static final int PREFETCH = 16;
+
+    @Autowired
+    private BookImportService bookImportService;
+
+    /**
+     * Imports book copies in bulk from a CSV or NDJSON file of any size.
+     *
+     * @param contentType The request content type, either {@code text/csv} or {@code application/x-ndjson}
+     * @param body        The request body
+     * @return A report with the number of imported and rejected rows and the reasons for rejection
+     * @throws IOException If the request body cannot be read
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @ResponseStatus(HttpStatus.OK)
+    public BookImportReportDTO importBooks(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                           @RequestBody Flux<DataBuffer> body) throws IOException {
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        BookImportFormat format = mediaType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? BookImportFormat.NDJSON : BookImportFormat.CSV;
+        Charset charset = mediaType.getCharset() != null ? mediaType.getCharset() : StandardCharsets.UTF_8;
+        try (InputStream in = DataBufferUtils.subscriberInputStream(body, PREFETCH)) {
+            return bookImportService.importBooks(new InputStreamReader(in, charset), format);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.library.management.controller;
+
+import com.library.management.service.ReactiveLedgerService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux controller serving the borrow and return endpoints of {@link LedgerController} in the
+ * {@code reactive} profile.
+ * <p>
+ * The paths, parameters, responses and error bodies are the same as on the servlet stack, but no thread
+ * waits for the database: the request is suspended until the R2DBC statement completes.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @see ReactiveLedgerService
+ * @since 2026-10-17
+ */
+@RestController
+@RequestMapping("/book")
+@Profile("reactive")
+public class ReactiveLedgerController {
+
+    @Autowired
+    private ReactiveLedgerService ledgerService;
+
+    /**
+     * Processes a book borrowing request.
+     *
+     * @param bookId     The unique identifier of the book to be borrowed
+     * @param borrowerId The unique identifier of the user borrowing the book
+     * @return A confirmation message indicating successful borrowing
+     */
+    @PostMapping("/borrow")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<String> borrowBook(@RequestParam Long bookId, @RequestParam Long borrowerId) {
+        return ledgerService.handleLedger(bookId, borrowerId, true).thenReturn("Borrowed book Successfully");
+    }
+
+    /**
+     * Processes a book return request.
+     *
+     * @param bookId     The unique identifier of the book being returned
+     * @param borrowerId The unique identifier of the user returning the book
+     * @return A confirmation message indicating successful return
+     */
+    @PostMapping("/return")
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<String> returnBook(@RequestParam Long bookId, @RequestParam Long borrowerId) {
+        return ledgerService.handleLedger(bookId, borrowerId, false).thenReturn("Returned book Successfully");
+    }
+}
@@ -0,0 +1,47 @@
+package com.library.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object (DTO) for a returned loan read from the ledger archive.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArchivedLoanDTO {
+
+    /**
+     * Unique identifier of the archived ledger entry.
+     */
+    Long id;
+
+    /**
+     * Unique identifier of the borrowed book.
+     */
+    Long bookId;
+
+    /**
+     * Unique identifier of the borrower.
+     */
+    Long borrowerId;
+
+    /**
+     * When the book was borrowed.
+     */
+    Date borrowedDate;
+
+    /**
+     * When the book was returned.
+     */
+    Date returnedDate;
+}
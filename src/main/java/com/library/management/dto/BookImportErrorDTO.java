@@ -0,0 +1,38 @@
+package com.library.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) describing a row rejected by the bulk book import.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see BookImportReportDTO
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookImportErrorDTO {
+
+    /**
+     * One-based line number of the rejected row in the uploaded file.
+     */
+    long line;
+
+    /**
+     * ISBN of the rejected row, if it could be parsed.
+     */
+    String isbnNo;
+
+    /**
+     * Reasons the row was rejected.
+     */
+    List<String> messages;
+}
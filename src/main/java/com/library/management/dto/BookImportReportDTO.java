@@ -0,0 +1,55 @@
+package com.library.management.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) summarising the outcome of a bulk book import.
+ * <p>
+ * The report always carries exact row counts. To keep memory use independent of the file
+ * size, only the first {@link #MAX_REPORTED_ERRORS} rejected rows are listed individually;
+ * {@code errorsTruncated} tells the client that more rows failed than are listed.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see BookImportErrorDTO
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+public class BookImportReportDTO {
+
+    /**
+     * Maximum number of rejected rows listed in {@code errors}.
+     */
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    /**
+     * Number of data rows read from the file, excluding the header and blank lines.
+     */
+    long totalRows;
+
+    /**
+     * Number of rows stored as new book copies.
+     */
+    long importedRows;
+
+    /**
+     * Number of rows rejected.
+     */
+    long failedRows;
+
+    /**
+     * Details of the first rejected rows, ordered by chunk and then by ISBN within a chunk.
+     */
+    List<BookImportErrorDTO> errors = new ArrayList<>();
+
+    /**
+     * Whether more rows were rejected than are listed in {@code errors}.
+     */
+    boolean errorsTruncated;
+}
@@ -0,0 +1,48 @@
+package com.library.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one slice of the book catalog in cursor-based browsing.
+ * <p>
+ * Unlike a page, a slice carries no exact total: clients follow {@code nextCursor} until
+ * {@code hasNext} is {@code false}. If requested, {@code estimatedTotal} gives an approximate
+ * catalog size from the database statistics.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see BookDTO
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookSliceDTO {
+
+    /**
+     * The books in this slice, ordered by ID.
+     */
+    List<BookDTO> content;
+
+    /**
+     * Opaque token to pass as {@code cursor} to fetch the next slice; {@code null} on the last slice.
+     */
+    String nextCursor;
+
+    /**
+     * Whether there are more books after this slice.
+     */
+    boolean hasNext;
+
+    /**
+     * Approximate number of books in the catalog; {@code null} unless requested or not yet known.
+     */
+    Long estimatedTotal;
+}
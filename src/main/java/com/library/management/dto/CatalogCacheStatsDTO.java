@@ -0,0 +1,58 @@
+package com.library.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for the statistics of the catalog cache.
+ * <p>
+ * Counters are cumulative since the application started; sizes describe the cache at the time of the request.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogCacheStatsDTO {
+
+    /**
+     * Number of lookups answered from the cache.
+     */
+    long hitCount;
+
+    /**
+     * Number of lookups that had to go to the database.
+     */
+    long missCount;
+
+    /**
+     * Ratio of hits to all lookups; {@code 1.0} before the first lookup.
+     */
+    double hitRate;
+
+    /**
+     * Number of entries evicted to stay within the heap budget or because they expired.
+     */
+    long evictionCount;
+
+    /**
+     * Approximate number of entries in the cache.
+     */
+    long entryCount;
+
+    /**
+     * Approximate heap taken by the cached entries, in bytes.
+     */
+    long estimatedBytes;
+
+    /**
+     * Configured heap budget of the cache, in bytes.
+     */
+    long maxBytes;
+}
@@ -0,0 +1,44 @@
+package com.library.management.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for batch borrow and return requests.
+ * <p>
+ * Used by self-checkout kiosks and drop-box processing to submit many borrows or returns
+ * at once. All items are processed in a single transaction and each gets its own result.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerRequestDTO
+ * @see LedgerResultDTO
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LedgerBatchRequestDTO {
+
+    /**
+     * Maximum number of items accepted in one batch.
+     */
+    public static final int MAX_ITEMS = 1000;
+
+    /**
+     * The borrows or returns to process, in order.
+     */
+    @Valid
+    @NotEmpty(message = "At least one item is mandatory")
+    @Size(max = MAX_ITEMS, message = "Please provide at most " + MAX_ITEMS + " items per batch")
+    List<LedgerRequestDTO> items;
+}
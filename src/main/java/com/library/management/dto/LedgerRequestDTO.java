@@ -0,0 +1,39 @@
+package com.library.management.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for a single borrow or return in a batch request.
+ * <p>
+ * Each item pairs the book being borrowed or returned with the borrower involved,
+ * mirroring the {@code bookId} and {@code borrowerId} parameters of the single
+ * {@code /book/borrow} and {@code /book/return} endpoints.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerBatchRequestDTO
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LedgerRequestDTO {
+
+    /**
+     * Unique identifier of the book being borrowed or returned.
+     */
+    @NotNull(message = "Book id is mandatory")
+    Long bookId;
+
+    /**
+     * Unique identifier of the borrower.
+     */
+    @NotNull(message = "Borrower id is mandatory")
+    Long borrowerId;
+}
@@ -0,0 +1,42 @@
+package com.library.management.dto;
+
+import com.library.management.enums.LedgerResultStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for the result of a single item in a batch borrow or return request.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerBatchRequestDTO
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LedgerResultDTO {
+
+    /**
+     * Unique identifier of the book from the request item.
+     */
+    Long bookId;
+
+    /**
+     * Unique identifier of the borrower from the request item.
+     */
+    Long borrowerId;
+
+    /**
+     * Whether the item was recorded or rejected.
+     */
+    LedgerResultStatus status;
+
+    /**
+     * Confirmation or conflict message for the item.
+     */
+    String message;
+}
@@ -0,0 +1,47 @@
+package com.library.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object (DTO) for a loan derived from the events of the event-sourced ledger.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class LoanDTO {
+
+    /**
+     * Unique identifier of the borrow event that started the loan.
+     */
+    Long id;
+
+    /**
+     * Unique identifier of the borrowed book.
+     */
+    Long bookId;
+
+    /**
+     * Unique identifier of the borrower.
+     */
+    Long borrowerId;
+
+    /**
+     * When the book was borrowed.
+     */
+    Date borrowedDate;
+
+    /**
+     * When the book was returned; {@code null} while it is on loan.
+     */
+    Date returnedDate;
+}
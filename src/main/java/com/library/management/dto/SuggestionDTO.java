@@ -0,0 +1,37 @@
+package com.library.management.dto;
+
+import com.library.management.enums.SuggestionType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Data Transfer Object (DTO) for one autocomplete suggestion.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see SuggestionType
+ * @since 2026-10-17
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionDTO {
+
+    /**
+     * The suggested title or author, as stored in the catalog.
+     */
+    String text;
+
+    /**
+     * Whether the suggestion is a title or an author.
+     */
+    SuggestionType type;
+
+    /**
+     * Number of copies in the catalog with this title or by this author; suggestions are ranked by it.
+     */
+    long copies;
+}
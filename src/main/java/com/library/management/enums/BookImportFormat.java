@@ -0,0 +1,23 @@
+package com.library.management.enums;
+
+/**
+ * Enumeration representing the file formats accepted by the bulk book import.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see com.library.management.service.BookImportService
+ * @since 2026-10-17
+ */
+public enum BookImportFormat {
+    /**
+     * Comma-separated values with a header row naming the {@code isbnNo}, {@code title}
+     * and {@code author} columns. Fields may be double-quoted; a row must fit on one line.
+     */
+    CSV,
+
+    /**
+     * Newline-delimited JSON, one book object with {@code isbnNo}, {@code title}
+     * and {@code author} properties per line.
+     */
+    NDJSON
+}
@@ -0,0 +1,24 @@
+package com.library.management.enums;
+
+/**
+ * Enumeration representing the outcome of a single item in a batch borrow or return request.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see com.library.management.dto.LedgerResultDTO
+ * @since 2026-10-17
+ */
+public enum LedgerResultStatus {
+    /**
+     * The borrow or return was recorded in the ledger.
+     */
+    SUCCESS,
+
+    /**
+     * The borrow or return violated a borrowing rule and was not recorded.
+     * <p>
+     * The accompanying message is the same one the single-item endpoints return with HTTP 409 CONFLICT.
+     * </p>
+     */
+    CONFLICT
+}
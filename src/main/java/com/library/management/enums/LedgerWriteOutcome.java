@@ -0,0 +1,29 @@
+package com.library.management.enums;
+
+/**
+ * Enumeration representing the outcome of writing a single borrow or return in the current ledger mode.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see com.library.management.ledger.LedgerWriter
+ * @since 2026-10-17
+ */
+public enum LedgerWriteOutcome {
+    /**
+     * The borrow or return was written.
+     */
+    WRITTEN,
+
+    /**
+     * The book is already borrowed, or not borrowed for a return; the book or borrower may also be missing.
+     */
+    CONFLICT,
+
+    /**
+     * The book or borrower did not exist when the borrow or return was written, and nothing was changed.
+     * <p>
+     * It may have been added since, in which case the borrow or return can be retried.
+     * </p>
+     */
+    MISSING
+}
@@ -0,0 +1,21 @@
+package com.library.management.enums;
+
+/**
+ * Enumeration representing what an autocomplete suggestion completes.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see com.library.management.dto.SuggestionDTO
+ * @since 2026-10-17
+ */
+public enum SuggestionType {
+    /**
+     * The suggestion is the title of a book.
+     */
+    TITLE,
+
+    /**
+     * The suggestion is the name of an author.
+     */
+    AUTHOR
+}
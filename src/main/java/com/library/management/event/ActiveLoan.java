@@ -0,0 +1,15 @@
+package com.library.management.event;
+
+/**
+ * A book currently on loan, as derived from its latest borrow event.
+ *
+ * @param eventId        the ID of the borrow event
+ * @param bookId         the ID of the book
+ * @param borrowerId     the ID of the borrower
+ * @param borrowedMicros when the book was borrowed, in microseconds since the epoch
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record ActiveLoan(long eventId, long bookId, long borrowerId, long borrowedMicros) {
+}
@@ -0,0 +1,400 @@
+package com.library.management.event;
+
+import com.library.management.exception.ConflictException;
+import com.library.management.index.BookAvailabilityIndex;
+import com.library.management.model.Ledger;
+import com.library.management.repository.LedgerEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Event-sourced path of the ledger, active with {@code ledger.mode=event-sourced}.
+ * <p>
+ * Borrows and returns are appended to {@code ledger_event} and never updated; the active loans are the
+ * {@link LoanProjection} of those events, kept in memory. Whether a borrow or return is allowed is decided by
+ * the projection under a per-book lock, which is held until the event is inserted and applied, so the events
+ * of a book are numbered in the order they are applied. Different books only share one of
+ * {@value #STRIPES} lock stripes.
+ * </p>
+ *
+ * <p>
+ * Every {@code ledger.event-sourced.snapshot-interval} the projection is written to a {@link LoanSnapshot};
+ * the latest {@code ledger.event-sourced.snapshot-retention} are kept. At startup the latest readable snapshot
+ * is loaded and only the events after it are replayed. The active loans at a past time are rebuilt the same
+ * way, from the latest snapshot taken before that time.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerEventRepository
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.mode", havingValue = "event-sourced")
+public class EventSourcedLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSourcedLedger.class);
+
+    private static final int STRIPES = 64;
+
+    @Autowired
+    private LedgerEventRepository ledgerEventRepository;
+
+    @Autowired
+    private BookAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.event-sourced.snapshot-directory:snapshots/ledger}")
+    private Path directory;
+
+    @Value("${ledger.event-sourced.snapshot-interval:5m}")
+    private Duration snapshotInterval;
+
+    @Value("${ledger.event-sourced.snapshot-retention:12}")
+    private int snapshotRetention;
+
+    private final ReentrantLock[] stripes = Stream.generate(ReentrantLock::new).limit(STRIPES)
+            .toArray(ReentrantLock[]::new);
+
+    /**
+     * Held shared by appends, from the projection check until the event is applied, and exclusively to copy
+     * the projection for a snapshot.
+     */
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    /**
+     * Snapshots on disk, by last event ID.
+     */
+    private final ConcurrentSkipListMap<Long, LoanSnapshot> snapshots = new ConcurrentSkipListMap<>();
+
+    private volatile LoanProjection projection;
+
+    private TransactionTemplate replayTemplate;
+    private ScheduledExecutorService snapshotter;
+    private Timer snapshotTimer;
+
+    /**
+     * Restores the active loans from the latest snapshot and the events after it and starts the snapshots.
+     *
+     * @throws IOException if the snapshot directory cannot be read
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        // Replays stream their rows, which needs a transaction
+        replayTemplate = new TransactionTemplate(transactionManager);
+        replayTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        replayTemplate.setReadOnly(true);
+        snapshotTimer = meterRegistry.timer("library.ledger.event_sourced.snapshot");
+
+        long started = System.nanoTime();
+        Files.createDirectories(directory);
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(LoanSnapshot.EXTENSION + ".tmp")) {
+                    // Left by a crash during a snapshot
+                    Files.delete(file);
+                } else if (name.endsWith(LoanSnapshot.EXTENSION)) {
+                    try {
+                        LoanSnapshot snapshot = LoanSnapshot.open(file);
+                        snapshots.put(snapshot.getLastEventId(), snapshot);
+                    } catch (IOException e) {
+                        log.warn("Skipping unreadable loan snapshot {}", file, e);
+                    }
+                }
+            }
+        }
+        LoanProjection restored = null;
+        for (LoanSnapshot snapshot : snapshots.descendingMap().values()) {
+            try {
+                restored = new LoanProjection();
+                snapshot.load(restored);
+                break;
+            } catch (IOException e) {
+                log.warn("Skipping unreadable loan snapshot {}", snapshot.getPath(), e);
+                snapshots.remove(snapshot.getLastEventId());
+                restored = null;
+            }
+        }
+        LoanProjection current = restored == null ? new LoanProjection() : restored;
+        long snapshotEventId = current.getLastEventId();
+        Integer replayed = replayTemplate.execute(status ->
+                ledgerEventRepository.replay(snapshotEventId, null, current::apply));
+        projection = current;
+        availabilityIndex.load(current.getBorrowedBookIds());
+        log.info("Restored {} active loans from event {} and {} later events in {} ms", current.size(),
+                snapshotEventId, replayed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+        Gauge.builder("library.ledger.event_sourced.active", this, ledger -> ledger.projection.size())
+                .description("Books on loan in the event-sourced ledger projection")
+                .register(meterRegistry);
+        snapshotter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        snapshotter.scheduleWithFixedDelay(this::snapshotQuietly, snapshotInterval.toNanos(),
+                snapshotInterval.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the snapshots and takes a last one, so the next start replays nothing.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        snapshotter.shutdown();
+        snapshotter.awaitTermination(10, TimeUnit.SECONDS);
+        snapshotQuietly();
+    }
+
+    /**
+     * Appends a borrow or return if the projection allows it, and applies it.
+     * <p>
+     * The event joins the caller's transaction, if any, and is applied when it commits; the book stays locked
+     * until then.
+     * </p>
+     *
+     * @param borrow     {@code true} for a borrow, {@code false} for a return
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @return {@code true} if the event was appended; {@code false} if the book or the borrower does not exist
+     * @throws ConflictException if the book is already borrowed, or not borrowed for a return
+     */
+    public boolean append(boolean borrow, long bookId, long borrowerId) throws ConflictException {
+        Runnable unlock = lock(List.of(bookId));
+        Optional<LoanEvent> event;
+        try {
+            if (borrow && projection.isBorrowed(bookId)) {
+                throw new ConflictException("Book is already borrowed by someone");
+            }
+            if (!borrow && !projection.isBorrowed(bookId)) {
+                throw new ConflictException("Book is not borrowed to return");
+            }
+            event = ledgerEventRepository.append(borrow, bookId, borrowerId);
+        } catch (ConflictException | RuntimeException e) {
+            unlock.run();
+            throw e;
+        }
+        if (event.isEmpty()) {
+            unlock.run();
+            return false;
+        }
+        applyWhenCommitted(List.of(event.get()), unlock);
+        return true;
+    }
+
+    /**
+     * Appends the borrows or returns the projection allows in a single statement, and applies them like
+     * {@link #append}.
+     *
+     * @param borrow {@code true} for borrows, {@code false} for returns
+     * @param loans  the loans, whose books and borrowers exist; only {@code bookId} and {@code borrowerId} are
+     *               used
+     * @return for each loan, whether its event was appended
+     */
+    public boolean[] appendAll(boolean borrow, List<Ledger> loans) {
+        boolean[] appended = new boolean[loans.size()];
+        Runnable unlock = lock(loans.stream().map(Ledger::getBookId).toList());
+        List<LoanEvent> events;
+        try {
+            Set<Long> books = new HashSet<>();
+            List<Ledger> allowed = new ArrayList<>();
+            for (int i = 0; i < loans.size(); i++) {
+                Long bookId = loans.get(i).getBookId();
+                if (projection.isBorrowed(bookId) != borrow && books.add(bookId)) {
+                    appended[i] = true;
+                    allowed.add(loans.get(i));
+                }
+            }
+            events = allowed.isEmpty() ? List.of() : ledgerEventRepository.appendAll(borrow, allowed);
+        } catch (RuntimeException e) {
+            unlock.run();
+            throw e;
+        }
+        applyWhenCommitted(events, unlock);
+        return appended;
+    }
+
+    /**
+     * Applies the events appended after the projection was last updated and reloads the availability index
+     * from it, such as after a restore from a checkpoint taken earlier.
+     *
+     * @return the number of events applied
+     */
+    public int catchUp() {
+        snapshotLock.writeLock().lock();
+        try {
+            LoanProjection current = projection;
+            long lastEventId = current.getLastEventId();
+            Integer replayed = replayTemplate.execute(status ->
+                    ledgerEventRepository.replay(lastEventId, null, current::apply));
+            availabilityIndex.load(current.getBorrowedBookIds());
+            return replayed == null ? 0 : replayed;
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the current active loans.
+     *
+     * @return the active loans, by book ID
+     */
+    public List<ActiveLoan> getActiveLoans() {
+        return sorted(projection);
+    }
+
+    /**
+     * Rebuilds the active loans at a past time from the latest snapshot taken before it and the events
+     * appended after that snapshot and up to that time.
+     *
+     * @param at the point in time
+     * @return the loans active at that time, by book ID
+     */
+    public List<ActiveLoan> getActiveLoans(Instant at) {
+        long atMicros = ChronoUnit.MICROS.between(Instant.EPOCH, at);
+        LoanProjection state = new LoanProjection();
+        for (LoanSnapshot snapshot : snapshots.descendingMap().values()) {
+            if (snapshot.getLastEventMicros() <= atMicros) {
+                try {
+                    snapshot.load(state);
+                    break;
+                } catch (IOException e) {
+                    // Deleted by retention in the meantime, or unreadable: an older snapshot still works
+                    log.debug("Skipping loan snapshot {}", snapshot.getPath(), e);
+                    state = new LoanProjection();
+                }
+            }
+        }
+        LoanProjection result = state;
+        replayTemplate.execute(status -> ledgerEventRepository.replay(result.getLastEventId(), at, result::apply));
+        return sorted(result);
+    }
+
+    /**
+     * Writes a snapshot of the projection if events were applied since the last one, and deletes the snapshots
+     * beyond the retention.
+     *
+     * @throws IOException if the snapshot cannot be written
+     */
+    synchronized void snapshot() throws IOException {
+        LoanProjection copy;
+        snapshotLock.writeLock().lock();
+        try {
+            long lastEventId = projection.getLastEventId();
+            if (lastEventId == 0 || snapshots.containsKey(lastEventId)) {
+                return;
+            }
+            copy = projection.copy();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+        long started = System.nanoTime();
+        LoanSnapshot snapshot = LoanSnapshot.write(directory, copy);
+        snapshotTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        snapshots.put(snapshot.getLastEventId(), snapshot);
+        while (snapshots.size() > snapshotRetention) {
+            Files.deleteIfExists(snapshots.pollFirstEntry().getValue().getPath());
+        }
+    }
+
+    private void snapshotQuietly() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write a loan snapshot; retrying at the next interval", e);
+        }
+    }
+
+    /**
+     * Takes the snapshot lock shared and the stripes of the books, in stripe order.
+     *
+     * @return releases the locks; must run on the same thread
+     */
+    private Runnable lock(List<Long> bookIds) {
+        int[] locked = bookIds.stream().mapToInt(EventSourcedLedger::stripe).distinct().sorted().toArray();
+        snapshotLock.readLock().lock();
+        for (int index : locked) {
+            stripes[index].lock();
+        }
+        return () -> {
+            for (int i = locked.length - 1; i >= 0; i--) {
+                stripes[locked[i]].unlock();
+            }
+            snapshotLock.readLock().unlock();
+        };
+    }
+
+    /**
+     * Applies the events once they are committed and then releases the locks: at once in auto-commit, or when
+     * the caller's transaction commits, so the projection never shows an event that was rolled back.
+     */
+    private void applyWhenCommitted(List<LoanEvent> events, Runnable unlock) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            try {
+                events.forEach(projection::apply);
+            } finally {
+                unlock.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(projection::apply);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                unlock.run();
+            }
+        });
+    }
+
+    private static int stripe(long bookId) {
+        return (int) Math.floorMod(bookId, (long) STRIPES);
+    }
+
+    private static List<ActiveLoan> sorted(LoanProjection state) {
+        return state.getLoans().stream().sorted(Comparator.comparingLong(ActiveLoan::bookId)).toList();
+    }
+}
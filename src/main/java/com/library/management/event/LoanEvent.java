@@ -0,0 +1,16 @@
+package com.library.management.event;
+
+/**
+ * An immutable borrow or return event of the event-sourced ledger, as stored in {@code ledger_event}.
+ *
+ * @param id         the ID of the event; events of the same book are numbered in the order they happened
+ * @param borrow     {@code true} for a borrow, {@code false} for a return
+ * @param bookId     the ID of the book
+ * @param borrowerId the ID of the borrower
+ * @param micros     when the event was appended, in microseconds since the epoch
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record LoanEvent(long id, boolean borrow, long bookId, long borrowerId, long micros) {
+}
@@ -0,0 +1,124 @@
+package com.library.management.event;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The active loans obtained by applying loan events in order, keyed by book ID.
+ * <p>
+ * The state of a book only depends on its latest event: a borrow puts the book on loan and a return takes it
+ * off. {@link #getLastEventId()} is the highest event ID applied; replaying the events after it, in ID order,
+ * brings the projection up to date.
+ * </p>
+ *
+ * <p>
+ * Events of different books may be applied concurrently; events of the same book must be applied in order.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class LoanProjection {
+
+    private final ConcurrentHashMap<Long, ActiveLoan> loans = new ConcurrentHashMap<>();
+    private final AtomicLong lastEventId = new AtomicLong();
+    private final AtomicLong lastEventMicros = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * Applies the next event of a book.
+     *
+     * @param event the event
+     */
+    public void apply(LoanEvent event) {
+        if (event.borrow()) {
+            loans.put(event.bookId(), new ActiveLoan(event.id(), event.bookId(), event.borrowerId(), event.micros()));
+        } else {
+            loans.remove(event.bookId());
+        }
+        lastEventId.accumulateAndGet(event.id(), Math::max);
+        lastEventMicros.accumulateAndGet(event.micros(), Math::max);
+    }
+
+    /**
+     * Adds a loan read back from a snapshot.
+     *
+     * @param loan the loan
+     */
+    void restore(ActiveLoan loan) {
+        loans.put(loan.bookId(), loan);
+    }
+
+    /**
+     * Sets the position read back from a snapshot.
+     */
+    void restore(long eventId, long eventMicros) {
+        lastEventId.set(eventId);
+        lastEventMicros.set(eventMicros);
+    }
+
+    /**
+     * Checks whether the given book is on loan.
+     *
+     * @param bookId the ID of the book
+     * @return {@code true} if the latest event of the book is a borrow
+     */
+    public boolean isBorrowed(long bookId) {
+        return loans.containsKey(bookId);
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the active loans.
+     *
+     * @return the active loans, in no particular order
+     */
+    public Collection<ActiveLoan> getLoans() {
+        return Collections.unmodifiableCollection(loans.values());
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the books on loan.
+     *
+     * @return the IDs of the books on loan
+     */
+    public Set<Long> getBorrowedBookIds() {
+        return Collections.unmodifiableSet(loans.keySet());
+    }
+
+    public int size() {
+        return loans.size();
+    }
+
+    /**
+     * Returns the highest event ID applied.
+     *
+     * @return the event ID; {@code 0} if no event was applied
+     */
+    public long getLastEventId() {
+        return lastEventId.get();
+    }
+
+    /**
+     * Returns the latest append time among the events applied.
+     *
+     * @return the time in microseconds since the epoch; {@link Long#MIN_VALUE} if no event was applied
+     */
+    public long getLastEventMicros() {
+        return lastEventMicros.get();
+    }
+
+    /**
+     * Copies the projection; the source must not change while it is copied.
+     *
+     * @return an independent copy
+     */
+    public LoanProjection copy() {
+        LoanProjection copy = new LoanProjection();
+        copy.loans.putAll(loans);
+        copy.restore(lastEventId.get(), lastEventMicros.get());
+        return copy;
+    }
+}
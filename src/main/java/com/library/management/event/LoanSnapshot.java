@@ -0,0 +1,161 @@
+package com.library.management.event;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * A file holding a {@link LoanProjection} as of a given event, to restart without replaying every event.
+ * <p>
+ * The header records the highest event ID and the latest event time covered, so a snapshot can be chosen for
+ * a point in time without reading the loans. A CRC32C of the whole content closes the file.
+ * </p>
+ *
+ * <pre>
+ * int magic | int loanCount | long lastEventId | long lastEventMicros |
+ *     (long eventId, long bookId, long borrowerId, long borrowedMicros)* | int crc32c
+ * </pre>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class LoanSnapshot {
+
+    /**
+     * File name extension of complete snapshots.
+     */
+    public static final String EXTENSION = ".snap";
+
+    private static final String PREFIX = "loans-";
+
+    private static final int MAGIC = 0x4C534E31;
+
+    private final Path path;
+    private final int loanCount;
+    private final long lastEventId;
+    private final long lastEventMicros;
+
+    private LoanSnapshot(Path path, int loanCount, long lastEventId, long lastEventMicros) {
+        this.path = path;
+        this.loanCount = loanCount;
+        this.lastEventId = lastEventId;
+        this.lastEventMicros = lastEventMicros;
+    }
+
+    /**
+     * Writes the projection to a new snapshot in the directory, named after its last event ID.
+     * <p>
+     * The file is written under a temporary name, forced to disk and then atomically renamed, so a crash
+     * never leaves a partial snapshot under its final name.
+     * </p>
+     *
+     * @param directory  the snapshot directory
+     * @param projection the projection; must not change while it is written
+     * @return the snapshot
+     * @throws IOException if the file cannot be written
+     */
+    public static LoanSnapshot write(Path directory, LoanProjection projection) throws IOException {
+        Path path = directory.resolve(String.format("%s%019d%s", PREFIX, projection.getLastEventId(), EXTENSION));
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        CRC32C crc = new CRC32C();
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile())) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc),
+                    1 << 16));
+            out.writeInt(MAGIC);
+            out.writeInt(projection.size());
+            out.writeLong(projection.getLastEventId());
+            out.writeLong(projection.getLastEventMicros());
+            int written = 0;
+            for (ActiveLoan loan : projection.getLoans()) {
+                out.writeLong(loan.eventId());
+                out.writeLong(loan.bookId());
+                out.writeLong(loan.borrowerId());
+                out.writeLong(loan.borrowedMicros());
+                written++;
+            }
+            if (written != projection.size()) {
+                throw new IllegalStateException("The projection changed while it was written");
+            }
+            out.flush();
+            // Outside the checksum, which covers everything before it
+            new DataOutputStream(file).writeInt((int) crc.getValue());
+            file.getChannel().force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        return new LoanSnapshot(path, projection.size(), projection.getLastEventId(),
+                projection.getLastEventMicros());
+    }
+
+    /**
+     * Reads the header of an existing snapshot; the loans are only read by {@link #load}.
+     *
+     * @param path the path of the snapshot
+     * @return the snapshot
+     * @throws IOException if the file cannot be read or is not a snapshot
+     */
+    public static LoanSnapshot open(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(Files.newInputStream(path))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a loan snapshot: " + path);
+            }
+            return new LoanSnapshot(path, in.readInt(), in.readLong(), in.readLong());
+        } catch (EOFException e) {
+            throw new IOException("Not a loan snapshot: " + path, e);
+        }
+    }
+
+    /**
+     * Reads the loans of the snapshot into an empty projection and verifies the checksum.
+     *
+     * @param target the projection to fill in; incomplete if this fails
+     * @throws IOException if the file cannot be read or is corrupt
+     */
+    public void load(LoanProjection target) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (InputStream file = new BufferedInputStream(Files.newInputStream(path), 1 << 16)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(file, crc));
+            in.readInt();
+            int count = in.readInt();
+            long eventId = in.readLong();
+            long eventMicros = in.readLong();
+            for (int i = 0; i < count; i++) {
+                target.restore(new ActiveLoan(in.readLong(), in.readLong(), in.readLong(), in.readLong()));
+            }
+            int expected = (int) crc.getValue();
+            if (new DataInputStream(file).readInt() != expected || file.read() != -1) {
+                throw new IOException("Corrupt loan snapshot: " + path);
+            }
+            target.restore(eventId, eventMicros);
+        } catch (EOFException e) {
+            throw new IOException("Truncated loan snapshot: " + path, e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getLoanCount() {
+        return loanCount;
+    }
+
+    public long getLastEventId() {
+        return lastEventId;
+    }
+
+    public long getLastEventMicros() {
+        return lastEventMicros;
+    }
+}
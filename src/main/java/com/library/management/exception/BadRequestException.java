@@ -0,0 +1,27 @@
+package com.library.management.exception;
+
+/**
+ * Exception thrown when a request carries a parameter the application cannot interpret,
+ * such as a malformed pagination cursor.
+ * <p>
+ * This exception typically results in an HTTP 400 Bad Request status code
+ * in web-based applications.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class BadRequestException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new BadRequestException with the specified detail message.
+     *
+     * @param message the detail message explaining what is wrong with the request
+     */
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.library.management.exception;
+
+/**
+ * Exception thrown when a request refers to a record that does not exist,
+ * such as an unknown book ID.
+ * <p>
+ * This exception typically results in an HTTP 404 Not Found status code
+ * in web-based applications.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class NotFoundException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a new NotFoundException with the specified detail message.
+     *
+     * @param message the detail message naming the missing record
+     */
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
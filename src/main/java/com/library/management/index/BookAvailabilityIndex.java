@@ -0,0 +1,86 @@
+package com.library.management.index;
+
+import com.library.management.repository.LedgerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process index of the books that are currently on loan, keyed by book ID.
+ * <p>
+ * The index is only used by the write-behind and event-sourced ledger modes, which decide conflicts
+ * before the loan reaches the database. It is loaded when their ledger starts, from the
+ * {@code ledger_active} table or from the event projection, and kept up to date by
+ * {@link com.library.management.ledger.WriteBehindLedgerWriter} or
+ * {@link com.library.management.ledger.EventSourcedLedgerWriter} on every borrow and return.
+ * </p>
+ *
+ * <p>
+ * The index only sees the borrows and returns made through this instance, which is why those modes
+ * assume a single instance. The default mode does not load it: its conditional statements decide
+ * every conflict in one round trip, which an index that other instances do not update could not
+ * spare.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.4
+ * @since 2026-10-17
+ */
+@Component
+public class BookAvailabilityIndex {
+
+    private final Set<Long> borrowedBooks = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    /**
+     * Loads all active loans from the {@code ledger_active} table.
+     */
+    public void load() {
+        load(ledgerRepository.findActiveBookIds());
+    }
+
+    /**
+     * Replaces the index with the given books, for ledger modes whose active loans are not in {@code ledger}.
+     *
+     * @param borrowedBookIds the IDs of the books on loan
+     */
+    public void load(Collection<Long> borrowedBookIds) {
+        borrowedBooks.clear();
+        borrowedBooks.addAll(borrowedBookIds);
+    }
+
+    /**
+     * Checks whether the given book is currently borrowed or has a borrow in progress.
+     *
+     * @param bookId the ID of the book
+     * @return {@code true} if the book is not available for borrowing
+     */
+    public boolean isBorrowed(Long bookId) {
+        return borrowedBooks.contains(bookId);
+    }
+
+    /**
+     * Atomically marks the given book as borrowed.
+     *
+     * @param bookId the ID of the book
+     * @return {@code true} if the book was available and is now marked, {@code false} otherwise
+     */
+    public boolean markBorrowed(Long bookId) {
+        return borrowedBooks.add(bookId);
+    }
+
+    /**
+     * Atomically marks the given book as available.
+     *
+     * @param bookId the ID of the book
+     * @return {@code true} if the book was borrowed and is now marked available, {@code false} otherwise
+     */
+    public boolean markAvailable(Long bookId) {
+        return borrowedBooks.remove(bookId);
+    }
+}
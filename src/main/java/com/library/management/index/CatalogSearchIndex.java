@@ -0,0 +1,322 @@
+package com.library.management.index;
+
+import com.library.management.model.Book;
+import com.library.management.repository.BookRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over the titles and authors of the catalog, keyed by book ID.
+ * <p>
+ * Titles and authors are lower-cased, stripped of accents and split into words. Each word maps to a
+ * posting list of the IDs of the books containing it, sorted by ID, with a flag per book telling whether
+ * the word occurs in the title, the author or both. A search returns the books containing every word of
+ * the query, ranked by the rarity of the words and by where they occur, without touching the database.
+ * </p>
+ *
+ * <p>
+ * The index is loaded from the {@code book} table at startup and extended by
+ * {@link com.library.management.service.impl.BookServiceImpl} and the bulk import once the transaction
+ * adding the books commits. Books are never updated or deleted, so the index never needs to remove entries,
+ * and a book added again, such as one saved while the index is loading, is skipped.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@Component
+public class CatalogSearchIndex {
+
+    /**
+     * Number of books read per query while loading the index.
+     */
+    static final int LOAD_BATCH_SIZE = 10000;
+
+    private static final byte TITLE = 1;
+    private static final byte AUTHOR = 2;
+
+    private static final double TITLE_WEIGHT = 2.0;
+    private static final double AUTHOR_WEIGHT = 1.0;
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<String, Postings> postingsByTerm = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * IDs of the indexed books, so that each book counts once in the word rarity.
+     */
+    private Postings documents = new Postings();
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    /**
+     * Loads all books from the {@code book} table, in batches ordered by ID.
+     */
+    @PostConstruct
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            postingsByTerm.clear();
+            documents = new Postings();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        PageRequest batch = PageRequest.of(0, LOAD_BATCH_SIZE, Sort.by("id"));
+        long lastId = 0L;
+        Slice<Book> books;
+        do {
+            books = bookRepository.findByIdGreaterThan(lastId, batch);
+            add(books.getContent());
+            if (books.hasContent()) {
+                lastId = books.getContent().get(books.getNumberOfElements() - 1).getId();
+            }
+        } while (books.hasNext());
+    }
+
+    /**
+     * Adds newly saved books to the index.
+     * <p>
+     * Inside a transaction the books are added once the transaction commits, so that searches never
+     * return books that were rolled back.
+     * </p>
+     *
+     * @param books the saved books, with their IDs assigned
+     */
+    public void index(Collection<Book> books) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            add(books);
+            return;
+        }
+        List<Book> pending = List.copyOf(books);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                add(pending);
+            }
+        });
+    }
+
+    /**
+     * Finds the books whose title or author contain every word of the query.
+     * <p>
+     * Rare words weigh more than common ones, and words found in the title weigh more than words found
+     * in the author. Books with the same score are returned in ID order.
+     * </p>
+     *
+     * @param query the words to look for
+     * @param limit the maximum number of results
+     * @return the IDs of the best matching books, best match first
+     */
+    public List<Long> search(String query, int limit) {
+        Set<String> terms = new LinkedHashSet<>(tokenize(query));
+        if (terms.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            double[] idf = new double[terms.size()];
+            int t = 0;
+            for (String term : terms) {
+                Postings postings = postingsByTerm.get(term);
+                if (postings == null) {
+                    return List.of();
+                }
+                lists[t++] = postings;
+            }
+            // Walk the rarest list and look the candidates up in the others
+            Arrays.sort(lists, Comparator.comparingInt(postings -> postings.size));
+            double bestPossible = 0;
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1.0 + (double) documents.size / lists[i].size);
+                bestPossible += idf[i] * weight(lists[i].allFields);
+            }
+
+            PriorityQueue<ScoredBook> top = new PriorityQueue<>(limit + 1, ScoredBook.WORST_FIRST);
+            Postings rarest = lists[0];
+            candidates:
+            for (int i = 0; i < rarest.size; i++) {
+                long id = rarest.ids[i];
+                double score = idf[0] * weight(rarest.fields[i]);
+                for (int j = 1; j < lists.length; j++) {
+                    int position = lists[j].indexOf(id);
+                    if (position < 0) {
+                        continue candidates;
+                    }
+                    score += idf[j] * weight(lists[j].fields[position]);
+                }
+                // Candidates come in ID order, so one that only ties the worst result kept loses the tie
+                if (top.size() == limit && score <= top.peek().score) {
+                    continue;
+                }
+                top.add(new ScoredBook(id, score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+                if (top.size() == limit && top.peek().score >= bestPossible) {
+                    // No later candidate can beat the results kept
+                    break;
+                }
+            }
+
+            List<ScoredBook> ranked = new ArrayList<>(top);
+            ranked.sort(ScoredBook.WORST_FIRST.reversed());
+            List<Long> ids = new ArrayList<>(ranked.size());
+            for (ScoredBook book : ranked) {
+                ids.add(book.id);
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of books in the index.
+     *
+     * @return the number of indexed books
+     */
+    public long size() {
+        lock.readLock().lock();
+        try {
+            return documents.size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits a text into lower-case words without accents.
+     *
+     * @param text the text to split
+     * @return the words of the text, in order; empty if the text is {@code null} or has no words
+     */
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(folded.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void add(Collection<Book> books) {
+        if (books.isEmpty()) {
+            return;
+        }
+        List<Map<String, Byte>> fieldsPerBook = new ArrayList<>(books.size());
+        for (Book book : books) {
+            Map<String, Byte> fields = new LinkedHashMap<>();
+            for (String token : tokenize(book.getTitle())) {
+                fields.merge(token, TITLE, (a, b) -> (byte) (a | b));
+            }
+            for (String token : tokenize(book.getAuthor())) {
+                fields.merge(token, AUTHOR, (a, b) -> (byte) (a | b));
+            }
+            fieldsPerBook.add(fields);
+        }
+
+        lock.writeLock().lock();
+        try {
+            int i = 0;
+            for (Book book : books) {
+                Map<String, Byte> fields = fieldsPerBook.get(i++);
+                if (!documents.add(book.getId(), (byte) 0)) {
+                    continue;
+                }
+                for (Map.Entry<String, Byte> field : fields.entrySet()) {
+                    postingsByTerm.computeIfAbsent(field.getKey(), k -> new Postings())
+                            .add(book.getId(), field.getValue());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static double weight(byte fields) {
+        return ((fields & TITLE) != 0 ? TITLE_WEIGHT : 0) + ((fields & AUTHOR) != 0 ? AUTHOR_WEIGHT : 0);
+    }
+
+    /**
+     * Book IDs containing one word, sorted by ID, with the fields the word occurs in.
+     */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private byte[] fields = new byte[4];
+        private int size;
+        private byte allFields;
+
+        /**
+         * Adds a book, or the field to the fields of a book already in the list.
+         *
+         * @return {@code true} if the book was not in the list yet
+         */
+        boolean add(long id, byte field) {
+            allFields |= field;
+            int position = size > 0 && ids[size - 1] < id ? -size - 1 : indexOf(id);
+            if (position >= 0) {
+                fields[position] |= field;
+                return false;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                fields = Arrays.copyOf(fields, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            System.arraycopy(fields, position, fields, position + 1, size - position);
+            ids[position] = id;
+            fields[position] = field;
+            size++;
+            return true;
+        }
+
+        int indexOf(long id) {
+            return Arrays.binarySearch(ids, 0, size, id);
+        }
+    }
+
+    private record ScoredBook(long id, double score) {
+
+        /**
+         * Orders by ascending score, then by descending ID, so the head of a queue is the first to drop.
+         */
+        static final Comparator<ScoredBook> WORST_FIRST = Comparator.comparingDouble(ScoredBook::score)
+                .thenComparing(Comparator.comparingLong(ScoredBook::id).reversed());
+    }
+}
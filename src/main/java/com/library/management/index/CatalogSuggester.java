@@ -0,0 +1,298 @@
+package com.library.management.index;
+
+import com.library.management.dto.SuggestionDTO;
+import com.library.management.enums.SuggestionType;
+import com.library.management.repository.BookIsbnRepository;
+import com.library.management.repository.BookIsbnRepository.CopyCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In-memory autocomplete over the distinct titles and authors of the catalog, ranked by number of copies.
+ * <p>
+ * Every title and author is normalized like the {@link CatalogSearchIndex} does (lower case, no accents,
+ * single spaces) and stored under one key per word it contains, so that "mart" completes both
+ * "Martin Eden" and "Robert C. Martin". The keys are kept in one sorted array: the keys starting with a
+ * prefix form a contiguous range, found by binary search, and a max segment tree over the copy counts
+ * yields the {@code k} most-held suggestions of that range in {@code O(k log n)}.
+ * </p>
+ *
+ * <p>
+ * The structure is immutable. It is rebuilt in the background from the copy counters of the
+ * {@code book_isbn} master records every {@code catalog.suggest.refresh-interval} and swapped in with a
+ * single volatile write, so lookups never wait for a rebuild or for {@code addBook}; new titles show up
+ * after the next rebuild.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+public class CatalogSuggester {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSuggester.class);
+
+    @Autowired
+    private BookIsbnRepository bookIsbnRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Rebuilds the suggestions from the {@code book_isbn} master records and swaps them in.
+     * <p>
+     * Runs on the scheduler thread shortly after startup and then at a fixed delay; a failed rebuild
+     * keeps serving the previous suggestions.
+     * </p>
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${catalog.suggest.refresh-interval:60s}")
+    public void rebuild() {
+        try {
+            long start = System.nanoTime();
+            Snapshot rebuilt = build(bookIsbnRepository.countCopiesByTitle(), bookIsbnRepository.countCopiesByAuthor());
+            snapshot = rebuilt;
+            log.debug("Rebuilt {} suggestions under {} keys in {} ms", rebuilt.texts.length, rebuilt.keys.length,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Could not rebuild the catalog suggestions, keeping the previous ones", e);
+        }
+    }
+
+    /**
+     * Finds the titles and authors containing a word that starts with the given prefix.
+     * <p>
+     * The prefix may span several words; its last word may be incomplete.
+     * </p>
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of suggestions
+     * @return the matching suggestions, most copies first
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit < 1 || current.keys.length == 0) {
+            return List.of();
+        }
+        if (!Character.isLetterOrDigit(prefix.charAt(prefix.length() - 1))) {
+            // The last word is complete, so it must not match longer words
+            key = key + " ";
+        }
+        int from = lowerBound(current.keys, key);
+        int to = lowerBound(current.keys, key + Character.MAX_VALUE);
+        return current.top(from, to, limit);
+    }
+
+    /**
+     * Returns the number of distinct titles and authors currently suggested.
+     *
+     * @return the number of suggestions in the current snapshot
+     */
+    public int size() {
+        return snapshot.texts.length;
+    }
+
+    /**
+     * Builds the suggestions from the copy counts of titles and authors.
+     *
+     * @param titles  the copies per distinct title
+     * @param authors the copies per distinct author
+     * @return the immutable suggestion structure
+     */
+    static Snapshot build(List<CopyCount> titles, List<CopyCount> authors) {
+        List<String> texts = new ArrayList<>();
+        List<SuggestionType> types = new ArrayList<>();
+        List<Long> copies = new ArrayList<>();
+        List<String> normalized = new ArrayList<>();
+        collect(titles, SuggestionType.TITLE, texts, types, copies, normalized);
+        collect(authors, SuggestionType.AUTHOR, texts, types, copies, normalized);
+
+        // One key per word start of each suggestion
+        List<Key> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.size(); i++) {
+            String text = normalized.get(i);
+            int start = 0;
+            while (true) {
+                keys.add(new Key(text.substring(start), i));
+                int space = text.indexOf(' ', start);
+                if (space < 0) {
+                    break;
+                }
+                start = space + 1;
+            }
+        }
+        keys.sort(Comparator.comparing(Key::text));
+
+        String[] sortedKeys = new String[keys.size()];
+        int[] suggestionOf = new int[keys.size()];
+        for (int i = 0; i < keys.size(); i++) {
+            sortedKeys[i] = keys.get(i).text();
+            suggestionOf[i] = keys.get(i).suggestion();
+        }
+        long[] copyCounts = new long[copies.size()];
+        for (int i = 0; i < copyCounts.length; i++) {
+            copyCounts[i] = copies.get(i);
+        }
+        return new Snapshot(sortedKeys, suggestionOf, texts.toArray(new String[0]),
+                types.toArray(new SuggestionType[0]), copyCounts);
+    }
+
+    /**
+     * Merges the texts differing only by case or accents, keeping the spelling with the most copies.
+     */
+    private static void collect(List<CopyCount> counts, SuggestionType type, List<String> texts,
+                                List<SuggestionType> types, List<Long> copies, List<String> normalized) {
+        Map<String, Integer> byKey = new HashMap<>();
+        Map<String, Long> bestSpelling = new HashMap<>();
+        for (CopyCount count : counts) {
+            String key = normalize(count.getText());
+            if (key.isEmpty()) {
+                continue;
+            }
+            Integer index = byKey.get(key);
+            if (index == null) {
+                byKey.put(key, texts.size());
+                bestSpelling.put(key, count.getCopies());
+                texts.add(count.getText());
+                types.add(type);
+                copies.add(count.getCopies());
+                normalized.add(key);
+            } else {
+                copies.set(index, copies.get(index) + count.getCopies());
+                if (count.getCopies() > bestSpelling.get(key)) {
+                    bestSpelling.put(key, count.getCopies());
+                    texts.set(index, count.getText());
+                }
+            }
+        }
+    }
+
+    private static String normalize(String text) {
+        return String.join(" ", CatalogSearchIndex.tokenize(text));
+    }
+
+    private static int lowerBound(String[] keys, String key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private record Key(String text, int suggestion) {
+    }
+
+    /**
+     * Immutable snapshot of the suggestions: sorted keys pointing to suggestions, and a max segment tree
+     * over the copy counts of the keys.
+     */
+    static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(new String[0], new int[0], new String[0],
+                new SuggestionType[0], new long[0]);
+
+        private final String[] keys;
+        private final int[] suggestionOf;
+        private final String[] texts;
+        private final SuggestionType[] types;
+        private final long[] copies;
+
+        /**
+         * Leaves at {@code [n, 2n)} hold the key positions; each inner node the position with the most copies
+         * among its children.
+         */
+        private final int[] tree;
+
+        Snapshot(String[] keys, int[] suggestionOf, String[] texts, SuggestionType[] types, long[] copies) {
+            this.keys = keys;
+            this.suggestionOf = suggestionOf;
+            this.texts = texts;
+            this.types = types;
+            this.copies = copies;
+            int n = keys.length;
+            this.tree = new int[2 * n];
+            for (int i = 0; i < n; i++) {
+                tree[n + i] = i;
+            }
+            for (int i = n - 1; i > 0; i--) {
+                tree[i] = better(tree[2 * i], tree[2 * i + 1]);
+            }
+        }
+
+        /**
+         * Returns the suggestions with the most copies among the keys in {@code [from, to)}.
+         */
+        List<SuggestionDTO> top(int from, int to, int limit) {
+            List<SuggestionDTO> result = new ArrayList<>(limit);
+            if (from >= to) {
+                return result;
+            }
+            // Ranges ordered by their best key; popping one emits its best key and splits the rest in two
+            PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> compare(a[2], b[2]));
+            ranges.add(new int[]{from, to, best(from, to)});
+            BitSet emitted = new BitSet(texts.length);
+            while (!ranges.isEmpty() && result.size() < limit) {
+                int[] range = ranges.poll();
+                int position = range[2];
+                int suggestion = suggestionOf[position];
+                if (!emitted.get(suggestion)) {
+                    emitted.set(suggestion);
+                    result.add(new SuggestionDTO(texts[suggestion], types[suggestion], copies[suggestion]));
+                }
+                if (range[0] < position) {
+                    ranges.add(new int[]{range[0], position, best(range[0], position)});
+                }
+                if (position + 1 < range[1]) {
+                    ranges.add(new int[]{position + 1, range[1], best(position + 1, range[1])});
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Returns the key position with the most copies in {@code [from, to)}.
+         */
+        private int best(int from, int to) {
+            int n = keys.length;
+            int best = from;
+            for (int low = from + n, high = to + n; low < high; low >>= 1, high >>= 1) {
+                if ((low & 1) == 1) {
+                    best = better(best, tree[low++]);
+                }
+                if ((high & 1) == 1) {
+                    best = better(best, tree[--high]);
+                }
+            }
+            return best;
+        }
+
+        private int better(int a, int b) {
+            return compare(a, b) <= 0 ? a : b;
+        }
+
+        /**
+         * Orders key positions by descending copies, then by key order.
+         */
+        private int compare(int a, int b) {
+            int byCopies = Long.compare(copies[suggestionOf[b]], copies[suggestionOf[a]]);
+            return byCopies != 0 ? byCopies : Integer.compare(a, b);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.library.management.ledger;
+
+import com.library.management.enums.LedgerWriteOutcome;
+import com.library.management.event.EventSourcedLedger;
+import com.library.management.exception.ConflictException;
+import com.library.management.model.Ledger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * {@link LedgerWriter} of {@code ledger.mode=event-sourced}.
+ * <p>
+ * {@code ledger} is not written at all: borrows and returns are appended as events by the
+ * {@link EventSourcedLedger}, whose in-memory projection of the active loans has the final say over conflicts.
+ * The availability index rejects most of them before the projection's lock is taken.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.mode", havingValue = "event-sourced")
+public class EventSourcedLedgerWriter extends IndexedLedgerWriter {
+
+    @Autowired
+    private EventSourcedLedger eventSourcedLedger;
+
+    @Override
+    public LedgerWriteOutcome write(boolean isBorrow, Long bookId, Long borrowerId) {
+        if (!claim(isBorrow, bookId)) {
+            return LedgerWriteOutcome.CONFLICT;
+        }
+        boolean appended;
+        try {
+            appended = eventSourcedLedger.append(isBorrow, bookId, borrowerId);
+        } catch (ConflictException e) {
+            // The index disagreed with the projection; its change already matches it
+            return LedgerWriteOutcome.CONFLICT;
+        } catch (RuntimeException e) {
+            release(isBorrow, bookId);
+            throw e;
+        }
+        if (!appended) {
+            release(isBorrow, bookId);
+            return LedgerWriteOutcome.MISSING;
+        }
+        return LedgerWriteOutcome.WRITTEN;
+    }
+
+    @Override
+    public int[] writeAll(boolean isBorrow, List<Ledger> entries) {
+        boolean[] appended;
+        try {
+            appended = eventSourcedLedger.appendAll(isBorrow, entries);
+        } catch (RuntimeException e) {
+            releaseAll(isBorrow, entries);
+            throw e;
+        }
+        int[] counts = new int[appended.length];
+        for (int i = 0; i < appended.length; i++) {
+            // A refused item means the index disagreed with the projection; its change already matches it
+            counts[i] = appended[i] ? 1 : 0;
+        }
+        return counts;
+    }
+}
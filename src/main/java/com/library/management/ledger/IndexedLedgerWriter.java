@@ -0,0 +1,50 @@
+package com.library.management.ledger;
+
+import com.library.management.index.BookAvailabilityIndex;
+import com.library.management.model.Ledger;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+/**
+ * Base of the {@link LedgerWriter}s whose conflicts are decided by the {@link BookAvailabilityIndex} before the
+ * loan reaches the database: those of the write-behind and event-sourced modes.
+ * <p>
+ * The index only sees the borrows and returns made through this instance, which is why those modes assume a
+ * single instance. Each claim marks the book in the index; a write that does not go through reverts it.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+abstract class IndexedLedgerWriter implements LedgerWriter {
+
+    @Autowired
+    protected BookAvailabilityIndex availabilityIndex;
+
+    @Override
+    public boolean claim(boolean isBorrow, Long bookId) {
+        return isBorrow ? availabilityIndex.markBorrowed(bookId) : availabilityIndex.markAvailable(bookId);
+    }
+
+    /**
+     * Reverts the claim of a borrow or return that was not written.
+     */
+    protected void release(boolean isBorrow, Long bookId) {
+        if (isBorrow) {
+            availabilityIndex.markAvailable(bookId);
+        } else {
+            availabilityIndex.markBorrowed(bookId);
+        }
+    }
+
+    /**
+     * Reverts the claims of the batch items after the batch failed.
+     */
+    protected void releaseAll(boolean isBorrow, List<Ledger> entries) {
+        for (Ledger entry : entries) {
+            release(isBorrow, entry.getBookId());
+        }
+    }
+}
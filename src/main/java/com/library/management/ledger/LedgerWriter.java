@@ -0,0 +1,51 @@
+package com.library.management.ledger;
+
+import com.library.management.enums.LedgerWriteOutcome;
+import com.library.management.model.Ledger;
+
+import java.util.List;
+
+/**
+ * Writes borrows and returns in the way of the configured {@code ledger.mode}.
+ * <p>
+ * Exactly one implementation is registered: {@link SyncLedgerWriter} by default, {@link WriteBehindLedgerWriter}
+ * with {@code ledger.mode=write-behind} and {@link EventSourcedLedgerWriter} with
+ * {@code ledger.mode=event-sourced}. The writers only tell why a write was refused; explaining it to the caller,
+ * such as reporting a missing book first, is left to
+ * {@link com.library.management.service.impl.LedgerServiceImpl}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface LedgerWriter {
+
+    /**
+     * Writes a single borrow or return.
+     *
+     * @param isBorrow   {@code true} for a borrow, {@code false} for a return
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @return whether the borrow or return was written, or why not
+     */
+    LedgerWriteOutcome write(boolean isBorrow, Long bookId, Long borrowerId);
+
+    /**
+     * Claims the book of a batch item whose book and borrower exist, before the batch is written.
+     *
+     * @param isBorrow {@code true} for a borrow, {@code false} for a return
+     * @param bookId   the ID of the book
+     * @return {@code false} if the item is already known to conflict and must be left out of the batch
+     */
+    boolean claim(boolean isBorrow, Long bookId);
+
+    /**
+     * Writes the claimed batch items, releasing their claims if the write fails.
+     *
+     * @param isBorrow {@code true} for borrows, {@code false} for returns
+     * @param entries  the items; only {@code bookId} and {@code borrowerId} are used
+     * @return one row count per item, in the same order; {@code 0} for an item that conflicts
+     */
+    int[] writeAll(boolean isBorrow, List<Ledger> entries);
+}
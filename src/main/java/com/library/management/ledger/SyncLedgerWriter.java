@@ -0,0 +1,51 @@
+package com.library.management.ledger;
+
+import com.library.management.enums.LedgerWriteOutcome;
+import com.library.management.model.Ledger;
+import com.library.management.repository.LedgerBatchRepository;
+import com.library.management.repository.LedgerRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default {@link LedgerWriter}, active with {@code ledger.mode=sync}.
+ * <p>
+ * A borrow is a single conditional insert into {@code ledger} and {@code ledger_active} and a return a single
+ * conditional update; the affected row count decides every conflict, so nothing is claimed up front.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerRepository
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.mode", havingValue = "sync", matchIfMissing = true)
+public class SyncLedgerWriter implements LedgerWriter {
+
+    @Autowired
+    private LedgerRepository ledgerRepository;
+
+    @Autowired
+    private LedgerBatchRepository ledgerBatchRepository;
+
+    @Override
+    public LedgerWriteOutcome write(boolean isBorrow, Long bookId, Long borrowerId) {
+        boolean written = isBorrow ? ledgerRepository.insertBorrow(bookId, borrowerId).isPresent()
+                : ledgerRepository.markReturned(bookId, borrowerId) > 0;
+        return written ? LedgerWriteOutcome.WRITTEN : LedgerWriteOutcome.CONFLICT;
+    }
+
+    @Override
+    public boolean claim(boolean isBorrow, Long bookId) {
+        return true;
+    }
+
+    @Override
+    public int[] writeAll(boolean isBorrow, List<Ledger> entries) {
+        return isBorrow ? ledgerBatchRepository.insertBorrows(entries) : ledgerBatchRepository.markReturned(entries);
+    }
+}
@@ -0,0 +1,67 @@
+package com.library.management.ledger;
+
+import com.library.management.enums.LedgerWriteOutcome;
+import com.library.management.model.Ledger;
+import com.library.management.repository.LedgerWalRepository;
+import com.library.management.wal.WriteBehindLedger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link LedgerWriter} of {@code ledger.mode=write-behind}.
+ * <p>
+ * Borrows and returns are claimed in the availability index, checked against the book and borrower with one
+ * query, and acknowledged once logged by the {@link WriteBehindLedger}, which commits them to the table shortly
+ * after. The table lags behind, so it cannot decide conflicts.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.mode", havingValue = "write-behind")
+public class WriteBehindLedgerWriter extends IndexedLedgerWriter {
+
+    @Autowired
+    private WriteBehindLedger writeBehindLedger;
+
+    @Autowired
+    private LedgerWalRepository ledgerWalRepository;
+
+    @Override
+    public LedgerWriteOutcome write(boolean isBorrow, Long bookId, Long borrowerId) {
+        if (!claim(isBorrow, bookId)) {
+            return LedgerWriteOutcome.CONFLICT;
+        }
+        boolean[] existence = ledgerWalRepository.findExistence(bookId, borrowerId);
+        if (!existence[0] || !existence[1]) {
+            release(isBorrow, bookId);
+            return LedgerWriteOutcome.MISSING;
+        }
+        try {
+            writeBehindLedger.record(isBorrow, bookId, borrowerId);
+        } catch (RuntimeException e) {
+            release(isBorrow, bookId);
+            throw e;
+        }
+        return LedgerWriteOutcome.WRITTEN;
+    }
+
+    @Override
+    public int[] writeAll(boolean isBorrow, List<Ledger> entries) {
+        try {
+            writeBehindLedger.recordAll(isBorrow, entries);
+        } catch (RuntimeException e) {
+            releaseAll(isBorrow, entries);
+            throw e;
+        }
+        int[] counts = new int[entries.size()];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+}
@@ -0,0 +1,61 @@
+package com.library.management.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity representing the master record of an ISBN in the library management system.
+ * <p>
+ * There is one record per ISBN, holding the title and author every copy of that ISBN must share
+ * and a counter of the copies handed out so far. The counter is the version of the latest
+ * {@link Book} copy, so adding a copy is a single conflict check and increment on this record
+ * regardless of how many copies exist.
+ * </p>
+ *
+ * <p>
+ * This class extends {@link AuditColumns} to automatically capture creation and update timestamps.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Entity
+@Table(name = "book_isbn")
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookIsbn extends AuditColumns {
+
+    /**
+     * International Standard Book Number (ISBN) shared by all copies.
+     */
+    @Id
+    @Column(name = "isbn_no", length = 50)
+    String isbnNo;
+
+    /**
+     * Canonical title of the book.
+     */
+    @Column(name = "title", length = 255)
+    String title;
+
+    /**
+     * Canonical author of the book.
+     */
+    @Column(name = "author", length = 50)
+    String author;
+
+    /**
+     * Number of copies handed out for this ISBN, which is also the highest copy version.
+     */
+    @Column(name = "copy_count", nullable = false)
+    Integer copyCount;
+}
@@ -18,7 +18,7 @@ import lombok.Setter;
  * </p>
  *
  * @author Chandru
- * @version 1.0
+ * @version 1.1
  * @since 2025-05-19
  */
 @Entity
@@ -32,6 +32,8 @@ public class Borrower extends AuditColumns {
     /**
      * Unique identifier for the borrower.
      * This ID is auto-generated using a sequence.
+     * Rows are inserted by native statements calling {@code nextval('borrower_seq')} once per row, so the
+     * sequence keeps {@code INCREMENT BY 1}.
      */
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "borrower_seq")
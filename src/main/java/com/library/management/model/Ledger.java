@@ -17,7 +17,7 @@ import lombok.Data;
  * </p>
  *
  * @author Chandru
- * @version 1.0
+ * @version 1.1
  * @since 2025-05-19
  */
 @Entity
@@ -28,6 +28,8 @@ public class Ledger extends AuditColumns {
     /**
      * Unique identifier for the ledger entry.
      * This ID is auto-generated using a sequence.
+     * Rows are inserted by native statements calling {@code nextval('ledger_seq')} once per row, so the
+     * sequence keeps {@code INCREMENT BY 1}.
      */
     @Id
     @GeneratedValue(generator = "ledger_seq", strategy = GenerationType.SEQUENCE)
@@ -0,0 +1,89 @@
+package com.library.management.repository;
+
+import com.library.management.model.BookIsbn;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link BookIsbn} master records.
+ * <p>
+ * Extends {@link JpaRepository} for CRUD operations.
+ * </p>
+ *
+ * <p>
+ * Provides the atomic copy counter used to assign versions to new book copies, and the number of copies
+ * per distinct title and author for autocomplete.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Repository
+public interface BookIsbnRepository extends JpaRepository<BookIsbn, String> {
+
+    /**
+     * Reserves version numbers for new copies of an ISBN in a single statement.
+     * <p>
+     * Creates the master record for a new ISBN, or increments the copy counter of an existing one
+     * if its title and author match. The row stays locked until the caller's transaction ends, so
+     * concurrent adds of the same ISBN are handed distinct versions.
+     * </p>
+     *
+     * @param isbnNo the ISBN of the new copies
+     * @param title  the title of the new copies
+     * @param author the author of the new copies
+     * @param copies the number of copies to reserve
+     * @return an {@link Optional} containing the updated copy counter, which is the version of the last reserved
+     * copy; empty if the ISBN is registered with a different title or author
+     */
+    @Transactional
+    @Query(value = "insert into book_isbn (isbn_no, title, author, copy_count, created_date, updated_date) "
+            + "values (:isbnNo, :title, :author, :copies, now(), now()) "
+            + "on conflict (isbn_no) do update "
+            + "set copy_count = book_isbn.copy_count + excluded.copy_count, updated_date = now() "
+            + "where book_isbn.title = excluded.title and book_isbn.author = excluded.author "
+            + "returning copy_count", nativeQuery = true)
+    Optional<Integer> reserveCopies(@Param("isbnNo") String isbnNo, @Param("title") String title,
+                                    @Param("author") String author, @Param("copies") int copies);
+
+    /**
+     * Counts the copies of each distinct title, from the master records rather than the copies.
+     *
+     * @return one {@link CopyCount} per distinct title
+     */
+    @Query(value = "select title as text, sum(copy_count) as copies from book_isbn group by title",
+            nativeQuery = true)
+    List<CopyCount> countCopiesByTitle();
+
+    /**
+     * Counts the copies of each distinct author, from the master records rather than the copies.
+     *
+     * @return one {@link CopyCount} per distinct author
+     */
+    @Query(value = "select author as text, sum(copy_count) as copies from book_isbn group by author",
+            nativeQuery = true)
+    List<CopyCount> countCopiesByAuthor();
+
+    /**
+     * Number of copies of the books sharing a title or an author.
+     */
+    interface CopyCount {
+
+        /**
+         * @return the title or author
+         */
+        String getText();
+
+        /**
+         * @return the number of copies in the catalog
+         */
+        long getCopies();
+    }
+}
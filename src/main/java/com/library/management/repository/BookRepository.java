@@ -1,10 +1,15 @@
 package com.library.management.repository;
 
 import com.library.management.model.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -38,4 +43,41 @@ public interface BookRepository extends JpaRepository<Book, Long>, PagingAndSort
      */
     List<Book> findByIsbnNo(String isbnNo);
 
+    /**
+     * Returns which of the given IDs belong to existing books.
+     * <p>
+     * Used to validate a whole batch of borrows or returns in one query.
+     * </p>
+     *
+     * @param ids the book IDs to check
+     * @return the subset of {@code ids} that exist
+     */
+    @Query("select b.id from Book b where b.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Retrieves the books with an ID greater than the given one, for keyset pagination.
+     * <p>
+     * Returns a {@link Slice}, so no count query is issued, and seeks on the primary key instead of
+     * skipping rows with an offset; the cost of a slice does not grow with its depth in the catalog.
+     * The {@link Pageable} should request page 0 sorted by {@code id}.
+     * </p>
+     *
+     * @param id       the ID of the last book of the previous slice
+     * @param pageable the slice size and sort order
+     * @return the next slice of books
+     */
+    Slice<Book> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Returns the planner's row estimate for the {@code book} table from {@code pg_class.reltuples}.
+     * <p>
+     * Costs a catalog lookup instead of a full {@code count(*)}; the value is as fresh as the last
+     * {@code ANALYZE} or autovacuum of the table.
+     * </p>
+     *
+     * @return the estimated number of books; negative if the table has never been analyzed
+     */
+    @Query(value = "select cast(reltuples as bigint) from pg_class where oid = to_regclass('book')", nativeQuery = true)
+    Long estimateCount();
 }
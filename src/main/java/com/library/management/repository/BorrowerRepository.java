@@ -2,9 +2,14 @@ package com.library.management.repository;
 
 import com.library.management.model.Borrower;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -15,7 +20,8 @@ import java.util.Optional;
  * </p>
  *
  * <p>
- * Provides methods to query borrowers by their name and email.
+ * Provides methods to query borrowers by their name and email, and to register a borrower
+ * without a separate duplicate lookup.
  * </p>
  *
  * @author Chandru
@@ -33,4 +39,34 @@ public interface BorrowerRepository extends JpaRepository<Borrower, Long>, Pagin
      * @return an {@link Optional} containing the matched {@link Borrower}, or empty if not found
      */
     Optional<Borrower> findByNameAndEmail(String name, String email);
+
+    /**
+     * Returns which of the given IDs belong to existing borrowers.
+     * <p>
+     * Used to validate a whole batch of borrows or returns in one query.
+     * </p>
+     *
+     * @param ids the borrower IDs to check
+     * @return the subset of {@code ids} that exist
+     */
+    @Query("select b.id from Borrower b where b.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Registers a borrower in a single statement unless one with the same name and email exists.
+     * <p>
+     * Duplicates are detected by the unique constraint {@code borrower_name_email_u}, so two concurrent
+     * registrations of the same borrower can never both succeed and the loser gets no constraint error.
+     * </p>
+     *
+     * @param name  the name of the borrower
+     * @param email the email address of the borrower
+     * @return an {@link Optional} containing the ID of the new borrower, or empty if the borrower already exists
+     */
+    @Transactional
+    @Query(value = "insert into borrower (id, name, email, created_date, updated_date) "
+            + "values (nextval('borrower_seq'), :name, :email, now(), now()) "
+            + "on conflict on constraint borrower_name_email_u do nothing "
+            + "returning id", nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("name") String name, @Param("email") String email);
 }
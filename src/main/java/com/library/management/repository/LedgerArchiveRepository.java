@@ -0,0 +1,96 @@
+package com.library.management.repository;
+
+import com.library.management.archive.ArchivedLoan;
+import com.library.management.archive.LedgerSegment;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository moving returned ledger entries out of the {@code ledger} table into the archive.
+ * <p>
+ * A segment counts as committed once its row in {@code ledger_archive_segment} exists; that row is written
+ * in the same transaction as the delete of the archived entries.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerRepository
+ * @since 2026-10-17
+ */
+@Repository
+@Timed(value = "library.jdbc.repository", description = "Time of a JDBC repository call")
+public class LedgerArchiveRepository {
+
+    private static final String FIND_ARCHIVABLE =
+            "select id, book_id, borrower_id, created_date, coalesce(updated_date, created_date) as updated_date "
+                    + "from ledger where status = 'RETURNED' and created_date < ? limit ?";
+
+    private static final String DELETE_ARCHIVED =
+            "delete from ledger where id = any(?) and status = 'RETURNED' and created_date < ?";
+
+    private static final String REGISTER_SEGMENT =
+            "insert into ledger_archive_segment (name, row_count, min_book_id, max_book_id, min_created_date, "
+                    + "max_created_date, created_date) values (?, ?, ?, ?, ?, ?, now())";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds returned ledger entries borrowed before the cutoff.
+     *
+     * @param cutoff the borrow date before which entries are archived
+     * @param limit  the maximum number of entries to return
+     * @return the entries to archive, in no particular order
+     */
+    public List<ArchivedLoan> findArchivable(LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.query(FIND_ARCHIVABLE, (rs, rowNum) -> new ArchivedLoan(rs.getLong("id"),
+                        rs.getLong("book_id"), rs.getLong("borrower_id"),
+                        ArchivedLoan.toMicros(rs.getTimestamp("created_date")),
+                        ArchivedLoan.toMicros(rs.getTimestamp("updated_date"))),
+                Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * Deletes archived entries from the {@code ledger} table.
+     *
+     * @param ids    the IDs of the archived entries
+     * @param cutoff the cutoff the entries were selected with
+     * @return the number of deleted entries
+     */
+    public int deleteArchived(List<Long> ids, LocalDateTime cutoff) {
+        return jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(DELETE_ARCHIVED);
+            ps.setArray(1, con.createArrayOf("int8", ids.toArray()));
+            ps.setTimestamp(2, Timestamp.valueOf(cutoff));
+            return ps;
+        });
+    }
+
+    /**
+     * Records a segment as committed.
+     *
+     * @param name    the file name of the segment
+     * @param segment the segment
+     */
+    public void registerSegment(String name, LedgerSegment segment) {
+        jdbcTemplate.update(REGISTER_SEGMENT, name, segment.getRowCount(), segment.getMinBookId(),
+                segment.getMaxBookId(), new Timestamp(Math.floorDiv(segment.getMinCreated(), 1000)),
+                new Timestamp(Math.floorDiv(segment.getMaxCreated(), 1000)));
+    }
+
+    /**
+     * Lists the file names of all committed segments.
+     *
+     * @return the committed segment names
+     */
+    public List<String> findSegmentNames() {
+        return jdbcTemplate.queryForList("select name from ledger_archive_segment", String.class);
+    }
+}
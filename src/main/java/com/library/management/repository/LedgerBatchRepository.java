@@ -0,0 +1,78 @@
+package com.library.management.repository;
+
+import com.library.management.model.Ledger;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for writing many {@link Ledger} entries in a single JDBC batch.
+ * <p>
+ * Uses the same conditional statements as the single-item methods in {@link LedgerRepository},
+ * so the per-item row count still decides whether each borrow or return took effect. The statements
+ * are sent as one batch and join the caller's transaction.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerRepository
+ * @since 2026-10-17
+ */
+@Repository
+@Timed(value = "library.jdbc.repository", description = "Time of a JDBC repository call")
+public class LedgerBatchRepository {
+
+    private static final String INSERT_BORROW =
+            "with active as ("
+                    + "insert into ledger_active (book_id, ledger_id, created_date) "
+                    + "values (?, nextval('ledger_seq'), now()) "
+                    + "on conflict (book_id) do nothing "
+                    + "returning ledger_id, created_date) "
+                    + "insert into ledger (id, book_id, borrower_id, status, created_date, updated_date) "
+                    + "select ledger_id, ?, ?, 'BORROWED', created_date, created_date from active";
+
+    private static final String MARK_RETURNED =
+            "with closed as ("
+                    + "delete from ledger_active where book_id = ? "
+                    + "returning ledger_id, created_date) "
+                    + "update ledger set status = 'RETURNED', updated_date = now() from closed "
+                    + "where ledger.id = closed.ledger_id and ledger.created_date = closed.created_date";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts a {@link com.library.management.enums.LedgerStatus#BORROWED} entry for each given loan,
+     * skipping books that already have an active loan.
+     *
+     * @param loans the loans to record; only {@code bookId} and {@code borrowerId} are used
+     * @return the number of rows inserted for each loan, in order; {@code 0} if the book was already borrowed
+     */
+    public int[] insertBorrows(List<Ledger> loans) {
+        if (loans.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(INSERT_BORROW, loans, loans.size(), (ps, loan) -> {
+            ps.setLong(1, loan.getBookId());
+            ps.setLong(2, loan.getBookId());
+            ps.setLong(3, loan.getBorrowerId());
+        })[0];
+    }
+
+    /**
+     * Marks the active loan of each given book as returned.
+     *
+     * @param loans the loans to close; only {@code bookId} is used
+     * @return the number of rows updated for each loan, in order; {@code 0} if the book was not borrowed
+     */
+    public int[] markReturned(List<Ledger> loans) {
+        if (loans.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(MARK_RETURNED, loans, loans.size(),
+                (ps, loan) -> ps.setLong(1, loan.getBookId()))[0];
+    }
+}
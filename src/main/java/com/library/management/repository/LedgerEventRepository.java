@@ -0,0 +1,150 @@
+package com.library.management.repository;
+
+import com.library.management.enums.LedgerStatus;
+import com.library.management.event.LoanEvent;
+import com.library.management.model.Ledger;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Repository of the append-only {@code ledger_event} table of the event-sourced ledger mode.
+ * <p>
+ * Events are only ever inserted; the active loans are derived from them in memory. Reads either replay the
+ * events after a given ID, to rebuild the active loans, or list the events of one book.
+ * </p>
+ *
+ * <p>
+ * Events are stamped with {@code clock_timestamp()}, the time of the insert. {@code now()} would be the start of
+ * the caller's transaction, which may precede events of the same book appended by other transactions meanwhile,
+ * and the active loans at a point in time are replayed by that stamp.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@Repository
+@Timed(value = "library.jdbc.repository", description = "Time of a JDBC repository call")
+public class LedgerEventRepository {
+
+    private static final String APPEND =
+            "insert into ledger_event (id, book_id, borrower_id, status, created_date) "
+                    + "select nextval('ledger_event_seq'), ?, ?, ?, clock_timestamp() "
+                    + "where exists (select 1 from book where id = ?) "
+                    + "and exists (select 1 from borrower where id = ?) "
+                    + "returning id, book_id, borrower_id, status, created_date";
+
+    private static final String APPEND_ALL =
+            "insert into ledger_event (id, book_id, borrower_id, status, created_date) "
+                    + "select nextval('ledger_event_seq'), book_id, borrower_id, ?, clock_timestamp() "
+                    + "from unnest(?::bigint[], ?::bigint[]) as loan (book_id, borrower_id) "
+                    + "returning id, book_id, borrower_id, status, created_date";
+
+    private static final String FIND_AFTER =
+            "select id, book_id, borrower_id, status, created_date from ledger_event where id > ? order by id";
+
+    private static final String FIND_AFTER_UNTIL =
+            "select id, book_id, borrower_id, status, created_date from ledger_event "
+                    + "where id > ? and created_date <= ? order by id";
+
+    private static final String FIND_BY_BOOK =
+            "select id, book_id, borrower_id, status, created_date from ledger_event "
+                    + "where book_id = ? order by id desc limit ?";
+
+    private static final RowMapper<LoanEvent> EVENT = (rs, rowNum) -> new LoanEvent(rs.getLong("id"),
+            LedgerStatus.BORROWED.name().equals(rs.getString("status")), rs.getLong("book_id"),
+            rs.getLong("borrower_id"), toMicros(rs.getTimestamp("created_date")));
+
+    /**
+     * Rows fetched per round trip when replaying; needs a transaction to take effect.
+     */
+    private static final int REPLAY_FETCH_SIZE = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Appends a borrow or return event if the book and the borrower exist.
+     *
+     * @param borrow     {@code true} for a borrow, {@code false} for a return
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @return an {@link Optional} containing the new event, or empty if the book or borrower does not exist
+     */
+    public Optional<LoanEvent> append(boolean borrow, long bookId, long borrowerId) {
+        return jdbcTemplate.query(APPEND, EVENT, bookId, borrowerId, status(borrow), bookId, borrowerId).stream()
+                .findFirst();
+    }
+
+    /**
+     * Appends one event per loan in a single statement; the books and borrowers must have been checked.
+     *
+     * @param borrow {@code true} for borrows, {@code false} for returns
+     * @param loans  the loans, each of a different book; only {@code bookId} and {@code borrowerId} are used
+     * @return the new events, in no particular order
+     */
+    public List<LoanEvent> appendAll(boolean borrow, List<Ledger> loans) {
+        return jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(APPEND_ALL);
+            ps.setString(1, status(borrow));
+            ps.setArray(2, con.createArrayOf("int8", loans.stream().map(Ledger::getBookId).toArray()));
+            ps.setArray(3, con.createArrayOf("int8", loans.stream().map(Ledger::getBorrowerId).toArray()));
+            return ps;
+        }, EVENT);
+    }
+
+    /**
+     * Passes the events after the given ID and up to the given time to the consumer, in ID order.
+     * <p>
+     * The events are streamed, so the caller should hold a transaction for the fetch size to apply.
+     * </p>
+     *
+     * @param afterId  the ID of the last event already applied
+     * @param until    the latest append time to include, or {@code null} for all events
+     * @param consumer receives the events
+     * @return the number of events passed
+     */
+    public int replay(long afterId, Instant until, Consumer<LoanEvent> consumer) {
+        int[] count = new int[1];
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(until == null ? FIND_AFTER : FIND_AFTER_UNTIL);
+            ps.setFetchSize(REPLAY_FETCH_SIZE);
+            ps.setLong(1, afterId);
+            if (until != null) {
+                ps.setTimestamp(2, Timestamp.from(until));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(EVENT.mapRow(rs, count[0]++)));
+        return count[0];
+    }
+
+    /**
+     * Finds the latest events of a book.
+     *
+     * @param bookId the ID of the book
+     * @param limit  the maximum number of events to return
+     * @return the events, latest first
+     */
+    public List<LoanEvent> findByBook(long bookId, int limit) {
+        return jdbcTemplate.query(FIND_BY_BOOK, EVENT, bookId, limit);
+    }
+
+    private static String status(boolean borrow) {
+        return (borrow ? LedgerStatus.BORROWED : LedgerStatus.RETURNED).name();
+    }
+
+    private static long toMicros(Timestamp timestamp) {
+        return Math.floorDiv(timestamp.getTime(), 1000) * 1_000_000 + timestamp.getNanos() / 1000;
+    }
+}
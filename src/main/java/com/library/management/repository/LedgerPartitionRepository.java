@@ -0,0 +1,108 @@
+package com.library.management.repository;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Repository for the monthly partitions of the {@code ledger} table.
+ * <p>
+ * Each month of {@code created_date} lives in its own partition named {@code ledger_pYYYYMM}; rows outside
+ * them land in {@code ledger_default}. Partition names are always built from a {@link YearMonth}, never
+ * from user input, so they can safely be inlined into the DDL.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @see LedgerRepository
+ * @since 2026-10-17
+ */
+@Repository
+@Timed(value = "library.jdbc.repository", description = "Time of a JDBC repository call")
+public class LedgerPartitionRepository {
+
+    private static final String PARTITION_PREFIX = "ledger_p";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private static final String FIND_PARTITIONS =
+            "select c.relname from pg_inherits i join pg_class c on c.oid = i.inhrelid "
+                    + "where i.inhparent = 'ledger'::regclass and c.relname ~ '^ledger_p[0-9]{6}$'";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Lists the months that currently have a partition attached to {@code ledger}.
+     *
+     * @return the partitioned months, oldest first
+     */
+    public List<YearMonth> findPartitionMonths() {
+        List<YearMonth> months = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(FIND_PARTITIONS, String.class)) {
+            months.add(YearMonth.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX));
+        }
+        months.sort(null);
+        return months;
+    }
+
+    /**
+     * Creates and attaches the partition of the given month, if it does not exist yet.
+     *
+     * @param month the month of {@code created_date} the partition holds
+     */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("create table if not exists " + partitionName(month) + " partition of ledger "
+                + "for values from ('" + month.atDay(1) + "') to ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    /**
+     * Checks whether the partition of the given month still holds an active loan.
+     * <p>
+     * Reads the {@code created_date} index of {@code ledger_active}, whose {@code created_date} is the partition
+     * key of the active entry, so neither the partition nor {@code ledger_active} is scanned.
+     * </p>
+     *
+     * @param month the month of the partition
+     * @return {@code true} if a ledger entry of that month is still {@code BORROWED}
+     */
+    public boolean hasActiveLoans(YearMonth month) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "select exists (select 1 from ledger_active where created_date >= ? and created_date < ?)",
+                Boolean.class, month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay()));
+    }
+
+    /**
+     * Detaches the partition of the given month from {@code ledger}; it stays as a standalone table.
+     *
+     * @param month the month of the partition
+     */
+    public void detachPartition(YearMonth month) {
+        jdbcTemplate.execute("alter table ledger detach partition " + partitionName(month));
+    }
+
+    /**
+     * Drops the table of a detached partition.
+     *
+     * @param month the month of the partition
+     */
+    public void dropDetachedPartition(YearMonth month) {
+        jdbcTemplate.execute("drop table if exists " + partitionName(month));
+    }
+
+    /**
+     * Returns the name of the partition holding the given month.
+     *
+     * @param month the month of {@code created_date}
+     * @return the partition table name
+     */
+    public static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+}
@@ -3,8 +3,13 @@ package com.library.management.repository;
 import com.library.management.enums.LedgerStatus;
 import com.library.management.model.Ledger;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,6 +23,11 @@ import java.util.Optional;
  * This is typically used to determine if a book is currently borrowed.
  * </p>
  *
+ * <p>
+ * The {@code ledger} table is partitioned by {@code created_date} month; the active loan of each book is
+ * also kept in {@code ledger_active}, which the borrow and return statements maintain.
+ * </p>
+ *
  * @author Chandru
  * @version 1.0
  * @since 2025-05-19
@@ -25,6 +35,30 @@ import java.util.Optional;
 @Repository
 public interface LedgerRepository extends JpaRepository<Ledger, Long> {
 
+    /**
+     * Statement of {@link #insertBorrow}, shared with {@link ReactiveLedgerRepository}.
+     */
+    String INSERT_BORROW = "with active as ("
+            + "insert into ledger_active (book_id, ledger_id, created_date) "
+            + "select :bookId, nextval('ledger_seq'), now() "
+            + "where exists (select 1 from book where id = :bookId) "
+            + "and exists (select 1 from borrower where id = :borrowerId) "
+            + "on conflict (book_id) do nothing "
+            + "returning ledger_id, created_date) "
+            + "insert into ledger (id, book_id, borrower_id, status, created_date, updated_date) "
+            + "select ledger_id, :bookId, :borrowerId, 'BORROWED', created_date, created_date from active "
+            + "returning id";
+
+    /**
+     * Statement of {@link #markReturned}, shared with {@link ReactiveLedgerRepository}.
+     */
+    String MARK_RETURNED = "with closed as ("
+            + "delete from ledger_active where book_id = :bookId "
+            + "and exists (select 1 from borrower where id = :borrowerId) "
+            + "returning ledger_id, created_date) "
+            + "update ledger set status = 'RETURNED', updated_date = now() from closed "
+            + "where ledger.id = closed.ledger_id and ledger.created_date = closed.created_date";
+
     /**
      * Finds a ledger entry by the book ID and ledger status.
      *
@@ -33,4 +67,47 @@ public interface LedgerRepository extends JpaRepository<Ledger, Long> {
      * @return an {@link Optional} containing the matched {@link Ledger} entry, or empty if not found
      */
     Optional<Ledger> findByBookIdAndStatus(Long bookId, LedgerStatus status);
+
+    /**
+     * Finds the IDs of the books currently on loan, from the {@code ledger_active} table.
+     * <p>
+     * Used to load the active loans into the in-process availability index when the write-behind ledger starts.
+     * </p>
+     *
+     * @return the IDs of the borrowed books; an empty list if none are
+     */
+    @Query(value = "select book_id from ledger_active", nativeQuery = true)
+    List<Long> findActiveBookIds();
+
+    /**
+     * Inserts a {@link LedgerStatus#BORROWED} entry in a single statement.
+     * <p>
+     * The row is only written if the book and the borrower exist and the book has no active loan;
+     * the last condition is enforced by the primary key of {@code ledger_active}, which the same statement
+     * fills in, so two concurrent borrows of the same book can never both succeed.
+     * </p>
+     *
+     * @param bookId     the ID of the book being borrowed
+     * @param borrowerId the ID of the borrower
+     * @return an {@link Optional} containing the ID of the new ledger entry, or empty if nothing was written
+     */
+    @Transactional
+    @Query(value = INSERT_BORROW, nativeQuery = true)
+    Optional<Long> insertBorrow(@Param("bookId") Long bookId, @Param("borrowerId") Long borrowerId);
+
+    /**
+     * Marks the active loan of a book as returned in a single statement.
+     * <p>
+     * The loan is removed from {@code ledger_active} and its entry updated by primary key, so only the
+     * partition it was created in is touched.
+     * </p>
+     *
+     * @param bookId     the ID of the book being returned
+     * @param borrowerId the ID of the borrower returning the book
+     * @return the number of rows updated; {@code 0} if the book is not borrowed or the borrower does not exist
+     */
+    @Transactional
+    @Modifying
+    @Query(value = MARK_RETURNED, nativeQuery = true)
+    int markReturned(@Param("bookId") Long bookId, @Param("borrowerId") Long borrowerId);
 }
@@ -0,0 +1,115 @@
+package com.library.management.repository;
+
+import com.library.management.wal.LedgerEvent;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Repository applying write-ahead log events to the {@code ledger} table in group commits.
+ * <p>
+ * The statements are those of {@link LedgerBatchRepository}, except that the dates are the request times
+ * recorded in the log rather than the commit time. {@code ledger_wal_checkpoint} holds the sequence number of
+ * the last applied event and is updated in the same transaction, so no event is applied twice on replay.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerBatchRepository
+ * @since 2026-10-17
+ */
+@Repository
+@Timed(value = "library.jdbc.repository", description = "Time of a JDBC repository call")
+public class LedgerWalRepository {
+
+    private static final String INSERT_BORROW =
+            "with active as ("
+                    + "insert into ledger_active (book_id, ledger_id, created_date) "
+                    + "values (?, nextval('ledger_seq'), ?) "
+                    + "on conflict (book_id) do nothing "
+                    + "returning ledger_id, created_date) "
+                    + "insert into ledger (id, book_id, borrower_id, status, created_date, updated_date) "
+                    + "select ledger_id, ?, ?, 'BORROWED', created_date, created_date from active";
+
+    private static final String MARK_RETURNED =
+            "with closed as ("
+                    + "delete from ledger_active where book_id = ? "
+                    + "returning ledger_id, created_date) "
+                    + "update ledger set status = 'RETURNED', updated_date = ? from closed "
+                    + "where ledger.id = closed.ledger_id and ledger.created_date = closed.created_date";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts a {@code BORROWED} entry for each event, skipping books that already have an active loan.
+     *
+     * @param events borrow events, in log order
+     * @return the number of rows inserted for each event; {@code 0} if the book was already borrowed
+     */
+    public int[] insertBorrows(List<LedgerEvent> events) {
+        return jdbcTemplate.batchUpdate(INSERT_BORROW, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.bookId());
+            ps.setTimestamp(2, toTimestamp(event.micros()));
+            ps.setLong(3, event.bookId());
+            ps.setLong(4, event.borrowerId());
+        })[0];
+    }
+
+    /**
+     * Marks the active loan of the book of each event as returned.
+     *
+     * @param events return events, in log order
+     * @return the number of rows updated for each event; {@code 0} if the book was not borrowed
+     */
+    public int[] markReturned(List<LedgerEvent> events) {
+        return jdbcTemplate.batchUpdate(MARK_RETURNED, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.bookId());
+            ps.setTimestamp(2, toTimestamp(event.micros()));
+        })[0];
+    }
+
+    /**
+     * Looks up in a single round trip whether the book and the borrower of an event exist, since in
+     * write-behind mode this check runs before every event is logged.
+     *
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @return whether the book exists and whether the borrower exists, in that order
+     */
+    public boolean[] findExistence(long bookId, long borrowerId) {
+        return jdbcTemplate.queryForObject("select exists (select 1 from book where id = ?), "
+                        + "exists (select 1 from borrower where id = ?)",
+                (rs, rowNum) -> new boolean[]{rs.getBoolean(1), rs.getBoolean(2)}, bookId, borrowerId);
+    }
+
+    /**
+     * Reads the sequence number of the last applied event.
+     *
+     * @return the applied sequence number; {@code 0} if nothing was applied yet
+     */
+    public long findAppliedSeq() {
+        Long applied = jdbcTemplate.queryForObject("select applied_seq from ledger_wal_checkpoint where id = 1",
+                Long.class);
+        return applied == null ? 0 : applied;
+    }
+
+    /**
+     * Records the sequence number of the last applied event.
+     *
+     * @param appliedSeq the sequence number of the last event of the committed group
+     */
+    public void updateAppliedSeq(long appliedSeq) {
+        jdbcTemplate.update("update ledger_wal_checkpoint set applied_seq = ? where id = 1", appliedSeq);
+    }
+
+    private static Timestamp toTimestamp(long micros) {
+        return Timestamp.from(Instant.EPOCH.plus(micros, ChronoUnit.MICROS));
+    }
+}
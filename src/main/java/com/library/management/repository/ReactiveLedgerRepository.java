@@ -0,0 +1,86 @@
+package com.library.management.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the borrow and return statements of {@link LedgerRepository}.
+ * <p>
+ * Runs the very same SQL over R2DBC, so the {@code ledger} and {@code ledger_active} tables are maintained
+ * identically in both stacks. Each statement is atomic on its own and runs in auto-commit mode.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerRepository
+ * @since 2026-10-17
+ */
+@Repository
+@Profile("reactive")
+public class ReactiveLedgerRepository {
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Inserts a {@code BORROWED} entry if the book and the borrower exist and the book has no active loan.
+     *
+     * @param bookId     the ID of the book being borrowed
+     * @param borrowerId the ID of the borrower
+     * @return the ID of the new ledger entry, or an empty {@link Mono} if nothing was written
+     * @see LedgerRepository#insertBorrow
+     */
+    public Mono<Long> insertBorrow(Long bookId, Long borrowerId) {
+        return databaseClient.sql(LedgerRepository.INSERT_BORROW)
+                .bind("bookId", bookId)
+                .bind("borrowerId", borrowerId)
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    /**
+     * Marks the active loan of a book as returned if the borrower exists.
+     *
+     * @param bookId     the ID of the book being returned
+     * @param borrowerId the ID of the borrower returning the book
+     * @return the number of rows updated; {@code 0} if the book is not borrowed or the borrower does not exist
+     * @see LedgerRepository#markReturned
+     */
+    public Mono<Long> markReturned(Long bookId, Long borrowerId) {
+        return databaseClient.sql(LedgerRepository.MARK_RETURNED)
+                .bind("bookId", bookId)
+                .bind("borrowerId", borrowerId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    /**
+     * Checks whether a book copy exists.
+     *
+     * @param bookId the ID of the book
+     * @return {@code true} if the book exists
+     */
+    public Mono<Boolean> bookExists(Long bookId) {
+        return exists("select exists (select 1 from book where id = :id)", bookId);
+    }
+
+    /**
+     * Checks whether a borrower exists.
+     *
+     * @param borrowerId the ID of the borrower
+     * @return {@code true} if the borrower exists
+     */
+    public Mono<Boolean> borrowerExists(Long borrowerId) {
+        return exists("select exists (select 1 from borrower where id = :id)", borrowerId);
+    }
+
+    private Mono<Boolean> exists(String sql, Long id) {
+        return databaseClient.sql(sql)
+                .bind("id", id)
+                .map(row -> Boolean.TRUE.equals(row.get(0, Boolean.class)))
+                .one();
+    }
+}
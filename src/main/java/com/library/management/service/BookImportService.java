@@ -0,0 +1,31 @@
+package com.library.management.service;
+
+import com.library.management.dto.BookImportReportDTO;
+import com.library.management.enums.BookImportFormat;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Service interface for importing book copies in bulk in the library management system.
+ * <p>
+ * Defines the contract for loading a catalog file of arbitrary size, such as a migration
+ * from another library system, without one request per copy.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface BookImportService {
+
+    /**
+     * Imports book copies from the given file, applying the same rules as {@link BookService#addBook}.
+     *
+     * @param reader the file contents; read incrementally and not closed by this method
+     * @param format the format of the file
+     * @return a report with row counts and the rejected rows
+     * @throws IOException if the file cannot be read
+     */
+    BookImportReportDTO importBooks(Reader reader, BookImportFormat format) throws IOException;
+}
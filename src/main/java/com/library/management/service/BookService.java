@@ -1,7 +1,12 @@
 package com.library.management.service;
 
 import com.library.management.dto.BookDTO;
+import com.library.management.dto.BookSliceDTO;
+import com.library.management.dto.CatalogCacheStatsDTO;
+import com.library.management.dto.SuggestionDTO;
+import com.library.management.exception.BadRequestException;
 import com.library.management.exception.ConflictException;
+import com.library.management.exception.NotFoundException;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
@@ -33,4 +38,57 @@ public interface BookService {
      * @return a list of {@link BookDTO} representing the books
      */
     List<BookDTO> getBooks(PageRequest pageable);
+
+    /**
+     * Retrieves the slice of books following the given cursor, ordered by ID.
+     *
+     * @param cursor       the {@code nextCursor} of the previous slice, or {@code null} for the first slice
+     * @param size         the maximum number of books in the slice
+     * @param includeTotal whether to include an estimate of the total number of books
+     * @return a {@link BookSliceDTO} with the books and the cursor of the next slice
+     * @throws BadRequestException if the cursor is malformed
+     */
+    BookSliceDTO browseBooks(String cursor, int size, boolean includeTotal) throws BadRequestException;
+
+    /**
+     * Retrieves a single book copy by ID.
+     *
+     * @param id the ID of the book
+     * @return the {@link BookDTO} of the book
+     * @throws NotFoundException if there is no book with this ID
+     */
+    BookDTO getBook(Long id) throws NotFoundException;
+
+    /**
+     * Retrieves all copies of a book by ISBN.
+     *
+     * @param isbnNo the ISBN of the book
+     * @return the copies of the book, or an empty list if the ISBN is unknown
+     */
+    List<BookDTO> getCopies(String isbnNo);
+
+    /**
+     * Retrieves the statistics of the catalog cache serving {@link #getBook} and {@link #getCopies}.
+     *
+     * @return a {@link CatalogCacheStatsDTO} snapshot of the cache statistics
+     */
+    CatalogCacheStatsDTO getCacheStats();
+
+    /**
+     * Searches the titles and authors of the catalog.
+     *
+     * @param query the words to look for; every word must occur in the title or the author
+     * @param limit the maximum number of results
+     * @return the matching books, best match first
+     */
+    List<BookDTO> searchBooks(String query, int limit);
+
+    /**
+     * Suggests titles and authors completing what the user has typed so far.
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of suggestions
+     * @return the matching titles and authors, most copies first
+     */
+    List<SuggestionDTO> suggest(String prefix, int limit);
 }
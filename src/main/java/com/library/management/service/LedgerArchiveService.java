@@ -0,0 +1,40 @@
+package com.library.management.service;
+
+import com.library.management.dto.ArchivedLoanDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for archiving returned loans and reading them back.
+ * <p>
+ * Returned ledger entries past retention are moved out of the {@code ledger} table into compressed segment
+ * files on local disk, where the loan history stays queryable without the database.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface LedgerArchiveService {
+
+    /**
+     * Moves the returned ledger entries borrowed before the cutoff into the archive.
+     *
+     * @param cutoff the borrow date before which returned entries are archived
+     * @return the number of archived entries
+     */
+    int archiveLoans(LocalDateTime cutoff);
+
+    /**
+     * Retrieves archived loans, most recently borrowed first.
+     *
+     * @param bookId the book to look for, or {@code null} for all books
+     * @param from   the first borrow day, inclusive, or {@code null} for no lower bound
+     * @param to     the last borrow day, inclusive, or {@code null} for no upper bound
+     * @param limit  the maximum number of loans to return
+     * @return the matching archived loans
+     */
+    List<ArchivedLoanDTO> getHistory(Long bookId, LocalDate from, LocalDate to, int limit);
+}
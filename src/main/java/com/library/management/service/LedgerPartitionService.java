@@ -0,0 +1,26 @@
+package com.library.management.service;
+
+import java.time.YearMonth;
+
+/**
+ * Service interface for maintaining the monthly partitions of the {@code ledger} table.
+ * <p>
+ * Keeps partitions ready ahead of time and retires old ones by detaching them instead of deleting rows.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface LedgerPartitionService {
+
+    /**
+     * Creates the upcoming partitions and detaches the ones past retention.
+     * <p>
+     * A partition past retention that still holds an active loan is kept until the loan is returned.
+     * </p>
+     *
+     * @param currentMonth the month to maintain the partitions around
+     */
+    void maintainPartitions(YearMonth currentMonth);
+}
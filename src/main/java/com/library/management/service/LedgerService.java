@@ -1,7 +1,11 @@
 package com.library.management.service;
 
+import com.library.management.dto.LedgerRequestDTO;
+import com.library.management.dto.LedgerResultDTO;
 import com.library.management.exception.ConflictException;
 
+import java.util.List;
+
 /**
  * Service interface for managing ledger operations related to borrowing and returning books
  * in the library management system.
@@ -24,4 +28,17 @@ public interface LedgerService {
      * @throws ConflictException if there is a conflict in ledger status, such as borrowing a book that is already borrowed
      */
     void handleLedger(Long bookId, Long borrowerId, boolean isBorrow) throws ConflictException;
+
+    /**
+     * Handles a batch of borrows or returns in a single transaction.
+     * <p>
+     * Each item is validated and recorded independently; a conflict on one item does not
+     * affect the others.
+     * </p>
+     *
+     * @param requests the borrows or returns to process, in order
+     * @param isBorrow flag indicating whether the books are being borrowed (true) or returned (false)
+     * @return one result per request item, in the same order
+     */
+    List<LedgerResultDTO> handleLedgerBatch(List<LedgerRequestDTO> requests, boolean isBorrow);
 }
@@ -0,0 +1,38 @@
+package com.library.management.service;
+
+import com.library.management.dto.LoanDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service interface for reading the loans of the event-sourced ledger.
+ * <p>
+ * Loans are not stored as rows in that mode; they are derived from the append-only borrow and return events,
+ * either from the in-memory projection of the active loans or by replaying the events.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public interface LoanEventService {
+
+    /**
+     * Retrieves the loans active now or at a past time.
+     *
+     * @param at    the point in time, or {@code null} for now
+     * @param limit the maximum number of loans to return
+     * @return the active loans, by book ID
+     */
+    List<LoanDTO> getActiveLoans(Instant at, int limit);
+
+    /**
+     * Retrieves the loan history of a book, including its current loan.
+     *
+     * @param bookId the ID of the book
+     * @param limit  the maximum number of loans to return
+     * @return the loans, most recently borrowed first
+     */
+    List<LoanDTO> getHistory(Long bookId, int limit);
+}
@@ -0,0 +1,26 @@
+package com.library.management.service;
+
+import com.library.management.exception.ConflictException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link LedgerService#handleLedger}, used by the {@code reactive} profile.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see LedgerService
+ * @since 2026-10-17
+ */
+public interface ReactiveLedgerService {
+
+    /**
+     * Handles borrowing or returning a book without blocking the calling thread.
+     *
+     * @param bookId     the ID of the book involved in the transaction
+     * @param borrowerId the ID of the borrower involved in the transaction
+     * @param isBorrow   flag indicating whether the book is being borrowed (true) or returned (false)
+     * @return a {@link Mono} that completes once the ledger is updated, or fails with a {@link ConflictException}
+     * under the same rules as {@link LedgerService#handleLedger}
+     */
+    Mono<Void> handleLedger(Long bookId, Long borrowerId, boolean isBorrow);
+}
@@ -0,0 +1,349 @@
+package com.library.management.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.management.cache.CatalogCache;
+import com.library.management.dto.BookDTO;
+import com.library.management.dto.BookImportErrorDTO;
+import com.library.management.dto.BookImportReportDTO;
+import com.library.management.enums.BookImportFormat;
+import com.library.management.index.CatalogSearchIndex;
+import com.library.management.model.Book;
+import com.library.management.model.BookIsbn;
+import com.library.management.repository.BookBatchRepository;
+import com.library.management.repository.BookIsbnRepository;
+import com.library.management.service.BookImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Implementation of {@link BookImportService} that streams a catalog file into the {@code book} table.
+ * <p>
+ * The file is read line by line and buffered in chunks of {@link #CHUNK_SIZE} valid rows. Each chunk is
+ * grouped by ISBN, checked against the ISBN master records with one query, assigned versions with one
+ * set-based counter increment and written as one JDBC batch in its own transaction, so memory use does not
+ * depend on the file size.
+ * </p>
+ *
+ * <p>
+ * The rules are those of {@link BookServiceImpl#addBook}: all copies of an ISBN must share the same title and
+ * author, and each new copy gets the next version number. Rows breaking a rule are reported and skipped; they
+ * never fail the rest of the import.
+ * </p>
+ *
+ * <p>
+ * JSON lines are read into {@link BookDTO} with the application's {@link ObjectMapper}, outside any controller
+ * signature, so the DTO is registered for binding here for the native image.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+@RegisterReflectionForBinding(BookDTO.class)
+public class BookImportServiceImpl implements BookImportService {
+
+    /**
+     * Number of valid rows written per transaction and JDBC batch.
+     */
+    static final int CHUNK_SIZE = 1000;
+
+    private static final String ISBN_CONFLICT = "Book with same ISBN must have same title and author";
+
+    @Autowired
+    private BookBatchRepository bookBatchRepository;
+
+    @Autowired
+    private BookIsbnRepository bookIsbnRepository;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private CatalogSearchIndex searchIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    /**
+     * Imports book copies from the given file.
+     *
+     * @param reader the file contents; read incrementally and not closed by this method
+     * @param format the format of the file
+     * @return a report with row counts and the rejected rows
+     * @throws IOException if the file cannot be read
+     */
+    @Override
+    public BookImportReportDTO importBooks(Reader reader, BookImportFormat format) throws IOException {
+        BookImportReportDTO report = new BookImportReportDTO();
+        BufferedReader in = new BufferedReader(reader);
+        long lineNo = 0;
+
+        int[] columns = null;
+        if (format == BookImportFormat.CSV) {
+            String header = in.readLine();
+            lineNo++;
+            columns = header == null ? null : csvColumns(header);
+            if (columns == null) {
+                recordError(report, lineNo, null, List.of("CSV header must name the isbnNo, title and author columns"));
+                return report;
+            }
+        }
+
+        List<ImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            report.setTotalRows(report.getTotalRows() + 1);
+
+            BookDTO book;
+            try {
+                book = format == BookImportFormat.CSV ? parseCsv(line, columns) : parseNdjson(line);
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                recordError(report, lineNo, null, List.of("Malformed row: " + e.getMessage()));
+                continue;
+            }
+
+            Set<ConstraintViolation<BookDTO>> violations = validator.validate(book);
+            if (!violations.isEmpty()) {
+                recordError(report, lineNo, book.getIsbnNo(),
+                        violations.stream().map(ConstraintViolation::getMessage).sorted().toList());
+                continue;
+            }
+
+            chunk.add(new ImportRow(lineNo, book));
+            if (chunk.size() == CHUNK_SIZE) {
+                writeChunk(chunk, report);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, report);
+        }
+        return report;
+    }
+
+    /**
+     * Assigns versions to one chunk of valid rows and writes them in a single transaction.
+     *
+     * @param chunk  the rows to write, in file order
+     * @param report the report to update with the outcome of each row
+     */
+    private void writeChunk(List<ImportRow> chunk, BookImportReportDTO report) {
+        Map<String, List<ImportRow>> rowsByIsbn = new LinkedHashMap<>();
+        for (ImportRow row : chunk) {
+            rowsByIsbn.computeIfAbsent(row.book.getIsbnNo(), k -> new ArrayList<>()).add(row);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, BookIsbn> masters = new HashMap<>();
+            for (BookIsbn master : bookIsbnRepository.findAllById(rowsByIsbn.keySet())) {
+                masters.put(master.getIsbnNo(), master);
+            }
+
+            // Keep the rows matching each ISBN's title and author, and ask for one version per row
+            Map<String, List<ImportRow>> matchingByIsbn = new LinkedHashMap<>();
+            List<BookIsbn> requests = new ArrayList<>();
+            for (Map.Entry<String, List<ImportRow>> group : rowsByIsbn.entrySet()) {
+                BookDTO first = group.getValue().get(0).book;
+                BookIsbn master = masters.get(group.getKey());
+                String title = master != null ? master.getTitle() : first.getTitle();
+                String author = master != null ? master.getAuthor() : first.getAuthor();
+                List<ImportRow> matching = new ArrayList<>();
+                for (ImportRow row : group.getValue()) {
+                    if (title.equals(row.book.getTitle()) && author.equals(row.book.getAuthor())) {
+                        matching.add(row);
+                    } else {
+                        recordError(report, row.line, row.book.getIsbnNo(), List.of(ISBN_CONFLICT));
+                    }
+                }
+                if (!matching.isEmpty()) {
+                    matchingByIsbn.put(group.getKey(), matching);
+                    requests.add(new BookIsbn(group.getKey(), title, author, matching.size()));
+                }
+            }
+            if (requests.isEmpty()) {
+                return;
+            }
+
+            Map<String, Integer> counters = bookBatchRepository.reserveCopies(requests);
+            catalogCache.evictIsbns(counters.keySet());
+            List<ImportRow> accepted = new ArrayList<>(chunk.size());
+            List<Book> books = new ArrayList<>(chunk.size());
+            for (Map.Entry<String, List<ImportRow>> group : matchingByIsbn.entrySet()) {
+                Integer counter = counters.get(group.getKey());
+                if (counter == null) {
+                    // Registered with another title or author by a concurrent add since the lookup
+                    group.getValue().forEach(row -> recordError(report, row.line, row.book.getIsbnNo(),
+                            List.of(ISBN_CONFLICT)));
+                    continue;
+                }
+                int version = counter - group.getValue().size();
+                for (ImportRow row : group.getValue()) {
+                    Book book = new Book();
+                    book.setIsbnNo(row.book.getIsbnNo());
+                    book.setTitle(row.book.getTitle());
+                    book.setAuthor(row.book.getAuthor());
+                    book.setVersion(++version);
+                    books.add(book);
+                    accepted.add(row);
+                }
+            }
+            if (books.isEmpty()) {
+                return;
+            }
+
+            List<Long> ids = bookBatchRepository.allocateIds(books.size());
+            for (int i = 0; i < books.size(); i++) {
+                books.get(i).setId(ids.get(i));
+            }
+            int[] counts = bookBatchRepository.insertBooks(books);
+            List<Book> stored = new ArrayList<>(books.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                if (counts[i] > 0) {
+                    report.setImportedRows(report.getImportedRows() + 1);
+                    stored.add(books.get(i));
+                } else {
+                    ImportRow row = accepted.get(i);
+                    recordError(report, row.line, row.book.getIsbnNo(),
+                            List.of("Copy conflicts with an existing copy and was not stored"));
+                }
+            }
+            searchIndex.index(stored);
+        });
+    }
+
+    /**
+     * Counts a rejected row and lists it in the report while there is room.
+     */
+    private void recordError(BookImportReportDTO report, long line, String isbnNo, List<String> messages) {
+        report.setFailedRows(report.getFailedRows() + 1);
+        if (report.getErrors().size() < BookImportReportDTO.MAX_REPORTED_ERRORS) {
+            report.getErrors().add(new BookImportErrorDTO(line, isbnNo, messages));
+        } else {
+            report.setErrorsTruncated(true);
+        }
+    }
+
+    /**
+     * Finds the positions of the {@code isbnNo}, {@code title} and {@code author} columns in a CSV header.
+     *
+     * @return the three column positions, or {@code null} if a column is missing
+     */
+    private int[] csvColumns(String header) {
+        List<String> names = splitCsv(header);
+        int[] columns = {-1, -1, -1};
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            if (name.equalsIgnoreCase("isbnNo") || name.equalsIgnoreCase("isbn_no")) {
+                columns[0] = i;
+            } else if (name.equalsIgnoreCase("title")) {
+                columns[1] = i;
+            } else if (name.equalsIgnoreCase("author")) {
+                columns[2] = i;
+            }
+        }
+        for (int column : columns) {
+            if (column < 0) {
+                return null;
+            }
+        }
+        return columns;
+    }
+
+    private BookDTO parseCsv(String line, int[] columns) {
+        List<String> fields = splitCsv(line);
+        BookDTO book = new BookDTO();
+        book.setIsbnNo(field(fields, columns[0]));
+        book.setTitle(field(fields, columns[1]));
+        book.setAuthor(field(fields, columns[2]));
+        return book;
+    }
+
+    private BookDTO parseNdjson(String line) throws JsonProcessingException {
+        BookDTO book = objectMapper.readValue(line, BookDTO.class);
+        if (book == null) {
+            throw new IllegalArgumentException("expected a JSON object");
+        }
+        book.setId(null);
+        book.setVersion(null);
+        return book;
+    }
+
+    private static String field(List<String> fields, int column) {
+        return column < fields.size() ? fields.get(column).trim() : null;
+    }
+
+    /**
+     * Splits one CSV line into fields, honouring double quotes and doubled quote escapes.
+     *
+     * @throws IllegalArgumentException if a quoted field is not closed on the same line
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * A valid row waiting to be written, with its line number for error reporting.
+     */
+    private static class ImportRow {
+        final long line;
+        final BookDTO book;
+
+        ImportRow(long line, BookDTO book) {
+            this.line = line;
+            this.book = book;
+        }
+    }
+}
@@ -1,32 +1,55 @@
 package com.library.management.service.impl;
 
+import com.library.management.cache.CatalogCache;
 import com.library.management.dto.BookDTO;
+import com.library.management.dto.BookSliceDTO;
+import com.library.management.dto.CatalogCacheStatsDTO;
+import com.library.management.dto.SuggestionDTO;
+import com.library.management.exception.BadRequestException;
 import com.library.management.exception.ConflictException;
+import com.library.management.exception.NotFoundException;
+import com.library.management.index.CatalogSearchIndex;
+import com.library.management.index.CatalogSuggester;
+import com.library.management.mapper.BookMapper;
 import com.library.management.model.Book;
+import com.library.management.repository.BookIsbnRepository;
 import com.library.management.repository.BookRepository;
 import com.library.management.service.BookService;
-import org.modelmapper.ModelMapper;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
 
 /**
  * Implementation of {@link BookService} for managing book-related operations.
  * <p>
  * This service handles the logic for adding new books and retrieving paginated lists of books.
- * It uses a {@link ModelMapper} to convert between entities and DTOs.
+ * It uses a {@link BookMapper} to convert between entities and DTOs.
  * </p>
  *
  * <p>
- * Includes checks for duplicate books before saving to prevent conflicts.
+ * Includes checks for duplicate books before saving to prevent conflicts. Copy versions are handed out by
+ * the per-ISBN {@link com.library.management.model.BookIsbn} master record, so adding a copy costs the same
+ * whatever the number of existing copies.
+ * </p>
+ *
+ * <p>
+ * Lookups of single books by ID and of copies by ISBN are served by the {@link CatalogCache}, and title
+ * and author searches by the {@link CatalogSearchIndex}, and autocomplete by the {@link CatalogSuggester}.
  * </p>
  *
  * @author Chandru
- * @version 1.0
+ * @version 1.1
  * @since 2025-05-19
  */
 @Service
@@ -36,7 +59,19 @@ public class BookServiceImpl implements BookService {
     private BookRepository bookRepository;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private BookIsbnRepository bookIsbnRepository;
+
+    @Autowired
+    private BookMapper bookMapper;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private CatalogSearchIndex searchIndex;
+
+    @Autowired
+    private CatalogSuggester suggester;
 
     /**
      * Adds a new copy of a book to the system.
@@ -49,39 +84,31 @@ public class BookServiceImpl implements BookService {
      * If a book with the same ISBN but differing title or author is provided, a
      * {@link ConflictException} is thrown.
      * </p>
+     * <p>
+     * The title/author check and the version increment are one statement on the ISBN's master record,
+     * which stays locked until the copy is saved; concurrent adds of the same ISBN therefore never
+     * pick the same version.
+     * </p>
      *
      * @param bookPayload the {@link BookDTO} containing book details
      * @throws ConflictException if a book with the same ISBN exists but has a different title or author
      */
     @Override
+    @Transactional
+    @Timed(value = "library.book.add", description = "Time to add a book copy")
     public void addBook(BookDTO bookPayload) throws Exception {
-        // Fetch all books with the same ISBN
-        List<Book> booksWithIsbn = bookRepository.findByIsbnNo(bookPayload.getIsbnNo());
-
-        if (!booksWithIsbn.isEmpty()) {
-            // Validate that all existing copies have the same title and author as the new book
-            for (Book existingBook : booksWithIsbn) {
-                if (!existingBook.getTitle().equals(bookPayload.getTitle()) ||
-                        !existingBook.getAuthor().equals(bookPayload.getAuthor())) {
-                    throw new ConflictException("Book with same ISBN must have same title and author");
-                }
-            }
-            // Determine the highest version number among existing copies and increment it
-            int maxVersion = booksWithIsbn.stream()
-                    .mapToInt(Book::getVersion)
-                    .max()
-                    .orElse(0);
-
-            // Map DTO to entity and assign next version number
-            Book newBook = modelMapper.map(bookPayload, Book.class);
-            newBook.setVersion(maxVersion + 1);
-            bookRepository.save(newBook);
-        } else {
-            // No existing copies with this ISBN, set version to 1 for the first copy
-            Book newBook = modelMapper.map(bookPayload, Book.class);
-            newBook.setVersion(1);
-            bookRepository.save(newBook);
+        Optional<Integer> version = bookIsbnRepository.reserveCopies(
+                bookPayload.getIsbnNo(), bookPayload.getTitle(), bookPayload.getAuthor(), 1);
+        if (version.isEmpty()) {
+            throw new ConflictException("Book with same ISBN must have same title and author");
         }
+
+        // Map DTO to entity and assign the reserved version number
+        Book newBook = bookMapper.toEntity(bookPayload);
+        newBook.setVersion(version.get());
+        Book saved = bookRepository.save(newBook);
+        catalogCache.evictIsbn(saved.getIsbnNo());
+        searchIndex.index(List.of(saved));
     }
 
 
@@ -92,10 +119,123 @@ public class BookServiceImpl implements BookService {
      * @return a list of {@link BookDTO} representing the books
      */
     @Override
+    @Timed(value = "library.book.list", description = "Time to list a page of books")
     public List<BookDTO> getBooks(PageRequest pageable) {
         Page<Book> books = bookRepository.findAll(pageable);
-        return books.stream()
-                .map(e -> modelMapper.map(e, BookDTO.class))
-                .collect(Collectors.toList());
+        return toDTOs(books.getContent());
+    }
+
+    /**
+     * Retrieves the slice of books following the given cursor, ordered by ID.
+     * <p>
+     * The cursor is an opaque encoding of the last book ID of the previous slice. Each slice is a single
+     * keyset query without a count; the optional total is an estimate from the table statistics.
+     * </p>
+     *
+     * @param cursor       the {@code nextCursor} of the previous slice, or {@code null} for the first slice
+     * @param size         the maximum number of books in the slice
+     * @param includeTotal whether to include an estimate of the total number of books
+     * @return a {@link BookSliceDTO} with the books and the cursor of the next slice
+     * @throws BadRequestException if the cursor is malformed
+     */
+    @Override
+    public BookSliceDTO browseBooks(String cursor, int size, boolean includeTotal) throws BadRequestException {
+        long lastId = decodeCursor(cursor);
+        Slice<Book> books = bookRepository.findByIdGreaterThan(lastId, PageRequest.of(0, size, Sort.by("id")));
+        List<BookDTO> content = toDTOs(books.getContent());
+
+        String nextCursor = books.hasNext()
+                ? encodeCursor(books.getContent().get(books.getNumberOfElements() - 1).getId()) : null;
+        Long estimatedTotal = null;
+        if (includeTotal) {
+            Long estimate = bookRepository.estimateCount();
+            estimatedTotal = estimate != null && estimate >= 0 ? estimate : null;
+        }
+        return new BookSliceDTO(content, nextCursor, books.hasNext(), estimatedTotal);
+    }
+
+    /**
+     * Retrieves a single book copy by ID from the catalog cache.
+     *
+     * @param id the ID of the book
+     * @return the {@link BookDTO} of the book
+     * @throws NotFoundException if there is no book with this ID
+     */
+    @Override
+    public BookDTO getBook(Long id) throws NotFoundException {
+        return catalogCache.findById(id).orElseThrow(() -> new NotFoundException("Book not found"));
+    }
+
+    /**
+     * Retrieves all copies of a book by ISBN from the catalog cache.
+     *
+     * @param isbnNo the ISBN of the book
+     * @return the copies of the book, or an empty list if the ISBN is unknown
+     */
+    @Override
+    public List<BookDTO> getCopies(String isbnNo) {
+        return catalogCache.findByIsbnNo(isbnNo);
+    }
+
+    /**
+     * Retrieves the statistics of the catalog cache.
+     *
+     * @return a {@link CatalogCacheStatsDTO} snapshot of the cache statistics
+     */
+    @Override
+    public CatalogCacheStatsDTO getCacheStats() {
+        return catalogCache.stats();
+    }
+
+    /**
+     * Searches the titles and authors of the catalog with the {@link CatalogSearchIndex}.
+     * <p>
+     * Only the matching books are loaded, through the {@link CatalogCache}.
+     * </p>
+     *
+     * @param query the words to look for; every word must occur in the title or the author
+     * @param limit the maximum number of results
+     * @return the matching books, best match first
+     */
+    @Override
+    public List<BookDTO> searchBooks(String query, int limit) {
+        List<Long> ids = searchIndex.search(query, limit);
+        return ids.isEmpty() ? List.of() : catalogCache.findAllById(ids);
+    }
+
+    /**
+     * Suggests titles and authors from the in-memory {@link CatalogSuggester}, without querying the database.
+     *
+     * @param prefix the text typed so far
+     * @param limit  the maximum number of suggestions
+     * @return the matching titles and authors, most copies first
+     */
+    @Override
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        return suggester.suggest(prefix, limit);
+    }
+
+    private List<BookDTO> toDTOs(List<Book> books) {
+        List<BookDTO> dtos = new ArrayList<>(books.size());
+        for (Book book : books) {
+            dtos.add(bookMapper.toDTO(book));
+        }
+        return dtos;
+    }
+
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static long decodeCursor(String cursor) throws BadRequestException {
+        if (cursor == null || cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
     }
 }
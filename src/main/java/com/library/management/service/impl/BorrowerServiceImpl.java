@@ -2,10 +2,9 @@ package com.library.management.service.impl;
 
 import com.library.management.dto.BorrowerDTO;
 import com.library.management.exception.ConflictException;
-import com.library.management.model.Borrower;
 import com.library.management.repository.BorrowerRepository;
 import com.library.management.service.BorrowerService;
-import org.modelmapper.ModelMapper;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -18,11 +17,12 @@ import java.util.Optional;
  * </p>
  *
  * <p>
- * Uses {@link ModelMapper} to convert between DTOs and entities.
+ * Registration is a single conditional insert: the duplicate check is the {@code borrower_name_email_u}
+ * constraint itself, so it stays exact under concurrent sign-ups and costs one round trip.
  * </p>
  *
  * @author Chandru
- * @version 1.0
+ * @version 1.1
  * @since 2025-05-19
  */
 @Service
@@ -31,9 +31,6 @@ public class BorrowerServiceImpl implements BorrowerService {
     @Autowired
     private BorrowerRepository borrowerRepository;
 
-    @Autowired
-    private ModelMapper modelMapper;
-
     /**
      * Adds a new borrower to the system if a borrower with the same name and email does not already exist.
      *
@@ -41,15 +38,14 @@ public class BorrowerServiceImpl implements BorrowerService {
      * @throws ConflictException if a borrower with the same name and email already exists
      */
     @Override
+    @Timed(value = "library.borrower.add", description = "Time to register a borrower")
     public void addBorrower(BorrowerDTO borrowerDTO) throws ConflictException {
-        Optional<Borrower> exists = borrowerRepository.findByNameAndEmail(
+        Optional<Long> borrowerId = borrowerRepository.insertIfAbsent(
                 borrowerDTO.getName(),
                 borrowerDTO.getEmail()
         );
-        if (exists.isPresent()) {
+        if (borrowerId.isEmpty()) {
             throw new ConflictException("Borrower Already Exists");
         }
-        Borrower borrower = modelMapper.map(borrowerDTO, Borrower.class);
-        borrowerRepository.save(borrower);
     }
 }
@@ -0,0 +1,125 @@
+package com.library.management.service.impl;
+
+import com.library.management.archive.ArchivedLoan;
+import com.library.management.archive.LedgerArchive;
+import com.library.management.archive.LedgerSegment;
+import com.library.management.dto.ArchivedLoanDTO;
+import com.library.management.repository.LedgerArchiveRepository;
+import com.library.management.service.LedgerArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Implementation of {@link LedgerArchiveService} run daily on the scheduler thread.
+ * <p>
+ * Each run archives the returned entries borrowed more than {@code ledger.archive.after-days} ago, in
+ * segments of at most {@code ledger.archive.segment-rows} entries. Every segment is written to disk first and
+ * then committed with one transaction that registers it and deletes its entries from {@code ledger}; if that
+ * transaction fails, the segment file is removed and the entries stay in the database for the next run.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class LedgerArchiveServiceImpl implements LedgerArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerArchiveServiceImpl.class);
+
+    @Autowired
+    private LedgerArchiveRepository ledgerArchiveRepository;
+
+    @Autowired
+    private LedgerArchive ledgerArchive;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${ledger.archive.after-days:365}")
+    private int afterDays;
+
+    @Value("${ledger.archive.segment-rows:100000}")
+    private int segmentRows;
+
+    /**
+     * Archives the returned entries past retention; failures are logged and retried on the next run.
+     */
+    @Scheduled(cron = "${ledger.archive.cron:0 30 3 * * *}")
+    public void archiveExpiredLoans() {
+        try {
+            int archived = archiveLoans(LocalDateTime.now().minusDays(afterDays));
+            if (archived > 0) {
+                log.info("Archived {} returned loans", archived);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not archive the returned loans", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int archiveLoans(LocalDateTime cutoff) {
+        int archived = 0;
+        while (true) {
+            List<ArchivedLoan> loans = ledgerArchiveRepository.findArchivable(cutoff, segmentRows);
+            if (loans.isEmpty()) {
+                return archived;
+            }
+            LedgerSegment segment;
+            try {
+                segment = ledgerArchive.stage(loans);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not write the archive segment", e);
+            }
+            List<Long> ids = loans.stream().map(ArchivedLoan::id).toList();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    ledgerArchiveRepository.registerSegment(segment.getPath().getFileName().toString(), segment);
+                    int deleted = ledgerArchiveRepository.deleteArchived(ids, cutoff);
+                    if (deleted != ids.size()) {
+                        // Another archiver took some of the entries; retry them on the next run
+                        throw new IllegalStateException("Archived " + ids.size() + " loans but deleted " + deleted);
+                    }
+                });
+            } catch (RuntimeException e) {
+                ledgerArchive.discard(segment);
+                throw e;
+            }
+            ledgerArchive.publish(segment);
+            archived += loans.size();
+            if (loans.size() < segmentRows) {
+                return archived;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ArchivedLoanDTO> getHistory(Long bookId, LocalDate from, LocalDate to, int limit) {
+        long fromMicros = from == null ? Long.MIN_VALUE : ArchivedLoan.toMicros(Timestamp.valueOf(from.atStartOfDay()));
+        long toMicros = to == null
+                ? Long.MAX_VALUE
+                : ArchivedLoan.toMicros(Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+        return ledgerArchive.find(bookId, fromMicros, toMicros, limit).stream()
+                .map(loan -> new ArchivedLoanDTO(loan.id(), loan.bookId(), loan.borrowerId(),
+                        ArchivedLoan.toDate(loan.createdMicros()), ArchivedLoan.toDate(loan.updatedMicros())))
+                .toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.library.management.service.impl;
+
+import com.library.management.repository.LedgerPartitionRepository;
+import com.library.management.service.LedgerPartitionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Implementation of {@link LedgerPartitionService} run at startup and then daily.
+ * <p>
+ * Partitions are created {@code ledger.partition.months-ahead} months in advance, so new entries never fall
+ * into {@code ledger_default}. Partitions older than {@code ledger.partition.retention-months} are detached,
+ * which removes a whole month from the ledger without a row-by-row delete or the bloat and vacuum work it
+ * leaves behind. Detached tables are kept for archiving unless {@code ledger.partition.drop-detached} is set.
+ * </p>
+ *
+ * <p>
+ * Every step is independent: a failing step is logged and retried on the next run, and never stops the
+ * application.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+public class LedgerPartitionServiceImpl implements LedgerPartitionService {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerPartitionServiceImpl.class);
+
+    @Autowired
+    private LedgerPartitionRepository ledgerPartitionRepository;
+
+    @Value("${ledger.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    /**
+     * Number of months kept attached before the current one; {@code 0} disables retention.
+     */
+    @Value("${ledger.partition.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${ledger.partition.drop-detached:false}")
+    private boolean dropDetached;
+
+    /**
+     * Maintains the partitions once the application has started, then every day.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${ledger.partition.maintenance-cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        maintainPartitions(YearMonth.now());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void maintainPartitions(YearMonth currentMonth) {
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            try {
+                ledgerPartitionRepository.createPartition(month);
+            } catch (DataAccessException e) {
+                // Typically rows of that month already sitting in ledger_default
+                log.warn("Could not create ledger partition {}",
+                        LedgerPartitionRepository.partitionName(month), e);
+            }
+        }
+        if (retentionMonths > 0) {
+            retire(currentMonth.minusMonths(retentionMonths));
+        }
+    }
+
+    /**
+     * Detaches, and optionally drops, the partitions of the months before the given one.
+     */
+    private void retire(YearMonth oldestKept) {
+        List<YearMonth> months;
+        try {
+            months = ledgerPartitionRepository.findPartitionMonths();
+        } catch (DataAccessException e) {
+            log.warn("Could not list the ledger partitions", e);
+            return;
+        }
+        for (YearMonth month : months) {
+            if (!month.isBefore(oldestKept)) {
+                continue;
+            }
+            String name = LedgerPartitionRepository.partitionName(month);
+            try {
+                if (ledgerPartitionRepository.hasActiveLoans(month)) {
+                    log.info("Keeping ledger partition {} past retention, it still holds active loans", name);
+                    continue;
+                }
+                ledgerPartitionRepository.detachPartition(month);
+                log.info("Detached ledger partition {}", name);
+                if (dropDetached) {
+                    ledgerPartitionRepository.dropDetachedPartition(month);
+                    log.info("Dropped ledger partition {}", name);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not retire ledger partition {}", name, e);
+            }
+        }
+    }
+}
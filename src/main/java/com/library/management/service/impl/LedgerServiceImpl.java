@@ -1,18 +1,28 @@
 package com.library.management.service.impl;
 
-import com.library.management.enums.LedgerStatus;
+import com.library.management.cache.CatalogCache;
+import com.library.management.dto.LedgerRequestDTO;
+import com.library.management.dto.LedgerResultDTO;
+import com.library.management.enums.LedgerResultStatus;
+import com.library.management.enums.LedgerWriteOutcome;
 import com.library.management.exception.ConflictException;
+import com.library.management.ledger.LedgerWriter;
 import com.library.management.model.Book;
 import com.library.management.model.Borrower;
 import com.library.management.model.Ledger;
 import com.library.management.repository.BookRepository;
 import com.library.management.repository.BorrowerRepository;
-import com.library.management.repository.LedgerRepository;
 import com.library.management.service.LedgerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Implementation of {@link LedgerService} for handling book borrowing and returning operations.
@@ -22,12 +32,29 @@ import java.util.Optional;
  * </p>
  *
  * <p>
- * It verifies the existence of the {@link Book} and {@link Borrower}, checks the current borrow status,
- * and either creates a new ledger record for a borrow or updates it for a return.
+ * Borrows and returns are written by the {@link LedgerWriter} of the configured {@code ledger.mode}. By default,
+ * a borrow is a single conditional insert and a return a single conditional update, and the affected row count
+ * decides between success and a {@link ConflictException}. The write-behind and event-sourced writers decide
+ * conflicts with an in-process index of the active loans instead.
+ * </p>
+ *
+ * <p>
+ * Whatever the mode, the existence of the {@link Book} and {@link Borrower} is only looked up separately when a
+ * write is refused, so a missing book or borrower is reported before a conflict.
+ * </p>
+ *
+ * <p>
+ * Batches are validated with one set-based existence query per table and written at once by the writer.
+ * </p>
+ *
+ * <p>
+ * Every single borrow and return is timed as {@code library.ledger}, tagged with the {@code operation}
+ * ({@code borrow} or {@code return}) and its {@code outcome} ({@code success}, {@code conflict} or
+ * {@code error}).
  * </p>
  *
  * @author Chandru
- * @version 1.0
+ * @version 1.3
  * @since 2025-05-19
  */
 @Service
@@ -40,7 +67,13 @@ public class LedgerServiceImpl implements LedgerService {
     private BorrowerRepository borrowerRepository;
 
     @Autowired
-    private LedgerRepository ledgerRepository;
+    private LedgerWriter ledgerWriter;
+
+    @Autowired
+    private CatalogCache catalogCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     /**
      * Handles borrowing or returning a book by creating or updating ledger entries.
@@ -57,34 +90,123 @@ public class LedgerServiceImpl implements LedgerService {
      */
     @Override
     public void handleLedger(Long bookId, Long borrowerId, boolean isBorrow) throws ConflictException {
-        Optional<Book> book = bookRepository.findById(bookId);
-        if (book.isEmpty()) {
-            throw new ConflictException("Book not exists to borrow");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            write(bookId, borrowerId, isBorrow);
+            outcome = "success";
+        } catch (ConflictException e) {
+            outcome = "conflict";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("library.ledger", "operation", isBorrow ? "borrow" : "return",
+                    "outcome", outcome));
         }
+    }
 
-        Optional<Borrower> borrower = borrowerRepository.findById(borrowerId);
-        if (borrower.isEmpty()) {
-            throw new ConflictException("Borrower not exists to borrow book");
+    /**
+     * Handles a batch of borrows or returns in a single transaction.
+     * <p>
+     * The books and borrowers of all items are checked with one query each, and the accepted items are written
+     * at once by the {@link LedgerWriter}, whose per-item row counts decide the conflicts. The write-behind and
+     * event-sourced writers first claim the books of the accepted items in their index, which also rejects
+     * repeated books within the batch.
+     * </p>
+     *
+     * @param requests the borrows or returns to process, in order
+     * @param isBorrow {@code true} to borrow the books, {@code false} to return them
+     * @return one result per request item, in the same order
+     */
+    @Override
+    @Transactional
+    public List<LedgerResultDTO> handleLedgerBatch(List<LedgerRequestDTO> requests, boolean isBorrow) {
+        Set<Long> bookIds = new HashSet<>();
+        Set<Long> borrowerIds = new HashSet<>();
+        for (LedgerRequestDTO request : requests) {
+            bookIds.add(request.getBookId());
+            borrowerIds.add(request.getBorrowerId());
         }
+        Set<Long> existingBooks = new HashSet<>(bookRepository.findExistingIds(bookIds));
+        Set<Long> existingBorrowers = new HashSet<>(borrowerRepository.findExistingIds(borrowerIds));
 
-        Optional<Ledger> ledger = ledgerRepository.findByBookIdAndStatus(bookId, LedgerStatus.BORROWED);
+        List<LedgerResultDTO> results = new ArrayList<>(requests.size());
+        List<LedgerResultDTO> accepted = new ArrayList<>();
+        List<Ledger> entries = new ArrayList<>();
+        for (LedgerRequestDTO request : requests) {
+            String conflict = null;
+            if (!existingBooks.contains(request.getBookId())) {
+                conflict = "Book not exists to borrow";
+            } else if (!existingBorrowers.contains(request.getBorrowerId())) {
+                conflict = "Borrower not exists to borrow book";
+            } else if (!ledgerWriter.claim(isBorrow, request.getBookId())) {
+                conflict = isBorrow ? "Book is already borrowed by someone" : "Book is not borrowed to return";
+            }
 
-        if (isBorrow && ledger.isPresent()) {
-            throw new ConflictException("Book is already borrowed by someone");
-        } else if (!isBorrow && ledger.isEmpty()) {
-            throw new ConflictException("Book is not borrowed to return");
+            LedgerResultDTO result = new LedgerResultDTO(request.getBookId(), request.getBorrowerId(),
+                    LedgerResultStatus.CONFLICT, conflict);
+            results.add(result);
+            if (conflict == null) {
+                Ledger entry = new Ledger();
+                entry.setBookId(request.getBookId());
+                entry.setBorrowerId(request.getBorrowerId());
+                entries.add(entry);
+                accepted.add(result);
+            }
+        }
+
+        int[] counts = ledgerWriter.writeAll(isBorrow, entries);
+        for (int i = 0; i < accepted.size(); i++) {
+            LedgerResultDTO result = accepted.get(i);
+            if (counts[i] > 0) {
+                result.setStatus(LedgerResultStatus.SUCCESS);
+                result.setMessage(isBorrow ? "Borrowed book Successfully" : "Returned book Successfully");
+            } else {
+                result.setMessage(isBorrow ? "Book is already borrowed by someone" : "Book is not borrowed to return");
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Writes the borrow or return and explains a refusal, reporting a missing book or borrower first.
+     *
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @param isBorrow   {@code true} for a borrow, {@code false} for a return
+     * @throws ConflictException if the book or borrower does not exist, was added while the write was refused, or
+     *                           the book is already borrowed, or not borrowed for a return
+     */
+    private void write(Long bookId, Long borrowerId, boolean isBorrow) throws ConflictException {
+        LedgerWriteOutcome outcome = ledgerWriter.write(isBorrow, bookId, borrowerId);
+        if (outcome == LedgerWriteOutcome.CONFLICT) {
+            checkBookAndBorrowerExist(bookId, borrowerId);
+            throw new ConflictException(isBorrow ? "Book is already borrowed by someone"
+                    : "Book is not borrowed to return");
+        }
+        if (outcome == LedgerWriteOutcome.MISSING) {
+            checkBookAndBorrowerExist(bookId, borrowerId);
+            // Both exist by now, so one of them was added after the write looked for it
+            throw new ConflictException(isBorrow ? "Book or borrower was just added, please retry the borrow"
+                    : "Book or borrower was just added, please retry the return");
         }
+    }
 
-        if (isBorrow) {
-            Ledger ledgerEntry = new Ledger();
-            ledgerEntry.setBookId(bookId);
-            ledgerEntry.setBorrowerId(borrowerId);
-            ledgerEntry.setStatus(LedgerStatus.BORROWED);
-            ledgerRepository.save(ledgerEntry);
-        } else {
-            Ledger ledgerEntry = ledger.get();
-            ledgerEntry.setStatus(LedgerStatus.RETURNED);
-            ledgerRepository.save(ledgerEntry);
+    /**
+     * Explains why a borrow or return was rejected when the book or borrower is missing.
+     * <p>
+     * Only called on the rejection path, so the normal borrow and return flow stays a single statement.
+     * </p>
+     *
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @throws ConflictException if the book or the borrower does not exist
+     */
+    private void checkBookAndBorrowerExist(Long bookId, Long borrowerId) throws ConflictException {
+        if (catalogCache.findById(bookId).isEmpty()) {
+            throw new ConflictException("Book not exists to borrow");
+        }
+        if (!borrowerRepository.existsById(borrowerId)) {
+            throw new ConflictException("Borrower not exists to borrow book");
         }
     }
 }
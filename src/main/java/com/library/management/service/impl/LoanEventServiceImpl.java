@@ -0,0 +1,76 @@
+package com.library.management.service.impl;
+
+import com.library.management.dto.LoanDTO;
+import com.library.management.event.ActiveLoan;
+import com.library.management.event.EventSourcedLedger;
+import com.library.management.event.LoanEvent;
+import com.library.management.repository.LedgerEventRepository;
+import com.library.management.service.LoanEventService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Implementation of {@link LoanEventService}, active with {@code ledger.mode=event-sourced}.
+ * <p>
+ * Current loans come straight from the projection of the {@link EventSourcedLedger}; loans at a past time are
+ * rebuilt by it from a snapshot. The history of a book pairs its latest borrow and return events, which the
+ * {@code (book_id, id)} index returns without touching other books.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@Service
+@ConditionalOnProperty(name = "ledger.mode", havingValue = "event-sourced")
+public class LoanEventServiceImpl implements LoanEventService {
+
+    @Autowired
+    private EventSourcedLedger eventSourcedLedger;
+
+    @Autowired
+    private LedgerEventRepository ledgerEventRepository;
+
+    @Override
+    public List<LoanDTO> getActiveLoans(Instant at, int limit) {
+        List<ActiveLoan> loans = at == null ? eventSourcedLedger.getActiveLoans()
+                : eventSourcedLedger.getActiveLoans(at);
+        return loans.stream()
+                .limit(limit)
+                .map(loan -> new LoanDTO(loan.eventId(), loan.bookId(), loan.borrowerId(),
+                        toDate(loan.borrowedMicros()), null))
+                .toList();
+    }
+
+    @Override
+    public List<LoanDTO> getHistory(Long bookId, int limit) {
+        // Events of a book alternate between borrow and return, so this covers the latest loans
+        List<LoanEvent> events = ledgerEventRepository.findByBook(bookId, 2 * limit);
+        List<LoanDTO> loans = new ArrayList<>();
+        LoanDTO open = null;
+        for (int i = events.size() - 1; i >= 0; i--) {
+            LoanEvent event = events.get(i);
+            if (event.borrow()) {
+                open = new LoanDTO(event.id(), event.bookId(), event.borrowerId(), toDate(event.micros()), null);
+                loans.add(open);
+            } else if (open != null) {
+                open.setReturnedDate(toDate(event.micros()));
+                open = null;
+            }
+            // A return whose borrow was not fetched belongs to an older loan past the limit
+        }
+        Collections.reverse(loans);
+        return loans.subList(0, Math.min(limit, loans.size()));
+    }
+
+    private static Date toDate(long micros) {
+        return new Date(Math.floorDiv(micros, 1000));
+    }
+}
@@ -0,0 +1,92 @@
+package com.library.management.service.impl;
+
+import com.library.management.exception.ConflictException;
+import com.library.management.repository.ReactiveLedgerRepository;
+import com.library.management.service.ReactiveLedgerService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of {@link ReactiveLedgerService} on R2DBC.
+ * <p>
+ * Follows {@link LedgerServiceImpl} step by step: a borrow is a single conditional insert and a return a single
+ * conditional update, and the existence of the book and borrower is only looked up when a statement writes
+ * nothing. The conflict messages are the same.
+ * </p>
+ *
+ * <p>
+ * Borrows and returns are timed as {@code library.ledger} with the same {@code operation} and
+ * {@code outcome} tags.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@Service
+@Profile("reactive")
+public class ReactiveLedgerServiceImpl implements ReactiveLedgerService {
+
+    @Autowired
+    private ReactiveLedgerRepository ledgerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public Mono<Void> handleLedger(Long bookId, Long borrowerId, boolean isBorrow) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Mono<Void> operation = isBorrow ? borrowBook(bookId, borrowerId) : returnBook(bookId, borrowerId);
+            return operation
+                    .doOnSuccess(ignored -> stop(sample, isBorrow, "success"))
+                    .doOnError(e -> stop(sample, isBorrow, e instanceof ConflictException ? "conflict" : "error"));
+        });
+    }
+
+    /**
+     * Inserts a {@code BORROWED} entry.
+     */
+    private Mono<Void> borrowBook(Long bookId, Long borrowerId) {
+        return ledgerRepository.insertBorrow(bookId, borrowerId)
+                .switchIfEmpty(Mono.defer(() -> checkBookAndBorrowerExist(bookId, borrowerId)
+                        // Both exist, so ledger_active rejected the insert
+                        .then(Mono.error(new ConflictException("Book is already borrowed by someone")))))
+                .then();
+    }
+
+    /**
+     * Updates the active loan of the book to {@code RETURNED}.
+     */
+    private Mono<Void> returnBook(Long bookId, Long borrowerId) {
+        return ledgerRepository.markReturned(bookId, borrowerId)
+                .flatMap(updated -> updated > 0 ? Mono.<Void>empty()
+                        : checkBookAndBorrowerExist(bookId, borrowerId)
+                        // Both exist, so there was no active loan
+                        .then(Mono.error(new ConflictException("Book is not borrowed to return"))));
+    }
+
+    /**
+     * Fails with the reason a conditional ledger statement wrote nothing if the book or borrower is missing.
+     *
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @return an empty {@link Mono} if both exist, otherwise a {@link ConflictException}
+     */
+    private Mono<Void> checkBookAndBorrowerExist(Long bookId, Long borrowerId) {
+        return ledgerRepository.bookExists(bookId)
+                .flatMap(bookExists -> bookExists ? ledgerRepository.borrowerExists(borrowerId)
+                        : Mono.error(new ConflictException("Book not exists to borrow")))
+                .flatMap(borrowerExists -> borrowerExists ? Mono.<Void>empty()
+                        : Mono.error(new ConflictException("Borrower not exists to borrow book")));
+    }
+
+    private void stop(Timer.Sample sample, boolean isBorrow, String outcome) {
+        sample.stop(meterRegistry.timer("library.ledger", "operation", isBorrow ? "borrow" : "return",
+                "outcome", outcome));
+    }
+}
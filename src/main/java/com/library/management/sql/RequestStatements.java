@@ -0,0 +1,109 @@
+package com.library.management.sql;
+
+/**
+ * The SQL statements run so far by the request on the current thread.
+ * <p>
+ * {@link StatementRecordingInterceptor} opens a tally when a controller method is about to handle a request
+ * and closes it once the response is complete; {@link StatementRecordingDataSource} adds every statement the
+ * thread executes in between. Work handed to other threads, such as the write-behind ledger's group commits,
+ * is not counted.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class RequestStatements {
+
+    /**
+     * Budget of a handler without {@link StatementBudget}.
+     */
+    public static final int UNLIMITED = -1;
+
+    private static final ThreadLocal<RequestStatements> current = new ThreadLocal<>();
+
+    private final String handler;
+
+    private final int budget;
+
+    private int count;
+
+    private long nanos;
+
+    private RequestStatements(String handler, int budget) {
+        this.handler = handler;
+        this.budget = budget;
+    }
+
+    /**
+     * Opens the tally of a request on the current thread.
+     *
+     * @param handler the controller method handling the request, such as {@code LedgerController.borrowBook}
+     * @param budget  the statement budget of the handler, or {@link #UNLIMITED}
+     * @return the opened tally
+     */
+    public static RequestStatements begin(String handler, int budget) {
+        RequestStatements statements = new RequestStatements(handler, budget);
+        current.set(statements);
+        return statements;
+    }
+
+    /**
+     * Returns the tally of the request on the current thread.
+     *
+     * @return the tally, or {@code null} outside a request
+     */
+    public static RequestStatements current() {
+        return current.get();
+    }
+
+    /**
+     * Closes the tally of the request on the current thread.
+     *
+     * @return the closed tally, or {@code null} if none was open
+     */
+    public static RequestStatements end() {
+        RequestStatements statements = current.get();
+        current.remove();
+        return statements;
+    }
+
+    void record(long elapsedNanos) {
+        count++;
+        nanos += elapsedNanos;
+    }
+
+    /**
+     * Returns whether one more statement would go over the budget.
+     *
+     * @return {@code true} if the budget is used up
+     */
+    boolean isBudgetSpent() {
+        return budget != UNLIMITED && count >= budget;
+    }
+
+    /**
+     * Returns whether more statements ran than the budget allows.
+     *
+     * @return {@code true} if the budget was exceeded
+     */
+    public boolean isOverBudget() {
+        return budget != UNLIMITED && count > budget;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,34 @@
+package com.library.management.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the most SQL statements one call of a controller method may run.
+ * <p>
+ * The budget counts every statement executed on the request thread, including the transaction's own
+ * {@code select} of sequence values but not {@code commit} or {@code rollback}. A request going over it is
+ * logged; with {@code sql.statement-budget.enforce=true} the statement going over it fails instead, so that
+ * an N+1 regression breaks the tests rather than production.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see StatementRecordingInterceptor
+ * @since 2026-10-17
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    /**
+     * Returns the most statements a call may run.
+     *
+     * @return the statement budget
+     */
+    int value();
+}
@@ -0,0 +1,143 @@
+package com.library.management.sql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DataSource} that times every SQL statement and adds it to the {@link RequestStatements} of the
+ * calling thread.
+ * <p>
+ * Connections and the statements they create are wrapped in JDK proxies, which time each {@code execute}
+ * call. A statement slower than {@code sql.slow-statement-threshold} is logged as a warning with the
+ * controller method that ran it; every statement is logged at debug level, which replaces
+ * {@code spring.jpa.show-sql} without its cost when disabled. With {@code sql.statement-budget.enforce=true}
+ * a statement that would go over the {@link StatementBudget} of its request fails with an
+ * {@link IllegalStateException} before reaching the database.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see StatementRecordingInterceptor
+ * @since 2026-10-17
+ */
+public class StatementRecordingDataSource extends DelegatingDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementRecordingDataSource.class);
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final long slowThresholdNanos;
+
+    private final boolean enforceBudgets;
+
+    /**
+     * Creates the recorder in front of a data source.
+     *
+     * @param targetDataSource the data source to record
+     * @param slowThreshold    how long a statement may run before it is logged as slow
+     * @param enforceBudgets   whether a statement over the budget of its request fails
+     */
+    public StatementRecordingDataSource(DataSource targetDataSource, Duration slowThreshold, boolean enforceBudgets) {
+        super(targetDataSource);
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.enforceBudgets = enforceBudgets;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return recording(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return recording(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Wraps the connection so that the statements it creates are recorded.
+     */
+    private Connection recording(Connection connection) {
+        return (Connection) proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement statement && method.getName().startsWith("prepare")) {
+                return recording(statement, method.getReturnType(), (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return recording(statement, Statement.class, null);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Wraps the statement so that its executions are recorded.
+     *
+     * @param type the statement interface to expose
+     * @param sql  the SQL it was prepared with, or {@code null} for a plain statement
+     */
+    private Statement recording(Statement statement, Class<?> type, String sql) {
+        return (Statement) proxy(type, statement, (proxy, method, args) -> {
+            if (!EXECUTE_METHODS.contains(method.getName())) {
+                return invoke(statement, method, args);
+            }
+            String text = sql != null ? sql : args != null && args.length > 0 ? (String) args[0] : "batch";
+            RequestStatements request = RequestStatements.current();
+            if (enforceBudgets && request != null && request.isBudgetSpent()) {
+                // Counted all the same, so that the interceptor reports the request as over its budget
+                request.record(0);
+                throw new IllegalStateException(request.getHandler() + " went over its budget of "
+                        + request.getBudget() + " SQL statements with: " + text);
+            }
+            long started = System.nanoTime();
+            try {
+                return invoke(statement, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - started;
+                if (request != null) {
+                    request.record(elapsed);
+                }
+                log(request, text, elapsed);
+            }
+        });
+    }
+
+    private void log(RequestStatements request, String sql, long elapsedNanos) {
+        if (elapsedNanos >= slowThresholdNanos) {
+            log.warn("Slow SQL statement in {} took {} ms: {}", origin(request),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), sql);
+        } else if (log.isDebugEnabled()) {
+            log.debug("SQL statement in {} took {} µs: {}", origin(request),
+                    TimeUnit.NANOSECONDS.toMicros(elapsedNanos), sql);
+        }
+    }
+
+    private static String origin(RequestStatements request) {
+        return request != null ? request.getHandler() : "no request";
+    }
+
+    private static Object proxy(Class<?> type, Object target, InvocationHandler handler) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
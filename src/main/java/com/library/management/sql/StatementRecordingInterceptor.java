@@ -0,0 +1,86 @@
+package com.library.management.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each controller method runs per request.
+ * <p>
+ * A {@link RequestStatements} tally is opened before the controller method is called and closed once the
+ * response is complete. Its statement count and database time are published as {@code library.sql.statements}
+ * and {@code library.sql.time}, and a request over the {@link StatementBudget} of its method increments
+ * {@code library.sql.budget.exceeded}; all three are tagged with the method, such as
+ * {@code LedgerController.borrowBook}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @see StatementRecordingDataSource
+ * @since 2026-10-17
+ */
+public class StatementRecordingInterceptor implements HandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementRecordingInterceptor.class);
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Creates the interceptor.
+     *
+     * @param meterRegistry the registry to publish the statement meters to
+     */
+    public StatementRecordingInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            StatementBudget budget = method.getMethodAnnotation(StatementBudget.class);
+            RequestStatements.begin(method.getBeanType().getSimpleName() + "." + method.getMethod().getName(),
+                    budget != null ? budget.value() : RequestStatements.UNLIMITED);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        RequestStatements statements = RequestStatements.end();
+        if (statements == null) {
+            return;
+        }
+        String handlerName = statements.getHandler();
+        DistributionSummary.builder("library.sql.statements")
+                .description("SQL statements run per request")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(statements.getCount());
+        Timer.builder("library.sql.time")
+                .description("Time per request spent executing SQL statements")
+                .tag("handler", handlerName)
+                .register(meterRegistry)
+                .record(statements.getNanos(), TimeUnit.NANOSECONDS);
+        if (statements.isOverBudget()) {
+            Counter.builder("library.sql.budget.exceeded")
+                    .description("Requests that ran more SQL statements than their budget")
+                    .tag("handler", handlerName)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("{} ran {} SQL statements, over its budget of {}", handlerName, statements.getCount(),
+                    statements.getBudget());
+        }
+        log.debug("{} ran {} SQL statements in {} ms", handlerName, statements.getCount(),
+                TimeUnit.NANOSECONDS.toMillis(statements.getNanos()));
+    }
+}
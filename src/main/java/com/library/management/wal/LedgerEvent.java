@@ -0,0 +1,16 @@
+package com.library.management.wal;
+
+/**
+ * A borrow or return acknowledged through the write-ahead log and not necessarily applied to {@code ledger} yet.
+ *
+ * @param seq        the position in the log; consecutive and starting at 1
+ * @param borrow     {@code true} for a borrow, {@code false} for a return
+ * @param bookId     the ID of the book
+ * @param borrowerId the ID of the borrower
+ * @param micros     the time of the request, in microseconds since the epoch
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public record LedgerEvent(long seq, boolean borrow, long bookId, long borrowerId, long micros) {
+}
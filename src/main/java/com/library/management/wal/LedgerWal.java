@@ -0,0 +1,393 @@
+package com.library.management.wal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
+
+/**
+ * Write-ahead log of ledger events, kept as memory-mapped segment files of fixed size.
+ * <p>
+ * Every event is one {@value #RECORD_BYTES}-byte record: sequence number, book ID, borrower ID, request time,
+ * type and a CRC32C of the preceding fields. Segments are named {@code ledger-<first sequence>.wal} and
+ * preallocated, so a zero sequence number marks the end of the written part; a record with a bad checksum
+ * marks a write torn by a crash, which was never acknowledged.
+ * </p>
+ *
+ * <p>
+ * Appending only copies the record into the mapping. {@link #awaitDurable} then forces it to disk with group
+ * commit: the first waiting thread forces everything appended so far and every thread whose event was
+ * covered returns, so one {@code fsync} acknowledges as many events as arrived in the meantime.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public final class LedgerWal implements Closeable {
+
+    /**
+     * Size of one event record.
+     */
+    public static final int RECORD_BYTES = 40;
+
+    public static final String EXTENSION = ".wal";
+
+    private static final String PREFIX = "ledger-";
+
+    private static final int BORROW = 1;
+    private static final int RETURN = 2;
+    private static final int CHECKSUMMED_BYTES = 36;
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final List<LedgerEvent> recovered;
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final NavigableMap<Long, Path> closedSegments = new TreeMap<>();
+    private Segment active;
+    private long nextSeq;
+
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private final Condition synced = syncLock.newCondition();
+    private boolean syncing;
+    private volatile long durableSeq;
+    private volatile IOException failure;
+
+    /**
+     * A mapped segment file; {@code position} is guarded by the append lock, {@code syncedPosition} is only
+     * touched by the thread currently forcing the log.
+     */
+    private static final class Segment {
+
+        final Path path;
+        final long firstSeq;
+        final MappedByteBuffer buffer;
+        int position;
+        int syncedPosition;
+
+        Segment(Path path, long firstSeq, MappedByteBuffer buffer) {
+            this.path = path;
+            this.firstSeq = firstSeq;
+            this.buffer = buffer;
+        }
+    }
+
+    private LedgerWal(Path directory, int segmentBytes, List<LedgerEvent> recovered) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.recovered = recovered;
+    }
+
+    /**
+     * Opens the log in the given directory, reads back the events it holds and starts a new segment for
+     * appending.
+     *
+     * @param directory    the directory of the segment files; created if missing
+     * @param segmentBytes the size of a segment file; a multiple of {@value #RECORD_BYTES} is not required
+     * @param appliedSeq   the highest sequence number already applied, so numbering never goes backwards
+     *                     even if every segment was removed
+     * @return the opened log
+     * @throws IOException if a segment cannot be read, or the events of the segments are not consecutive
+     */
+    public static LedgerWal open(Path directory, int segmentBytes, long appliedSeq) throws IOException {
+        if (segmentBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("Segment size " + segmentBytes + " is smaller than one record");
+        }
+        Files.createDirectories(directory);
+        NavigableMap<Long, Path> files = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + EXTENSION)) {
+            for (Path file : stream) {
+                files.put(firstSeq(file), file);
+            }
+        }
+
+        List<LedgerEvent> events = new ArrayList<>();
+        LedgerWal wal = new LedgerWal(directory, segmentBytes, Collections.unmodifiableList(events));
+        for (Map.Entry<Long, Path> file : files.entrySet()) {
+            int before = events.size();
+            readSegment(file.getValue(), events);
+            if (events.size() == before) {
+                // Nothing was acknowledged from this segment
+                Files.delete(file.getValue());
+            } else {
+                wal.closedSegments.put(file.getKey(), file.getValue());
+            }
+        }
+
+        long lastSeq = events.isEmpty() ? 0 : events.get(events.size() - 1).seq();
+        wal.nextSeq = Math.max(lastSeq, appliedSeq) + 1;
+        wal.durableSeq = wal.nextSeq - 1;
+        wal.active = wal.createSegment(wal.nextSeq);
+        return wal;
+    }
+
+    /**
+     * Returns the events read back by {@link #open}, oldest first.
+     *
+     * @return the recovered events, including those already applied
+     */
+    public List<LedgerEvent> recovered() {
+        return recovered;
+    }
+
+    /**
+     * Appends an event; it is not durable before {@link #awaitDurable} returns for its sequence number.
+     *
+     * @param borrow     {@code true} for a borrow, {@code false} for a return
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @param micros     the time of the request, in microseconds since the epoch
+     * @return the event with its sequence number
+     * @throws IOException if the log failed earlier or a new segment cannot be created
+     */
+    public LedgerEvent append(boolean borrow, long bookId, long borrowerId, long micros) throws IOException {
+        appendLock.lock();
+        try {
+            checkHealthy();
+            if (active.position + RECORD_BYTES > segmentBytes) {
+                roll();
+            }
+            LedgerEvent event = new LedgerEvent(nextSeq, borrow, bookId, borrowerId, micros);
+            write(active.buffer, active.position, event);
+            active.position += RECORD_BYTES;
+            nextSeq++;
+            return event;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Waits until the event with the given sequence number, and every one before it, is on disk.
+     *
+     * @param seq the sequence number returned by {@link #append}
+     * @throws IOException if forcing the log to disk failed; the log then refuses all further events
+     */
+    public void awaitDurable(long seq) throws IOException {
+        syncLock.lock();
+        try {
+            while (durableSeq < seq) {
+                checkHealthy();
+                if (syncing) {
+                    synced.awaitUninterruptibly();
+                    continue;
+                }
+                syncing = true;
+                syncLock.unlock();
+                long target = -1;
+                try {
+                    target = forceAppended();
+                } finally {
+                    syncLock.lock();
+                    syncing = false;
+                    if (target > durableSeq) {
+                        durableSeq = target;
+                    }
+                    synced.signalAll();
+                }
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the highest sequence number known to be on disk.
+     *
+     * @return the durable sequence number
+     */
+    public long durableSeq() {
+        return durableSeq;
+    }
+
+    /**
+     * Deletes the segments whose events are all applied; the segment being appended to is kept.
+     *
+     * @param appliedSeq the highest sequence number applied to the database
+     * @throws IOException if a segment file cannot be deleted
+     */
+    public void truncate(long appliedSeq) throws IOException {
+        appendLock.lock();
+        try {
+            Iterator<Map.Entry<Long, Path>> segments = closedSegments.entrySet().iterator();
+            while (segments.hasNext()) {
+                Map.Entry<Long, Path> segment = segments.next();
+                Long next = closedSegments.higherKey(segment.getKey());
+                long lastSeq = (next != null ? next : active.firstSeq) - 1;
+                if (lastSeq > appliedSeq) {
+                    break;
+                }
+                Files.deleteIfExists(segment.getValue());
+                segments.remove();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of segment files, including the one being appended to.
+     *
+     * @return the segment count
+     */
+    public int segmentCount() {
+        appendLock.lock();
+        try {
+            return closedSegments.size() + 1;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Forces the appended events to disk. The mappings are released by the garbage collector.
+     */
+    @Override
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (failure == null) {
+                active.buffer.force(0, active.position);
+            }
+            failure = new IOException("Write-ahead log is closed");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Forces everything appended to the active segment so far and returns the sequence number it covers.
+     */
+    private long forceAppended() throws IOException {
+        Segment segment;
+        int from;
+        int to;
+        long target;
+        appendLock.lock();
+        try {
+            segment = active;
+            from = segment.syncedPosition;
+            to = segment.position;
+            target = nextSeq - 1;
+        } finally {
+            appendLock.unlock();
+        }
+        try {
+            if (to > from) {
+                segment.buffer.force(from, to - from);
+            }
+        } catch (UncheckedIOException e) {
+            failure = e.getCause();
+            throw e.getCause();
+        }
+        segment.syncedPosition = to;
+        return target;
+    }
+
+    /**
+     * Closes the full active segment, forcing all of it, and starts the next one.
+     */
+    private void roll() throws IOException {
+        try {
+            active.buffer.force(0, active.position);
+        } catch (UncheckedIOException e) {
+            failure = e.getCause();
+            throw e.getCause();
+        }
+        closedSegments.put(active.firstSeq, active.path);
+        active = createSegment(nextSeq);
+    }
+
+    private Segment createSegment(long firstSeq) throws IOException {
+        Path path = directory.resolve(String.format("%s%019d%s", PREFIX, firstSeq, EXTENSION));
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+        }
+        syncDirectory();
+        return new Segment(path, firstSeq, buffer);
+    }
+
+    /**
+     * Makes the creation of a segment file durable; not every platform can open a directory for this.
+     */
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // The file content is still forced; only its directory entry may be lost in a crash
+        }
+    }
+
+    private void checkHealthy() throws IOException {
+        IOException failed = failure;
+        if (failed != null) {
+            throw new IOException("Write-ahead log is unavailable", failed);
+        }
+    }
+
+    private static void write(ByteBuffer buffer, int position, LedgerEvent event) {
+        buffer.putLong(position, event.seq());
+        buffer.putLong(position + 8, event.bookId());
+        buffer.putLong(position + 16, event.borrowerId());
+        buffer.putLong(position + 24, event.micros());
+        buffer.putInt(position + 32, event.borrow() ? BORROW : RETURN);
+        buffer.putInt(position + CHECKSUMMED_BYTES, checksum(buffer, position));
+    }
+
+    /**
+     * Reads the valid records of a segment, up to its end or the first torn record.
+     */
+    private static void readSegment(Path file, List<LedgerEvent> events) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        for (int position = 0; position + RECORD_BYTES <= buffer.limit(); position += RECORD_BYTES) {
+            long seq = buffer.getLong(position);
+            int type = buffer.getInt(position + 32);
+            if (seq == 0 || (type != BORROW && type != RETURN)
+                    || buffer.getInt(position + CHECKSUMMED_BYTES) != checksum(buffer, position)) {
+                return;
+            }
+            if (!events.isEmpty() && seq != events.get(events.size() - 1).seq() + 1) {
+                throw new IOException("Write-ahead log " + file + " continues at " + seq + " after "
+                        + events.get(events.size() - 1).seq());
+            }
+            events.add(new LedgerEvent(seq, type == BORROW, buffer.getLong(position + 8),
+                    buffer.getLong(position + 16), buffer.getLong(position + 24)));
+        }
+    }
+
+    private static int checksum(ByteBuffer buffer, int position) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(position, CHECKSUMMED_BYTES));
+        return (int) crc.getValue();
+    }
+
+    private static long firstSeq(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        try {
+            return Long.parseLong(name.substring(PREFIX.length(), name.length() - EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            throw new IOException("Unexpected file in the write-ahead log directory: " + file, e);
+        }
+    }
+}
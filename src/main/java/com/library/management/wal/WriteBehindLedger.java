@@ -0,0 +1,290 @@
+package com.library.management.wal;
+
+import com.library.management.index.BookAvailabilityIndex;
+import com.library.management.model.Ledger;
+import com.library.management.repository.LedgerWalRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind path of the ledger, active with {@code ledger.mode=write-behind}.
+ * <p>
+ * A borrow or return is acknowledged as soon as its event is forced to the {@link LedgerWal}; a background
+ * committer applies the durable events to {@code ledger} every {@code ledger.write-behind.commit-interval},
+ * in log order and in groups of up to {@code ledger.write-behind.max-group-size} events per transaction.
+ * Conflicts are decided before the event is logged, by the {@link BookAvailabilityIndex}, which is
+ * therefore ahead of the table until the group is committed.
+ * </p>
+ *
+ * <p>
+ * At startup, the events logged after the checkpoint in {@code ledger_wal_checkpoint} are applied before the
+ * application serves requests, and the availability index is then loaded from the table. Segments whose events
+ * are all applied are deleted.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @see LedgerWal
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "ledger.mode", havingValue = "write-behind")
+public class WriteBehindLedger {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindLedger.class);
+
+    @Autowired
+    private LedgerWalRepository ledgerWalRepository;
+
+    @Autowired
+    private BookAvailabilityIndex availabilityIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${ledger.write-behind.directory:wal/ledger}")
+    private Path directory;
+
+    @Value("${ledger.write-behind.segment-bytes:16777216}")
+    private int segmentBytes;
+
+    @Value("${ledger.write-behind.commit-interval:5ms}")
+    private Duration commitInterval;
+
+    @Value("${ledger.write-behind.max-group-size:5000}")
+    private int maxGroupSize;
+
+    /**
+     * Logged events not yet applied, by sequence number.
+     */
+    private final ConcurrentSkipListMap<Long, LedgerEvent> pending = new ConcurrentSkipListMap<>();
+
+    private volatile long appliedSeq;
+    private boolean failing;
+
+    private LedgerWal wal;
+    private ScheduledExecutorService committer;
+    private Timer commitTimer;
+    private DistributionSummary groupSize;
+    private Counter rejected;
+
+    /**
+     * Opens the log, applies the events it holds beyond the checkpoint and starts the committer.
+     *
+     * @throws IOException if the log cannot be opened
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        commitTimer = meterRegistry.timer("library.ledger.write_behind.commit");
+        groupSize = meterRegistry.summary("library.ledger.write_behind.group.size");
+        rejected = meterRegistry.counter("library.ledger.write_behind.rejected");
+        Gauge.builder("library.ledger.write_behind.pending", pending, ConcurrentSkipListMap::size)
+                .description("Acknowledged ledger events not yet committed to the database")
+                .register(meterRegistry);
+
+        appliedSeq = ledgerWalRepository.findAppliedSeq();
+        wal = LedgerWal.open(directory, segmentBytes, appliedSeq);
+        for (LedgerEvent event : wal.recovered()) {
+            if (event.seq() > appliedSeq) {
+                pending.put(event.seq(), event);
+            }
+        }
+        if (!pending.isEmpty()) {
+            if (pending.firstKey() != appliedSeq + 1) {
+                throw new IllegalStateException("Write-ahead log starts at " + pending.firstKey()
+                        + " but events up to " + appliedSeq + " only are applied");
+            }
+            int replayed = pending.size();
+            while (commitGroup() > 0) {
+                // Replay everything before serving requests
+            }
+            log.info("Replayed {} ledger events from the write-ahead log", replayed);
+        }
+        wal.truncate(appliedSeq);
+        availabilityIndex.load();
+
+        committer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        committer.scheduleWithFixedDelay(this::commitPending, commitInterval.toNanos(), commitInterval.toNanos(),
+                TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Stops the committer, applies what is left and closes the log; anything not applied is replayed on the
+     * next start.
+     */
+    @PreDestroy
+    public void stop() throws IOException, InterruptedException {
+        committer.shutdown();
+        committer.awaitTermination(10, TimeUnit.SECONDS);
+        commitPending();
+        wal.close();
+    }
+
+    /**
+     * Logs a single borrow or return and waits until it is durable.
+     *
+     * @param borrow     {@code true} for a borrow, {@code false} for a return
+     * @param bookId     the ID of the book
+     * @param borrowerId the ID of the borrower
+     * @throws UncheckedIOException if the event could not be logged or forced to disk
+     */
+    public void record(boolean borrow, Long bookId, Long borrowerId) {
+        try {
+            LedgerEvent event = wal.append(borrow, bookId, borrowerId, nowMicros());
+            pending.put(event.seq(), event);
+            wal.awaitDurable(event.seq());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Logs several borrows or returns and waits until all of them are durable, with a single {@code fsync}.
+     *
+     * @param borrow {@code true} for borrows, {@code false} for returns
+     * @param loans  the loans; only {@code bookId} and {@code borrowerId} are used
+     * @throws UncheckedIOException if the events could not be logged or forced to disk
+     */
+    public void recordAll(boolean borrow, List<Ledger> loans) {
+        if (loans.isEmpty()) {
+            return;
+        }
+        try {
+            long micros = nowMicros();
+            long lastSeq = 0;
+            for (Ledger loan : loans) {
+                LedgerEvent event = wal.append(borrow, loan.getBookId(), loan.getBorrowerId(), micros);
+                pending.put(event.seq(), event);
+                lastSeq = event.seq();
+            }
+            wal.awaitDurable(lastSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the number of acknowledged events not yet committed to the database.
+     *
+     * @return the pending event count
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Commits every durable event; runs on the committer thread. Failures are retried on the next run.
+     */
+    synchronized void commitPending() {
+        try {
+            while (commitGroup() == maxGroupSize) {
+                // A full group means more events may be waiting
+            }
+            wal.truncate(appliedSeq);
+            if (failing) {
+                failing = false;
+                log.info("Write-behind ledger commits resumed at event {}", appliedSeq);
+            }
+        } catch (RuntimeException | IOException e) {
+            if (!failing) {
+                failing = true;
+                log.warn("Could not commit the write-behind ledger events after {}; retrying", appliedSeq, e);
+            }
+        }
+    }
+
+    /**
+     * Applies the next consecutive durable events in one transaction.
+     *
+     * @return the number of events applied
+     */
+    private int commitGroup() {
+        long durableSeq = wal.durableSeq();
+        List<LedgerEvent> group = new ArrayList<>();
+        for (long seq = appliedSeq + 1; seq <= durableSeq && group.size() < maxGroupSize; seq++) {
+            // A gap is an event still being logged by its request thread; it is picked up on the next run
+            LedgerEvent event = pending.get(seq);
+            if (event == null) {
+                break;
+            }
+            group.add(event);
+        }
+        if (group.isEmpty()) {
+            return 0;
+        }
+
+        Integer skipped = commitTimer.record(() -> transactionTemplate.execute(status -> apply(group)));
+        long lastSeq = group.get(group.size() - 1).seq();
+        appliedSeq = lastSeq;
+        pending.headMap(lastSeq, true).clear();
+        groupSize.record(group.size());
+        if (skipped != null && skipped > 0) {
+            // The index accepted what the table refused; the table is the source of truth
+            rejected.increment(skipped);
+            log.warn("{} write-behind ledger events up to {} did not match the ledger and were skipped",
+                    skipped, lastSeq);
+        }
+        return group.size();
+    }
+
+    /**
+     * Writes the group as consecutive runs of borrows and returns and moves the checkpoint past it.
+     *
+     * @return the number of events the table rejected
+     */
+    private int apply(List<LedgerEvent> group) {
+        int skipped = 0;
+        int from = 0;
+        for (int i = 1; i <= group.size(); i++) {
+            if (i == group.size() || group.get(i).borrow() != group.get(from).borrow()) {
+                List<LedgerEvent> run = group.subList(from, i);
+                int[] counts = run.get(0).borrow() ? ledgerWalRepository.insertBorrows(run)
+                        : ledgerWalRepository.markReturned(run);
+                for (int count : counts) {
+                    if (count == 0) {
+                        skipped++;
+                    }
+                }
+                from = i;
+            }
+        }
+        ledgerWalRepository.updateAppliedSeq(group.get(group.size() - 1).seq());
+        return skipped;
+    }
+
+    private static long nowMicros() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    }
+}
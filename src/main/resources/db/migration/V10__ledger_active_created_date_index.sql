@@ -0,0 +1,8 @@
+---------------------------- create indexes ---------------------------
+-- active loans by the month of their entry, for the partition retention check
+create index if not exists ledger_active_created_date_i on ledger_active (created_date);
+
+---------------------------- drop indexes ---------------------------
+-- the ledger (book_id, status) index serves the active loan lookups by book; listing the active loans reads
+-- ledger_active instead
+drop index if exists ledger_book_id_borrowed_i;
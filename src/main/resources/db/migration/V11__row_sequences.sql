@@ -0,0 +1,5 @@
+---------------------------- alter sequences ---------------------------
+-- borrower and ledger rows are inserted by native statements calling nextval once per row, so a block of 50
+-- per call only wasted ids; book_seq keeps its blocks for the pooled-lo optimizer and the bulk import
+ALTER SEQUENCE borrower_seq INCREMENT BY 1;
+ALTER SEQUENCE ledger_seq INCREMENT BY 1;
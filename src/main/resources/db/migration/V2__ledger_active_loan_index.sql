@@ -0,0 +1,3 @@
+---------------------------- create indexes ---------------------------
+-- at most one active loan per book; borrow relies on this for its conditional insert
+create unique index if not exists ledger_book_id_borrowed_u on ledger (book_id) where status = 'BORROWED';
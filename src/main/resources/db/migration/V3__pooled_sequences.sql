@@ -0,0 +1,5 @@
+---------------------------- alter sequences ---------------------------
+-- each nextval reserves a block of 50 ids for the pooled-lo optimizer (allocationSize = 50)
+ALTER SEQUENCE book_seq INCREMENT BY 50;
+ALTER SEQUENCE borrower_seq INCREMENT BY 50;
+ALTER SEQUENCE ledger_seq INCREMENT BY 50;
@@ -0,0 +1,22 @@
+---------------------------- create tables ---------------------------
+-- one row per ISBN with the canonical title/author and the number of copies handed out
+create table if not exists book_isbn (
+    isbn_no varchar(50),
+    title varchar(255),
+    author varchar(50),
+    copy_count int not null,
+    created_date timestamp(6),
+    updated_date timestamp(6),
+    constraint book_isbn_isbn_no_p primary key (isbn_no)
+);
+
+
+---------------------------- backfill ---------------------------
+-- the first copy of each ISBN defines its title/author; the counter continues from the highest version
+insert into book_isbn (isbn_no, title, author, copy_count, created_date, updated_date)
+select distinct on (b.isbn_no) b.isbn_no, b.title, b.author,
+       (select max(c.version) from book c where c.isbn_no = b.isbn_no), now(), now()
+from book b
+where b.isbn_no is not null
+order by b.isbn_no, b.version, b.id
+on conflict (isbn_no) do nothing;
@@ -0,0 +1,56 @@
+---------------------------- create tables ---------------------------
+-- the active loan of each book; a unique index on the partitioned ledger would have to include created_date,
+-- so it could no longer guarantee one active loan per book across months
+create table if not exists ledger_active (
+    book_id bigint,
+    ledger_id bigint not null,
+    created_date timestamp(6) not null,
+    constraint ledger_active_book_id_p primary key (book_id)
+);
+
+
+---------------------------- partition ledger ---------------------------
+-- ledger becomes a table partitioned by created_date month; the partition key is part of the primary key
+alter table ledger rename to ledger_unpartitioned;
+alter table ledger_unpartitioned rename constraint ledger_id_p to ledger_unpartitioned_id_p;
+
+update ledger_unpartitioned set created_date = coalesce(updated_date, now()) where created_date is null;
+
+create table ledger (
+    id bigint not null,
+    book_id bigint,
+    borrower_id bigint,
+    status varchar(50),
+    created_date timestamp(6) not null,
+    updated_date timestamp(6),
+    constraint ledger_id_p primary key (id, created_date)
+) partition by range (created_date);
+
+-- catches rows outside the monthly partitions, e.g. if the maintenance job has not run for months
+create table ledger_default partition of ledger default;
+
+-- one partition per month, from the oldest entry to three months ahead
+do $$
+declare
+    month_start timestamp := date_trunc('month', coalesce((select min(created_date) from ledger_unpartitioned), now()));
+    last_month timestamp := date_trunc('month', now()) + interval '3 months';
+begin
+    while month_start <= last_month loop
+        execute format('create table if not exists %I partition of ledger for values from (%L) to (%L)',
+                       'ledger_p' || to_char(month_start, 'YYYYMM'), month_start, month_start + interval '1 month');
+        month_start := month_start + interval '1 month';
+    end loop;
+end $$;
+
+insert into ledger (id, book_id, borrower_id, status, created_date, updated_date)
+select id, book_id, borrower_id, status, created_date, updated_date from ledger_unpartitioned;
+
+insert into ledger_active (book_id, ledger_id, created_date)
+select book_id, id, created_date from ledger_unpartitioned where status = 'BORROWED';
+
+drop table ledger_unpartitioned;
+
+
+---------------------------- create indexes ---------------------------
+-- created on every partition; serves the active loan lookups by book
+create index if not exists ledger_book_id_borrowed_i on ledger (book_id) where status = 'BORROWED';
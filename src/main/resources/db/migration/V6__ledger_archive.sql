@@ -0,0 +1,12 @@
+---------------------------- create tables ---------------------------
+-- one row per committed archive segment; a segment file without a row here was never committed
+create table if not exists ledger_archive_segment (
+    name varchar(100),
+    row_count int not null,
+    min_book_id bigint not null,
+    max_book_id bigint not null,
+    min_created_date timestamp(6) not null,
+    max_created_date timestamp(6) not null,
+    created_date timestamp(6) not null,
+    constraint ledger_archive_segment_name_p primary key (name)
+);
@@ -0,0 +1,3 @@
+---------------------------- create indexes ---------------------------
+-- ledger lookups by book and status, e.g. the loan history of a book; created on every partition
+create index if not exists ledger_book_id_status_i on ledger (book_id, status);
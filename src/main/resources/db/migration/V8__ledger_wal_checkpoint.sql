@@ -0,0 +1,11 @@
+---------------------------- create tables ---------------------------
+-- highest write-ahead log sequence number applied to ledger; updated in the same transaction as the events
+create table if not exists ledger_wal_checkpoint (
+    id smallint default 1,
+    applied_seq bigint not null,
+    constraint ledger_wal_checkpoint_p primary key (id),
+    constraint ledger_wal_checkpoint_single_c check (id = 1)
+);
+
+---------------------------- seed data ---------------------------
+insert into ledger_wal_checkpoint (id, applied_seq) values (1, 0) on conflict (id) do nothing;
@@ -0,0 +1,18 @@
+---------------------------- create sequences ---------------------------
+-- one nextval per event, so ids follow the order in which events of the same book were appended
+create sequence if not exists ledger_event_seq start 1 maxvalue 9223372036854775807 no cycle;
+
+---------------------------- create tables ---------------------------
+-- append-only borrow and return events of the event-sourced ledger mode; rows are never updated or deleted
+create table if not exists ledger_event (
+    id bigint,
+    book_id bigint not null,
+    borrower_id bigint not null,
+    status varchar(50) not null,
+    created_date timestamp(6) not null,
+    constraint ledger_event_id_p primary key (id)
+);
+
+---------------------------- create indexes ---------------------------
+-- loan history of a book, latest first
+create index if not exists ledger_event_book_id_id_i on ledger_event (book_id, id);
@@ -0,0 +1,187 @@
+package com.library.management;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.management.cache.CatalogCache;
+import com.library.management.dto.BookImportReportDTO;
+import com.library.management.enums.BookImportFormat;
+import com.library.management.index.CatalogSearchIndex;
+import com.library.management.model.Book;
+import com.library.management.model.BookIsbn;
+import com.library.management.repository.BookBatchRepository;
+import com.library.management.repository.BookIsbnRepository;
+import com.library.management.service.impl.BookImportServiceImpl;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link BookImportServiceImpl}, which streams catalog files into the book table.
+ * <p>
+ * These tests cover CSV and NDJSON parsing, row validation, version assignment and the
+ * ISBN title/author conflict rules shared with {@code addBook}.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class BookImportServiceTest {
+
+    @Mock
+    private BookBatchRepository bookBatchRepository;
+
+    @Mock
+    private BookIsbnRepository bookIsbnRepository;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private CatalogSearchIndex searchIndex;
+
+    @Spy
+    private TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private BookImportServiceImpl bookImportService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(bookBatchRepository.reserveCopies(anyList())).thenAnswer(invocation -> {
+            List<BookIsbn> requests = invocation.getArgument(0);
+            Map<String, Integer> counters = new HashMap<>();
+            requests.forEach(r -> counters.put(r.getIsbnNo(), r.getCopyCount()));
+            return counters;
+        });
+        lenient().when(bookBatchRepository.allocateIds(anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(0);
+            return LongStream.rangeClosed(100, 99 + count).boxed().toList();
+        });
+        lenient().when(bookBatchRepository.insertBooks(anyList())).thenAnswer(invocation -> {
+            List<Book> books = invocation.getArgument(0);
+            int[] counts = new int[books.size()];
+            Arrays.fill(counts, 1);
+            return counts;
+        });
+    }
+
+    /**
+     * Test importing new copies from CSV assigns consecutive versions per ISBN.
+     */
+    @Test
+    @DisplayName("Should import CSV rows and assign versions per ISBN")
+    @SuppressWarnings("unchecked")
+    void shouldImportCsvRowsWithVersions() throws Exception {
+        when(bookIsbnRepository.findAllById(anyCollection())).thenReturn(List.of());
+        String csv = """
+                title,isbnNo,author
+                Clean Code,978-0132350884,Robert C. Martin
+                "Refactoring, 2nd Edition",978-0134757599,Martin Fowler
+                Clean Code,978-0132350884,Robert C. Martin
+                """;
+
+        BookImportReportDTO report = bookImportService.importBooks(new StringReader(csv), BookImportFormat.CSV);
+
+        assertEquals(3, report.getTotalRows());
+        assertEquals(3, report.getImportedRows());
+        assertEquals(0, report.getFailedRows());
+
+        ArgumentCaptor<List<Book>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bookBatchRepository, times(1)).insertBooks(captor.capture());
+        List<Book> books = captor.getValue();
+        assertEquals(List.of(1, 2, 1), books.stream().map(Book::getVersion).toList());
+        assertEquals("Refactoring, 2nd Edition", books.get(2).getTitle());
+        assertEquals(List.of(100L, 101L, 102L), books.stream().map(Book::getId).toList());
+    }
+
+    /**
+     * Test NDJSON rows continue the ISBN copy counter and reject mismatched titles.
+     */
+    @Test
+    @DisplayName("Should continue the ISBN copy counter and reject mismatched NDJSON rows")
+    void shouldContinueExistingVersionsForNdjson() throws Exception {
+        BookIsbn existing = new BookIsbn("978-0132350884", "Clean Code", "Robert C. Martin", 4);
+        when(bookIsbnRepository.findAllById(anyCollection())).thenReturn(List.of(existing));
+        when(bookBatchRepository.reserveCopies(anyList())).thenReturn(Map.of("978-0132350884", 5));
+        String ndjson = """
+                {"isbnNo":"978-0132350884","title":"Clean Code","author":"Robert C. Martin"}
+                {"isbnNo":"978-0132350884","title":"Dirty Code","author":"Robert C. Martin"}
+                """;
+
+        BookImportReportDTO report = bookImportService.importBooks(new StringReader(ndjson), BookImportFormat.NDJSON);
+
+        assertEquals(1, report.getImportedRows());
+        assertEquals(1, report.getFailedRows());
+        verify(bookBatchRepository).insertBooks(argThat(books -> books.get(0).getVersion() == 5));
+        assertEquals(2, report.getErrors().get(0).getLine());
+        assertEquals(List.of("Book with same ISBN must have same title and author"),
+                report.getErrors().get(0).getMessages());
+    }
+
+    /**
+     * Test malformed and invalid rows are reported without reaching the database.
+     */
+    @Test
+    @DisplayName("Should report malformed and invalid rows")
+    void shouldReportMalformedAndInvalidRows() throws Exception {
+        String csv = """
+                isbnNo,title,author
+                "978-0132350884,Clean Code,Robert C. Martin
+
+                978-0132350884,,Robert C. Martin
+                """;
+
+        BookImportReportDTO report = bookImportService.importBooks(new StringReader(csv), BookImportFormat.CSV);
+
+        assertEquals(2, report.getTotalRows());
+        assertEquals(0, report.getImportedRows());
+        assertEquals(2, report.getFailedRows());
+        assertEquals(2, report.getErrors().get(0).getLine());
+        assertEquals(4, report.getErrors().get(1).getLine());
+        verifyNoInteractions(bookBatchRepository, bookIsbnRepository);
+    }
+
+    /**
+     * Test a CSV file without the required header columns is rejected as a whole.
+     */
+    @Test
+    @DisplayName("Should reject CSV without required header columns")
+    void shouldRejectCsvWithoutHeader() throws Exception {
+        BookImportReportDTO report = bookImportService.importBooks(
+                new StringReader("isbnNo,title\n1,2\n"), BookImportFormat.CSV);
+
+        assertEquals(0, report.getTotalRows());
+        assertEquals(1, report.getFailedRows());
+        verifyNoInteractions(bookBatchRepository, bookIsbnRepository);
+    }
+}
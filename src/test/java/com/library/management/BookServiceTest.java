@@ -1,8 +1,16 @@
 package com.library.management;
 
+import com.library.management.cache.CatalogCache;
 import com.library.management.dto.BookDTO;
+import com.library.management.dto.BookSliceDTO;
+import com.library.management.exception.BadRequestException;
 import com.library.management.exception.ConflictException;
+import com.library.management.exception.NotFoundException;
+import com.library.management.index.CatalogSearchIndex;
+import com.library.management.index.CatalogSuggester;
+import com.library.management.mapper.BookMapper;
 import com.library.management.model.Book;
+import com.library.management.repository.BookIsbnRepository;
 import com.library.management.repository.BookRepository;
 import com.library.management.service.impl.BookServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,10 +21,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.Arrays;
 import java.util.List;
@@ -24,6 +33,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 /**
@@ -45,8 +55,20 @@ public class BookServiceTest {
     @Mock
     private BookRepository bookRepository;
 
+    @Mock
+    private BookIsbnRepository bookIsbnRepository;
+
     @Spy
-    private ModelMapper modelMapper = new ModelMapper();
+    private BookMapper bookMapper = new BookMapper();
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private CatalogSearchIndex searchIndex;
+
+    @Mock
+    private CatalogSuggester suggester;
 
     @InjectMocks
     private BookServiceImpl bookService;
@@ -79,14 +101,18 @@ public class BookServiceTest {
     @Test
     @DisplayName("Should add the first copy of a new book successfully")
     void shouldAddFirstCopySuccessfully() throws Exception {
-        when(bookRepository.findByIsbnNo(anyString()))
-                .thenReturn(List.of()); // No copies exist yet
+        when(bookIsbnRepository.reserveCopies(bookDTO.getIsbnNo(), bookDTO.getTitle(), bookDTO.getAuthor(), 1))
+                .thenReturn(Optional.of(1)); // No copies exist yet
         when(bookRepository.save(any(Book.class))).thenReturn(book);
 
         bookService.addBook(bookDTO);
 
-        verify(bookRepository, times(1)).findByIsbnNo(bookDTO.getIsbnNo());
-        verify(bookRepository, times(1)).save(any(Book.class));
+        verify(bookIsbnRepository, times(1))
+                .reserveCopies(bookDTO.getIsbnNo(), bookDTO.getTitle(), bookDTO.getAuthor(), 1);
+        verify(bookRepository, times(1)).save(argThat(saved -> saved.getVersion() == 1));
+        verify(bookRepository, never()).findByIsbnNo(anyString());
+        verify(catalogCache, times(1)).evictIsbn(bookDTO.getIsbnNo());
+        verify(searchIndex, times(1)).index(List.of(book));
     }
 
     /**
@@ -95,21 +121,16 @@ public class BookServiceTest {
     @Test
     @DisplayName("Should add new copy of an existing book by incrementing version")
     void shouldAddNewCopyWithIncrementedVersion() throws Exception {
-        Book existingCopy = new Book();
-        existingCopy.setId(2L);
-        existingCopy.setIsbnNo(bookDTO.getIsbnNo());
-        existingCopy.setTitle(bookDTO.getTitle());
-        existingCopy.setAuthor(bookDTO.getAuthor());
-        existingCopy.setVersion(1);
-
-        when(bookRepository.findByIsbnNo(bookDTO.getIsbnNo()))
-                .thenReturn(List.of(existingCopy));
+        when(bookIsbnRepository.reserveCopies(bookDTO.getIsbnNo(), bookDTO.getTitle(), bookDTO.getAuthor(), 1))
+                .thenReturn(Optional.of(2)); // One copy exists already
         when(bookRepository.save(any(Book.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         bookService.addBook(bookDTO);
 
-        verify(bookRepository, times(1)).findByIsbnNo(bookDTO.getIsbnNo());
-        verify(bookRepository, times(1)).save(any(Book.class));
+        verify(bookIsbnRepository, times(1))
+                .reserveCopies(bookDTO.getIsbnNo(), bookDTO.getTitle(), bookDTO.getAuthor(), 1);
+        verify(bookRepository, times(1)).save(argThat(saved -> saved.getVersion() == 2
+                && bookDTO.getIsbnNo().equals(saved.getIsbnNo())));
     }
 
     /**
@@ -118,21 +139,14 @@ public class BookServiceTest {
     @Test
     @DisplayName("Should throw ConflictException if ISBN matches but title or author differs")
     void shouldThrowConflictExceptionForMismatchedBookDetails() {
-        Book mismatchedBook = new Book();
-        mismatchedBook.setId(3L);
-        mismatchedBook.setIsbnNo(bookDTO.getIsbnNo());
-        mismatchedBook.setTitle("Different Title");
-        mismatchedBook.setAuthor(bookDTO.getAuthor());
-        mismatchedBook.setVersion(1);
-
-        when(bookRepository.findByIsbnNo(bookDTO.getIsbnNo()))
-                .thenReturn(List.of(mismatchedBook));
+        when(bookIsbnRepository.reserveCopies(anyString(), anyString(), anyString(), anyInt()))
+                .thenReturn(Optional.empty()); // ISBN registered with a different title
 
         ConflictException ex = assertThrows(ConflictException.class, () -> bookService.addBook(bookDTO));
         assertEquals("Book with same ISBN must have same title and author", ex.getMessage());
 
-        verify(bookRepository, times(1)).findByIsbnNo(bookDTO.getIsbnNo());
         verify(bookRepository, never()).save(any(Book.class));
+        verifyNoInteractions(catalogCache);
     }
 
     /**
@@ -219,4 +233,102 @@ public class BookServiceTest {
 
         verify(bookRepository, times(1)).findAll(pageRequest);
     }
+
+    /**
+     * Test browsing follows the cursor with a keyset query and no count.
+     */
+    @Test
+    @DisplayName("Should browse books by cursor without counting")
+    void shouldBrowseBooksByCursor() throws Exception {
+        PageRequest sliceRequest = PageRequest.of(0, 1, Sort.by("id"));
+        when(bookRepository.findByIdGreaterThan(0L, sliceRequest))
+                .thenReturn(new SliceImpl<>(List.of(book), sliceRequest, true));
+
+        BookSliceDTO first = bookService.browseBooks(null, 1, false);
+
+        assertEquals(1, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertNotNull(first.getNextCursor());
+        assertNull(first.getEstimatedTotal());
+
+        Book next = new Book();
+        next.setId(2L);
+        when(bookRepository.findByIdGreaterThan(1L, sliceRequest))
+                .thenReturn(new SliceImpl<>(List.of(next), sliceRequest, false));
+
+        BookSliceDTO second = bookService.browseBooks(first.getNextCursor(), 1, false);
+
+        assertFalse(second.isHasNext());
+        assertNull(second.getNextCursor());
+        verify(bookRepository, never()).count();
+        verify(bookRepository, never()).estimateCount();
+    }
+
+    /**
+     * Test the optional total comes from the statistics estimate and hides unknown values.
+     */
+    @Test
+    @DisplayName("Should include the estimated total only when requested and known")
+    void shouldIncludeEstimatedTotal() throws Exception {
+        PageRequest sliceRequest = PageRequest.of(0, 10, Sort.by("id"));
+        when(bookRepository.findByIdGreaterThan(0L, sliceRequest))
+                .thenReturn(new SliceImpl<>(List.of(), sliceRequest, false));
+        when(bookRepository.estimateCount()).thenReturn(1234L, -1L);
+
+        assertEquals(1234L, bookService.browseBooks(null, 10, true).getEstimatedTotal());
+        assertNull(bookService.browseBooks(null, 10, true).getEstimatedTotal());
+    }
+
+    /**
+     * Test a malformed cursor is rejected.
+     */
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThrows(BadRequestException.class, () -> bookService.browseBooks("not a cursor!", 10, false));
+        verifyNoInteractions(bookRepository);
+    }
+
+    /**
+     * Test single book lookups are served by the catalog cache and unknown IDs are reported.
+     */
+    @Test
+    @DisplayName("Should get a book by ID from the catalog cache")
+    void shouldGetBookFromCatalogCache() throws Exception {
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(bookDTO));
+        when(catalogCache.findById(2L)).thenReturn(Optional.empty());
+
+        assertSame(bookDTO, bookService.getBook(1L));
+        NotFoundException ex = assertThrows(NotFoundException.class, () -> bookService.getBook(2L));
+        assertEquals("Book not found", ex.getMessage());
+        verifyNoInteractions(bookRepository);
+    }
+
+    /**
+     * Test copies by ISBN are served by the catalog cache.
+     */
+    @Test
+    @DisplayName("Should get the copies of an ISBN from the catalog cache")
+    void shouldGetCopiesFromCatalogCache() {
+        when(catalogCache.findByIsbnNo(bookDTO.getIsbnNo())).thenReturn(List.of(bookDTO));
+
+        assertEquals(List.of(bookDTO), bookService.getCopies(bookDTO.getIsbnNo()));
+        verifyNoInteractions(bookRepository);
+    }
+
+    /**
+     * Test searches rank with the search index and load only the matching books through the cache.
+     */
+    @Test
+    @DisplayName("Should search books with the search index")
+    void shouldSearchBooksWithIndex() {
+        when(searchIndex.search("test book", 10)).thenReturn(List.of(1L));
+        when(catalogCache.findAllById(List.of(1L))).thenReturn(List.of(bookDTO));
+        when(searchIndex.search("unknown", 10)).thenReturn(List.of());
+
+        assertEquals(List.of(bookDTO), bookService.searchBooks("test book", 10));
+        assertTrue(bookService.searchBooks("unknown", 10).isEmpty());
+        verify(catalogCache, times(1)).findAllById(any());
+        verifyNoInteractions(bookRepository);
+    }
 }
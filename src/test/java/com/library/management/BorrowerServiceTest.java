@@ -11,9 +11,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.modelmapper.ModelMapper;
 
 import java.util.Optional;
 
@@ -25,7 +23,7 @@ import static org.mockito.Mockito.*;
 /**
  * Unit tests for {@link BorrowerServiceImpl}, which handles borrower registration logic.
  * <p>
- * This class ensures proper validation, conflict detection, and DTO-to-entity mapping for borrower entities.
+ * This class ensures proper validation, conflict detection, and the single-statement registration of borrowers.
  * </p>
  *
  * @author Chandru
@@ -38,9 +36,6 @@ public class BorrowerServiceTest {
     @Mock
     private BorrowerRepository borrowerRepository;
 
-    @Spy
-    private ModelMapper modelMapper = new ModelMapper();
-
     @InjectMocks
     private BorrowerServiceImpl borrowerService;
 
@@ -63,20 +58,20 @@ public class BorrowerServiceTest {
     }
 
     /**
-     * Verifies that a new borrower is added successfully when no conflict exists.
+     * Verifies that a new borrower is added successfully with a single insert when no conflict exists.
      */
     @Test
     @DisplayName("Should add a new borrower successfully")
     void shouldAddBorrowerSuccessfully() throws ConflictException {
-        when(borrowerRepository.findByNameAndEmail(anyString(), anyString()))
-                .thenReturn(Optional.empty());
-        when(borrowerRepository.save(any(Borrower.class))).thenReturn(borrower);
+        when(borrowerRepository.insertIfAbsent(anyString(), anyString()))
+                .thenReturn(Optional.of(borrower.getId()));
 
         borrowerService.addBorrower(borrowerDTO);
 
-        verify(borrowerRepository, times(1)).findByNameAndEmail(
+        verify(borrowerRepository, times(1)).insertIfAbsent(
                 borrowerDTO.getName(), borrowerDTO.getEmail());
-        verify(borrowerRepository, times(1)).save(any(Borrower.class));
+        verify(borrowerRepository, never()).findByNameAndEmail(anyString(), anyString());
+        verify(borrowerRepository, never()).save(any(Borrower.class));
     }
 
     /**
@@ -85,35 +80,31 @@ public class BorrowerServiceTest {
     @Test
     @DisplayName("Should throw ConflictException when adding existing borrower")
     void shouldThrowConflictExceptionWhenAddingExistingBorrower() {
-        when(borrowerRepository.findByNameAndEmail(anyString(), anyString()))
-                .thenReturn(Optional.of(borrower));
+        when(borrowerRepository.insertIfAbsent(anyString(), anyString()))
+                .thenReturn(Optional.empty()); // borrower_name_email_u already holds this borrower
 
-        assertThrows(ConflictException.class, () -> borrowerService.addBorrower(borrowerDTO));
+        ConflictException ex = assertThrows(ConflictException.class, () -> borrowerService.addBorrower(borrowerDTO));
 
-        verify(borrowerRepository, times(1)).findByNameAndEmail(
+        assertEquals("Borrower Already Exists", ex.getMessage());
+        verify(borrowerRepository, times(1)).insertIfAbsent(
                 borrowerDTO.getName(), borrowerDTO.getEmail());
-        verify(borrowerRepository, never()).save(any(Borrower.class));
     }
 
     /**
-     * Tests that the {@link ModelMapper} correctly maps DTO fields to the Borrower entity.
+     * Tests that the DTO fields are passed unchanged to the insert.
      */
     @Test
-    @DisplayName("Should correctly map BorrowerDTO to Borrower entity")
-    void shouldCorrectlyMapBorrowerDTOToBorrowerEntity() throws ConflictException {
-        when(borrowerRepository.findByNameAndEmail(anyString(), anyString()))
-                .thenReturn(Optional.empty());
-
+    @DisplayName("Should correctly pass BorrowerDTO fields to the insert")
+    void shouldCorrectlyMapBorrowerDTOToInsert() throws ConflictException {
         doAnswer(invocation -> {
-            Borrower savedBorrower = invocation.getArgument(0);
-            assertEquals(borrowerDTO.getName(), savedBorrower.getName());
-            assertEquals(borrowerDTO.getEmail(), savedBorrower.getEmail());
-            return savedBorrower;
-        }).when(borrowerRepository).save(any(Borrower.class));
+            assertEquals(borrowerDTO.getName(), invocation.getArgument(0));
+            assertEquals(borrowerDTO.getEmail(), invocation.getArgument(1));
+            return Optional.of(borrower.getId());
+        }).when(borrowerRepository).insertIfAbsent(anyString(), anyString());
 
         borrowerService.addBorrower(borrowerDTO);
 
-        verify(borrowerRepository, times(1)).save(any(Borrower.class));
+        verify(borrowerRepository, times(1)).insertIfAbsent(anyString(), anyString());
     }
 
     /**
@@ -127,34 +118,32 @@ public class BorrowerServiceTest {
         nullFieldsDTO.setEmail("jane@example.com");
         // Phone and address left null intentionally
 
-        when(borrowerRepository.findByNameAndEmail(anyString(), anyString()))
-                .thenReturn(Optional.empty());
+        when(borrowerRepository.insertIfAbsent(anyString(), anyString()))
+                .thenReturn(Optional.of(2L));
 
         borrowerService.addBorrower(nullFieldsDTO);
 
-        verify(borrowerRepository, times(1)).findByNameAndEmail(
+        verify(borrowerRepository, times(1)).insertIfAbsent(
                 nullFieldsDTO.getName(), nullFieldsDTO.getEmail());
-        verify(borrowerRepository, times(1)).save(any(Borrower.class));
     }
 
     /**
-     * Verifies the repository checks for an exact name and email match during existence validation.
+     * Verifies the insert is keyed on the exact name and email, leaving duplicate detection to the database.
      */
     @Test
     @DisplayName("Should check for existing borrower using exact name and email")
     void shouldCheckForExistingBorrowerUsingExactNameAndEmail() throws ConflictException {
-        when(borrowerRepository.findByNameAndEmail(borrowerDTO.getName(), borrowerDTO.getEmail()))
-                .thenReturn(Optional.empty());
+        when(borrowerRepository.insertIfAbsent(borrowerDTO.getName(), borrowerDTO.getEmail()))
+                .thenReturn(Optional.of(borrower.getId()));
 
-        lenient().when(borrowerRepository.findByNameAndEmail("john doe", borrowerDTO.getEmail()))
-                .thenReturn(Optional.of(borrower)); // Case variation for leniency
+        lenient().when(borrowerRepository.insertIfAbsent("john doe", borrowerDTO.getEmail()))
+                .thenReturn(Optional.empty()); // Case variation for leniency
 
         borrowerService.addBorrower(borrowerDTO);
 
-        verify(borrowerRepository, times(1)).findByNameAndEmail(
+        verify(borrowerRepository, times(1)).insertIfAbsent(
                 borrowerDTO.getName(), borrowerDTO.getEmail());
-        verify(borrowerRepository, never()).findByNameAndEmail(
+        verify(borrowerRepository, never()).insertIfAbsent(
                 "john doe", borrowerDTO.getEmail());
-        verify(borrowerRepository, times(1)).save(any(Borrower.class));
     }
 }
@@ -0,0 +1,183 @@
+package com.library.management;
+
+import com.library.management.cache.CatalogCache;
+import com.library.management.dto.BookDTO;
+import com.library.management.dto.CatalogCacheStatsDTO;
+import com.library.management.mapper.BookMapper;
+import com.library.management.model.Book;
+import com.library.management.repository.BookRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CatalogCache}, the read-through cache in front of the book lookups.
+ * <p>
+ * These tests check that repeated lookups are answered from memory, that unknown books are not cached,
+ * and that adding a copy invalidates exactly the ISBN it was added to, even while it is being loaded.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class CatalogCacheTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Spy
+    private BookMapper bookMapper = new BookMapper();
+
+    @InjectMocks
+    private CatalogCache catalogCache = new CatalogCache(1024 * 1024, Duration.ofMinutes(10));
+
+    private Book book;
+
+    /**
+     * Setup test data before each test case.
+     */
+    @BeforeEach
+    void setUp() {
+        book = new Book();
+        book.setId(1L);
+        book.setIsbnNo("978-3-16-148410-0");
+        book.setTitle("Test Book");
+        book.setAuthor("Test Author");
+        book.setVersion(1);
+    }
+
+    /**
+     * Test a book is loaded once and then served from the cache.
+     */
+    @Test
+    @DisplayName("Should load a book by ID once and count the hit")
+    void shouldServeRepeatedLookupsFromCache() {
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+
+        assertEquals("Test Book", catalogCache.findById(1L).orElseThrow().getTitle());
+        assertEquals("Test Book", catalogCache.findById(1L).orElseThrow().getTitle());
+
+        verify(bookRepository, times(1)).findById(1L);
+        CatalogCacheStatsDTO stats = catalogCache.stats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertTrue(stats.getEstimatedBytes() > 0);
+    }
+
+    /**
+     * Test unknown books are looked up again, so a book is visible as soon as it is saved.
+     */
+    @Test
+    @DisplayName("Should not cache unknown book IDs")
+    void shouldNotCacheMisses() {
+        when(bookRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(book));
+
+        assertTrue(catalogCache.findById(1L).isEmpty());
+        assertTrue(catalogCache.findById(1L).isPresent());
+        verify(bookRepository, times(2)).findById(1L);
+    }
+
+    /**
+     * Test the copies of an ISBN are cached and reloaded after a copy is added to the ISBN only.
+     */
+    @Test
+    @DisplayName("Should reload only the ISBN a copy was added to")
+    void shouldEvictOnlyTheChangedIsbn() {
+        Book other = new Book();
+        other.setId(2L);
+        other.setIsbnNo("978-0-00-000000-0");
+        other.setTitle("Other Book");
+        other.setAuthor("Other Author");
+        other.setVersion(1);
+        when(bookRepository.findByIsbnNo(book.getIsbnNo())).thenReturn(List.of(book));
+        when(bookRepository.findByIsbnNo(other.getIsbnNo())).thenReturn(List.of(other));
+
+        catalogCache.findByIsbnNo(book.getIsbnNo());
+        catalogCache.findByIsbnNo(other.getIsbnNo());
+        catalogCache.evictIsbn(book.getIsbnNo());
+        List<BookDTO> copies = catalogCache.findByIsbnNo(book.getIsbnNo());
+        catalogCache.findByIsbnNo(other.getIsbnNo());
+
+        assertEquals(1, copies.size());
+        verify(bookRepository, times(2)).findByIsbnNo(book.getIsbnNo());
+        verify(bookRepository, times(1)).findByIsbnNo(other.getIsbnNo());
+        // the copies were cached by ID as well
+        assertTrue(catalogCache.findById(2L).isPresent());
+        verify(bookRepository, never()).findById(any());
+    }
+
+    /**
+     * Test an eviction inside a transaction waits for the commit.
+     */
+    @Test
+    @DisplayName("Should evict an ISBN only after the transaction commits")
+    void shouldEvictAfterCommit() {
+        when(bookRepository.findByIsbnNo(book.getIsbnNo())).thenReturn(List.of(book));
+        catalogCache.findByIsbnNo(book.getIsbnNo());
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalogCache.evictIsbn(book.getIsbnNo());
+            catalogCache.findByIsbnNo(book.getIsbnNo());
+            verify(bookRepository, times(1)).findByIsbnNo(book.getIsbnNo());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        catalogCache.findByIsbnNo(book.getIsbnNo());
+        verify(bookRepository, times(2)).findByIsbnNo(book.getIsbnNo());
+    }
+
+    /**
+     * Test an eviction during a load of the same ISBN is not undone by the load putting the old list back.
+     */
+    @Test
+    @DisplayName("Should not keep a list loaded before a concurrent eviction")
+    void shouldNotKeepListLoadedBeforeEviction() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookRepository.findByIsbnNo(book.getIsbnNo())).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return List.of(book);
+        }).thenReturn(List.of(book));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<BookDTO>> lookup = executor.submit(() -> catalogCache.findByIsbnNo(book.getIsbnNo()));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<?> eviction = executor.submit(() -> catalogCache.evictIsbn(book.getIsbnNo()));
+            Thread.sleep(100);
+            release.countDown();
+            lookup.get(5, TimeUnit.SECONDS);
+            eviction.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        catalogCache.findByIsbnNo(book.getIsbnNo());
+        verify(bookRepository, times(2)).findByIsbnNo(book.getIsbnNo());
+    }
+}
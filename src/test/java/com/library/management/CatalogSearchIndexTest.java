@@ -0,0 +1,141 @@
+package com.library.management;
+
+import com.library.management.index.CatalogSearchIndex;
+import com.library.management.model.Book;
+import com.library.management.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CatalogSearchIndex}, the in-process full-text index over titles and authors.
+ * <p>
+ * These tests check word matching, ranking, loading from the repository and incremental updates.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class CatalogSearchIndexTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @InjectMocks
+    private CatalogSearchIndex searchIndex;
+
+    private static Book book(long id, String title, String author) {
+        Book book = new Book();
+        book.setId(id);
+        book.setIsbnNo("isbn-" + id);
+        book.setTitle(title);
+        book.setAuthor(author);
+        book.setVersion(1);
+        return book;
+    }
+
+    /**
+     * Test every word of the query must match, regardless of case, accents and punctuation.
+     */
+    @Test
+    @DisplayName("Should match books containing every word of the query")
+    void shouldMatchAllWords() {
+        searchIndex.index(List.of(
+                book(1, "The Pragmatic Programmer", "Andrew Hunt"),
+                book(2, "Clean Code", "Robert C. Martin"),
+                book(3, "Les Misérables", "Victor Hugo")));
+
+        assertEquals(List.of(1L), searchIndex.search("pragmatic HUNT", 10));
+        assertEquals(List.of(2L), searchIndex.search("clean-code", 10));
+        assertEquals(List.of(3L), searchIndex.search("miserables", 10));
+        assertTrue(searchIndex.search("clean hunt", 10).isEmpty());
+        assertTrue(searchIndex.search("   ", 10).isEmpty());
+    }
+
+    /**
+     * Test rare words and title matches rank first, and the limit keeps the best results.
+     */
+    @Test
+    @DisplayName("Should rank title matches above author matches")
+    void shouldRankTitleMatchesFirst() {
+        searchIndex.index(List.of(
+                book(1, "Essays", "Martin Luther"),
+                book(2, "Martin Eden", "Jack London"),
+                book(3, "Clean Code", "Robert C. Martin"),
+                book(4, "Martin Chuzzlewit", "Charles Dickens")));
+
+        assertEquals(List.of(2L, 4L, 1L, 3L), searchIndex.search("martin", 10));
+        assertEquals(List.of(2L, 4L), searchIndex.search("martin", 2));
+    }
+
+    /**
+     * Test the index is loaded from the repository in ID order, batch by batch.
+     */
+    @Test
+    @DisplayName("Should load the index from the repository in batches")
+    void shouldLoadFromRepository() {
+        PageRequest batch = PageRequest.of(0, 10000, Sort.by("id"));
+        when(bookRepository.findByIdGreaterThan(eq(0L), any()))
+                .thenReturn(new SliceImpl<>(List.of(book(1, "Clean Code", "Robert C. Martin")), batch, true));
+        when(bookRepository.findByIdGreaterThan(eq(1L), any()))
+                .thenReturn(new SliceImpl<>(List.of(book(5, "Clean Architecture", "Robert C. Martin")), batch, false));
+
+        searchIndex.load();
+
+        assertEquals(2, searchIndex.size());
+        assertEquals(List.of(5L), searchIndex.search("architecture", 10));
+        verify(bookRepository, times(2)).findByIdGreaterThan(anyLong(), any());
+    }
+
+    /**
+     * Test books added inside a transaction become searchable only once it commits.
+     */
+    @Test
+    @DisplayName("Should index new books after the transaction commits")
+    void shouldIndexAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            searchIndex.index(List.of(book(7, "Refactoring", "Martin Fowler")));
+            assertTrue(searchIndex.search("refactoring", 10).isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(List.of(7L), searchIndex.search("refactoring", 10));
+    }
+
+    /**
+     * Test a book indexed twice, such as one saved while the index loads, counts once in the word rarity.
+     */
+    @Test
+    @DisplayName("Should count a book added twice only once")
+    void shouldCountRepeatedBookOnce() {
+        Book cleanCode = book(2, "Clean Code", "Robert C. Martin");
+        searchIndex.index(List.of(book(1, "Refactoring", "Martin Fowler"), cleanCode));
+        List<Long> ranked = searchIndex.search("martin", 10);
+
+        searchIndex.index(List.of(cleanCode));
+
+        assertEquals(2, searchIndex.size());
+        assertEquals(ranked, searchIndex.search("martin", 10));
+        assertEquals(List.of(2L), searchIndex.search("clean code", 10));
+    }
+}
@@ -0,0 +1,125 @@
+package com.library.management;
+
+import com.library.management.dto.SuggestionDTO;
+import com.library.management.enums.SuggestionType;
+import com.library.management.index.CatalogSuggester;
+import com.library.management.repository.BookIsbnRepository;
+import com.library.management.repository.BookIsbnRepository.CopyCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CatalogSuggester}, the in-memory autocomplete over titles and authors.
+ * <p>
+ * These tests check prefix matching on every word, ranking by copies, merging of spelling variants,
+ * and that a failed rebuild keeps the previous suggestions.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class CatalogSuggesterTest {
+
+    @Mock
+    private BookIsbnRepository bookIsbnRepository;
+
+    @InjectMocks
+    private CatalogSuggester suggester;
+
+    private static CopyCount count(String text, long copies) {
+        return new CopyCount() {
+            @Override
+            public String getText() {
+                return text;
+            }
+
+            @Override
+            public long getCopies() {
+                return copies;
+            }
+        };
+    }
+
+    private static List<String> texts(List<SuggestionDTO> suggestions) {
+        return suggestions.stream().map(SuggestionDTO::getText).toList();
+    }
+
+    private void rebuildWith(List<CopyCount> titles, List<CopyCount> authors) {
+        when(bookIsbnRepository.countCopiesByTitle()).thenReturn(titles);
+        when(bookIsbnRepository.countCopiesByAuthor()).thenReturn(authors);
+        suggester.rebuild();
+    }
+
+    /**
+     * Test a prefix matches the start of any word and suggestions come most copies first.
+     */
+    @Test
+    @DisplayName("Should suggest titles and authors by word prefix, most copies first")
+    void shouldSuggestByWordPrefix() {
+        rebuildWith(List.of(count("Martin Eden", 3), count("Clean Code", 12), count("Martin Chuzzlewit", 1)),
+                List.of(count("Robert C. Martin", 20), count("Jack London", 3)));
+
+        List<SuggestionDTO> suggestions = suggester.suggest("mart", 10);
+
+        assertEquals(List.of("Robert C. Martin", "Martin Eden", "Martin Chuzzlewit"), texts(suggestions));
+        assertEquals(SuggestionType.AUTHOR, suggestions.get(0).getType());
+        assertEquals(20, suggestions.get(0).getCopies());
+        assertEquals(List.of("Robert C. Martin"), texts(suggester.suggest("mart", 1)));
+        assertEquals(List.of("Clean Code"), texts(suggester.suggest("CLEAN c", 10)));
+        assertTrue(suggester.suggest("xyz", 10).isEmpty());
+        assertTrue(suggester.suggest("  ", 10).isEmpty());
+    }
+
+    /**
+     * Test a trailing space completes the last word instead of matching longer words.
+     */
+    @Test
+    @DisplayName("Should treat a trailing space as the end of a word")
+    void shouldRespectCompletedWords() {
+        rebuildWith(List.of(count("Code Complete", 2), count("Coders at Work", 5)), List.of());
+
+        assertEquals(List.of("Coders at Work", "Code Complete"), texts(suggester.suggest("code", 10)));
+        assertEquals(List.of("Code Complete"), texts(suggester.suggest("code ", 10)));
+    }
+
+    /**
+     * Test spellings differing only by case or accents are merged into one suggestion.
+     */
+    @Test
+    @DisplayName("Should merge spelling variants and keep the most common one")
+    void shouldMergeSpellingVariants() {
+        rebuildWith(List.of(count("Les Misérables", 4), count("les miserables", 1)), List.of());
+
+        List<SuggestionDTO> suggestions = suggester.suggest("miser", 10);
+
+        assertEquals(1, suggestions.size());
+        assertEquals("Les Misérables", suggestions.get(0).getText());
+        assertEquals(5, suggestions.get(0).getCopies());
+        assertEquals(1, suggester.size());
+    }
+
+    /**
+     * Test a failing rebuild keeps serving the previous suggestions.
+     */
+    @Test
+    @DisplayName("Should keep the previous suggestions when a rebuild fails")
+    void shouldKeepSuggestionsWhenRebuildFails() {
+        rebuildWith(List.of(count("Clean Code", 12)), List.of());
+        when(bookIsbnRepository.countCopiesByTitle()).thenThrow(new IllegalStateException("database down"));
+
+        suggester.rebuild();
+
+        assertEquals(List.of("Clean Code"), texts(suggester.suggest("clean", 10)));
+    }
+}
@@ -0,0 +1,174 @@
+package com.library.management;
+
+import com.library.management.cache.CatalogCache;
+import com.library.management.config.CheckpointWarmup;
+import com.library.management.config.InMemoryStateLifecycle;
+import com.library.management.event.EventSourcedLedger;
+import com.library.management.index.CatalogSearchIndex;
+import com.library.management.index.CatalogSuggester;
+import com.library.management.model.Borrower;
+import com.library.management.repository.BorrowerRepository;
+import com.library.management.service.BookService;
+import com.library.management.service.BorrowerService;
+import com.library.management.service.LedgerService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link InMemoryStateLifecycle} and {@link CheckpointWarmup}.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class CheckpointRestoreTest {
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private CatalogSearchIndex searchIndex;
+
+    @Mock
+    private CatalogSuggester suggester;
+
+    @InjectMocks
+    private InMemoryStateLifecycle inMemoryState;
+
+    @Mock
+    private BookService bookService;
+
+    @Mock
+    private BorrowerService borrowerService;
+
+    @Mock
+    private LedgerService ledgerService;
+
+    @Mock
+    private BorrowerRepository borrowerRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    /**
+     * Test the first start, at boot, reloads nothing and a start after a stop reloads everything.
+     */
+    @Test
+    @DisplayName("A restart should reload the in-memory state")
+    void shouldReloadOnRestart() {
+        inMemoryState.start();
+        verifyNoInteractions(catalogCache, searchIndex, suggester);
+
+        inMemoryState.stop();
+        assertFalse(inMemoryState.isRunning());
+        inMemoryState.start();
+
+        assertTrue(inMemoryState.isRunning());
+        verify(catalogCache).invalidateAll();
+        verify(searchIndex).load();
+        verify(suggester).rebuild();
+    }
+
+    /**
+     * Test the event-sourced ledger catches up with the events appended since the checkpoint.
+     */
+    @Test
+    @DisplayName("A restart in event-sourced mode should catch the projection up")
+    void shouldCatchUpProjectionOnRestart() {
+        EventSourcedLedger eventSourcedLedger = mock(EventSourcedLedger.class);
+        ReflectionTestUtils.setField(inMemoryState, "eventSourcedLedger", eventSourcedLedger);
+
+        inMemoryState.refresh();
+
+        verify(eventSourcedLedger).catchUp();
+        verify(searchIndex).load();
+    }
+
+    /**
+     * Test the checkpoint profile refuses the write-behind ledger before warming up.
+     */
+    @Test
+    @DisplayName("The warm-up should refuse the write-behind ledger")
+    void shouldRefuseWriteBehind() {
+        CheckpointWarmup warmup = new CheckpointWarmup();
+        ReflectionTestUtils.setField(warmup, "ledgerMode", "write-behind");
+
+        assertThrows(IllegalStateException.class, warmup::checkLedgerMode);
+    }
+
+    /**
+     * Test a warm-up iteration borrows, returns and lists books in a transaction that is rolled back.
+     */
+    @Test
+    @DisplayName("A warm-up iteration should run in a rolled back transaction")
+    void shouldRollBackWarmupIteration() throws Exception {
+        CheckpointWarmup warmup = warmup("sync");
+
+        ReflectionTestUtils.invokeMethod(warmup, "runRolledBack", 7);
+
+        verify(transactionStatus).setRollbackOnly();
+        verify(borrowerService).addBorrower(any());
+        verify(ledgerService).handleLedger(42L, 9L, true);
+        verify(ledgerService).handleLedger(42L, 9L, false);
+        verify(bookService).getBooks(any());
+    }
+
+    /**
+     * Test the event-sourced warm-up does not return the book, whose borrow is never applied.
+     */
+    @Test
+    @DisplayName("An event-sourced warm-up iteration should only borrow")
+    void shouldOnlyBorrowInEventSourcedWarmup() throws Exception {
+        CheckpointWarmup warmup = warmup("event-sourced");
+
+        ReflectionTestUtils.invokeMethod(warmup, "runRolledBack", 7);
+
+        verify(ledgerService).handleLedger(42L, 9L, true);
+        verify(ledgerService, never()).handleLedger(42L, 9L, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CheckpointWarmup warmup(String ledgerMode) {
+        CheckpointWarmup warmup = new CheckpointWarmup();
+        ReflectionTestUtils.setField(warmup, "bookService", bookService);
+        ReflectionTestUtils.setField(warmup, "borrowerService", borrowerService);
+        ReflectionTestUtils.setField(warmup, "ledgerService", ledgerService);
+        ReflectionTestUtils.setField(warmup, "borrowerRepository", borrowerRepository);
+        ReflectionTestUtils.setField(warmup, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(warmup, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(warmup, "ledgerMode", ledgerMode);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(transactionStatus);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("WARMUP-7"))).thenReturn(42L);
+        Borrower borrower = new Borrower();
+        borrower.setId(9L);
+        when(borrowerRepository.findByNameAndEmail(anyString(), anyString())).thenReturn(Optional.of(borrower));
+        return warmup;
+    }
+}
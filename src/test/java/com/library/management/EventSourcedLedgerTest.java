@@ -0,0 +1,291 @@
+package com.library.management;
+
+import com.library.management.event.ActiveLoan;
+import com.library.management.event.EventSourcedLedger;
+import com.library.management.event.LoanEvent;
+import com.library.management.event.LoanSnapshot;
+import com.library.management.exception.ConflictException;
+import com.library.management.index.BookAvailabilityIndex;
+import com.library.management.model.Ledger;
+import com.library.management.repository.LedgerEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link EventSourcedLedger} and the {@link LoanSnapshot} file format.
+ * <p>
+ * A list stands in for {@code ledger_event}; event {@code n} is appended at second {@code n}. These tests
+ * check that the projection decides conflicts, that a restart replays only the events after the latest
+ * snapshot, and that past states are rebuilt from the right snapshot.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class EventSourcedLedgerTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private LedgerEventRepository ledgerEventRepository;
+
+    @Mock
+    private BookAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private EventSourcedLedger eventSourcedLedger;
+
+    private final List<LoanEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        configure(eventSourcedLedger);
+        lenient().when(ledgerEventRepository.append(anyBoolean(), anyLong(), anyLong())).thenAnswer(invocation ->
+                Optional.of(store(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2))));
+        lenient().when(ledgerEventRepository.appendAll(anyBoolean(), anyList())).thenAnswer(invocation -> {
+            boolean borrow = invocation.getArgument(0);
+            return invocation.<List<Ledger>>getArgument(1).stream()
+                    .map(loan -> store(borrow, loan.getBookId(), loan.getBorrowerId()))
+                    .toList();
+        });
+        lenient().when(ledgerEventRepository.replay(anyLong(), any(), any())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            Instant until = invocation.getArgument(1);
+            Consumer<LoanEvent> consumer = invocation.getArgument(2);
+            List<LoanEvent> replayed = events.stream()
+                    .filter(event -> event.id() > afterId)
+                    .filter(event -> until == null || event.micros() <= micros(until))
+                    .toList();
+            replayed.forEach(consumer);
+            return replayed.size();
+        });
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (ReflectionTestUtils.getField(eventSourcedLedger, "snapshotter") != null) {
+            eventSourcedLedger.stop();
+        }
+    }
+
+    private void configure(EventSourcedLedger ledger) {
+        ReflectionTestUtils.setField(ledger, "directory", directory);
+        ReflectionTestUtils.setField(ledger, "snapshotInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(ledger, "snapshotRetention", 3);
+    }
+
+    private EventSourcedLedger restart() throws Exception {
+        EventSourcedLedger restarted = new EventSourcedLedger();
+        ReflectionTestUtils.setField(restarted, "ledgerEventRepository", ledgerEventRepository);
+        ReflectionTestUtils.setField(restarted, "availabilityIndex", availabilityIndex);
+        ReflectionTestUtils.setField(restarted, "transactionManager", transactionManager);
+        ReflectionTestUtils.setField(restarted, "meterRegistry", new SimpleMeterRegistry());
+        configure(restarted);
+        restarted.start();
+        return restarted;
+    }
+
+    private LoanEvent store(boolean borrow, long bookId, long borrowerId) {
+        long id = events.size() + 1;
+        LoanEvent event = new LoanEvent(id, borrow, bookId, borrowerId, id * 1_000_000);
+        events.add(event);
+        return event;
+    }
+
+    private static long micros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static List<Long> books(List<ActiveLoan> loans) {
+        return loans.stream().map(ActiveLoan::bookId).toList();
+    }
+
+    private static Ledger loan(long bookId) {
+        Ledger loan = new Ledger();
+        loan.setBookId(bookId);
+        loan.setBorrowerId(1L);
+        return loan;
+    }
+
+    private void snapshot(EventSourcedLedger ledger) {
+        ReflectionTestUtils.invokeMethod(ledger, "snapshot");
+    }
+
+    /**
+     * Test the projection refuses a second borrow and a return of an available book without appending them.
+     */
+    @Test
+    @DisplayName("The projection should refuse conflicting events")
+    void shouldRefuseConflictingEvents() throws Exception {
+        eventSourcedLedger.start();
+
+        assertTrue(eventSourcedLedger.append(true, 1L, 1L));
+        ConflictException borrowed = assertThrows(ConflictException.class,
+                () -> eventSourcedLedger.append(true, 1L, 2L));
+        ConflictException available = assertThrows(ConflictException.class,
+                () -> eventSourcedLedger.append(false, 2L, 1L));
+
+        assertEquals("Book is already borrowed by someone", borrowed.getMessage());
+        assertEquals("Book is not borrowed to return", available.getMessage());
+        assertEquals(1, events.size());
+        assertEquals(List.of(1L), books(eventSourcedLedger.getActiveLoans()));
+    }
+
+    /**
+     * Test a batch appends only the events the projection allows, once per book.
+     */
+    @Test
+    @DisplayName("A batch should append only the allowed events")
+    void shouldAppendAllowedBatchEvents() throws Exception {
+        eventSourcedLedger.start();
+        eventSourcedLedger.append(true, 2L, 1L);
+
+        boolean[] appended = eventSourcedLedger.appendAll(true, List.of(loan(1), loan(2), loan(3), loan(1)));
+
+        assertArrayEquals(new boolean[]{true, false, true, false}, appended);
+        assertEquals(List.of(1L, 2L, 3L), books(eventSourcedLedger.getActiveLoans()));
+        assertEquals(3, events.size());
+    }
+
+    /**
+     * Test a restart loads the latest snapshot, replays only the events after it and reloads the availability
+     * index from the result.
+     */
+    @Test
+    @DisplayName("A restart should replay only the events after the latest snapshot")
+    void shouldRestartFromSnapshot() throws Exception {
+        eventSourcedLedger.start();
+        for (long book = 1; book <= 3; book++) {
+            eventSourcedLedger.append(true, book, 1L);
+        }
+        snapshot(eventSourcedLedger);
+        eventSourcedLedger.append(false, 1L, 1L);
+        eventSourcedLedger.append(true, 4L, 1L);
+
+        // Restart without a final snapshot, as after a crash
+        EventSourcedLedger restarted = restart();
+
+        verify(ledgerEventRepository).replay(eq(3L), eq(null), any());
+        assertEquals(List.of(2L, 3L, 4L), books(restarted.getActiveLoans()));
+        verify(availabilityIndex, atLeastOnce()).load(argThat((Collection<Long> ids) ->
+                Set.copyOf(ids).equals(Set.of(2L, 3L, 4L))));
+        assertThrows(ConflictException.class, () -> restarted.append(true, 4L, 1L));
+        restarted.stop();
+    }
+
+    /**
+     * Test past states are rebuilt from the latest snapshot taken before them, or from the first event.
+     */
+    @Test
+    @DisplayName("Active loans at a past time should be rebuilt from the right snapshot")
+    void shouldRebuildPastState() throws Exception {
+        eventSourcedLedger.start();
+        eventSourcedLedger.append(true, 1L, 1L);
+        eventSourcedLedger.append(true, 2L, 1L);
+        snapshot(eventSourcedLedger);
+        eventSourcedLedger.append(false, 1L, 1L);
+        eventSourcedLedger.append(true, 3L, 1L);
+        snapshot(eventSourcedLedger);
+        eventSourcedLedger.append(false, 2L, 1L);
+
+        assertEquals(List.of(1L), books(eventSourcedLedger.getActiveLoans(Instant.ofEpochSecond(1))));
+        assertEquals(List.of(1L, 2L), books(eventSourcedLedger.getActiveLoans(Instant.ofEpochSecond(2))));
+        assertEquals(List.of(2L), books(eventSourcedLedger.getActiveLoans(Instant.ofEpochSecond(3))));
+        assertEquals(List.of(3L), books(eventSourcedLedger.getActiveLoans(Instant.ofEpochSecond(5))));
+        verify(ledgerEventRepository).replay(eq(0L), eq(Instant.ofEpochSecond(1)), any());
+        verify(ledgerEventRepository).replay(eq(2L), eq(Instant.ofEpochSecond(3)), any());
+        verify(ledgerEventRepository).replay(eq(4L), eq(Instant.ofEpochSecond(5)), any());
+    }
+
+    /**
+     * Test catching up applies the events appended since the projection was last updated, as after a restore
+     * from a checkpoint, and reloads the availability index.
+     */
+    @Test
+    @DisplayName("Catching up should apply the events appended elsewhere")
+    void shouldCatchUpWithNewEvents() throws Exception {
+        eventSourcedLedger.start();
+        eventSourcedLedger.append(true, 1L, 1L);
+        // Appended by other instances while this one was checkpointed
+        store(false, 1L, 1L);
+        store(true, 2L, 1L);
+
+        int applied = eventSourcedLedger.catchUp();
+
+        assertEquals(2, applied);
+        verify(ledgerEventRepository).replay(eq(1L), eq(null), any());
+        assertEquals(List.of(2L), books(eventSourcedLedger.getActiveLoans()));
+        verify(availabilityIndex, atLeastOnce()).load(argThat((Collection<Long> ids) ->
+                Set.copyOf(ids).equals(Set.of(2L))));
+    }
+
+    /**
+     * Test a corrupt snapshot is skipped in favour of the previous one.
+     */
+    @Test
+    @DisplayName("A corrupt snapshot should fall back to the previous one")
+    void shouldSkipCorruptSnapshot() throws Exception {
+        eventSourcedLedger.start();
+        eventSourcedLedger.append(true, 1L, 1L);
+        snapshot(eventSourcedLedger);
+        eventSourcedLedger.append(true, 2L, 1L);
+        snapshot(eventSourcedLedger);
+        Path latest;
+        try (Stream<Path> files = Files.list(directory)) {
+            latest = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(latest.toFile(), "rw")) {
+            file.seek(30);
+            file.write(0x55);
+        }
+
+        EventSourcedLedger restarted = restart();
+
+        verify(ledgerEventRepository).replay(eq(1L), eq(null), any());
+        assertEquals(List.of(1L, 2L), books(restarted.getActiveLoans()));
+        restarted.stop();
+    }
+}
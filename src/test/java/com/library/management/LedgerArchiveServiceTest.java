@@ -0,0 +1,103 @@
+package com.library.management;
+
+import com.library.management.archive.ArchivedLoan;
+import com.library.management.archive.LedgerArchive;
+import com.library.management.archive.LedgerSegment;
+import com.library.management.repository.LedgerArchiveRepository;
+import com.library.management.service.impl.LedgerArchiveServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link LedgerArchiveServiceImpl}, the archiver of returned loans.
+ * <p>
+ * These tests check that segments are published only once their entries are deleted from the ledger,
+ * and discarded otherwise.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class LedgerArchiveServiceTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 10, 17, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private LedgerArchiveRepository ledgerArchiveRepository;
+
+    @Mock
+    private LedgerArchive ledgerArchive;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private LedgerArchiveServiceImpl ledgerArchiveService;
+
+    private final List<ArchivedLoan> loans = List.of(
+            new ArchivedLoan(7, 1, 10, 1_000_000, 2_000_000),
+            new ArchivedLoan(8, 2, 11, 1_500_000, 2_500_000));
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(ledgerArchiveService, "segmentRows", 100);
+        when(ledgerArchiveRepository.findArchivable(CUTOFF, 100)).thenReturn(loans);
+        when(ledgerArchive.stage(loans)).thenReturn(LedgerSegment.write(directory.resolve("test.seg"), loans));
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    /**
+     * Test the segment is registered, its entries deleted, and then it is published.
+     */
+    @Test
+    @DisplayName("Should publish a segment once its loans are deleted")
+    void shouldPublishCommittedSegment() {
+        when(ledgerArchiveRepository.deleteArchived(List.of(7L, 8L), CUTOFF)).thenReturn(2);
+
+        assertEquals(2, ledgerArchiveService.archiveLoans(CUTOFF));
+
+        verify(ledgerArchiveRepository).registerSegment(eq("test.seg"), any(LedgerSegment.class));
+        verify(ledgerArchive).publish(any(LedgerSegment.class));
+        verify(ledgerArchive, never()).discard(any());
+    }
+
+    /**
+     * Test a segment is discarded when not all of its entries could be deleted.
+     */
+    @Test
+    @DisplayName("Should discard a segment whose loans were not all deleted")
+    void shouldDiscardSegmentOnPartialDelete() {
+        when(ledgerArchiveRepository.deleteArchived(List.of(7L, 8L), CUTOFF)).thenReturn(1);
+
+        assertThrows(IllegalStateException.class, () -> ledgerArchiveService.archiveLoans(CUTOFF));
+
+        verify(ledgerArchive).discard(any(LedgerSegment.class));
+        verify(ledgerArchive, never()).publish(any());
+    }
+}
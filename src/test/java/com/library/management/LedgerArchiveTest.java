@@ -0,0 +1,132 @@
+package com.library.management;
+
+import com.library.management.archive.ArchivedLoan;
+import com.library.management.archive.LedgerArchive;
+import com.library.management.archive.LedgerSegment;
+import com.library.management.repository.LedgerArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link LedgerArchive} and the {@link LedgerSegment} file format.
+ * <p>
+ * These tests check that archived loans are read back unchanged, that queries filter and order them,
+ * and that segment files never committed are removed at startup.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class LedgerArchiveTest {
+
+    private static final long DAY = 86_400_000_000L;
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private LedgerArchiveRepository ledgerArchiveRepository;
+
+    @InjectMocks
+    private LedgerArchive ledgerArchive;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ledgerArchive, "directory", directory);
+    }
+
+    /**
+     * Builds loans of books 1 to {@code books}, each borrowed once a day for {@code days} days.
+     */
+    private static List<ArchivedLoan> loans(long firstId, int books, int days) {
+        List<ArchivedLoan> loans = new ArrayList<>();
+        long id = firstId;
+        for (int day = 0; day < days; day++) {
+            for (long book = 1; book <= books; book++) {
+                loans.add(new ArchivedLoan(id++, book, 1000 + (id * 7919) % 500, day * DAY + book, day * DAY + book + 3 * DAY));
+            }
+        }
+        return loans;
+    }
+
+    /**
+     * Test a segment spanning several blocks returns every loan unchanged, in book and date order.
+     */
+    @Test
+    @DisplayName("Should read back every archived loan")
+    void shouldRoundTripLoans() throws Exception {
+        List<ArchivedLoan> loans = loans(1, 300, 50);
+
+        LedgerSegment segment = LedgerSegment.write(directory.resolve("test.seg"), loans);
+        List<ArchivedLoan> read = new ArrayList<>();
+        LedgerSegment.open(segment.getPath()).scan(null, Long.MIN_VALUE, Long.MAX_VALUE, read::add);
+
+        assertEquals(15000, segment.getRowCount());
+        assertEquals(1, segment.getMinBookId());
+        assertEquals(300, segment.getMaxBookId());
+        List<ArchivedLoan> expected = new ArrayList<>(loans);
+        expected.sort((a, b) -> a.bookId() != b.bookId()
+                ? Long.compare(a.bookId(), b.bookId())
+                : Long.compare(a.createdMicros(), b.createdMicros()));
+        assertEquals(expected, read);
+        assertTrue(Files.size(segment.getPath()) < 15000L * 40, "columns should be delta-encoded");
+    }
+
+    /**
+     * Test queries filter by book and borrow day and return the most recent loans first.
+     */
+    @Test
+    @DisplayName("Should find the latest loans of a book within a date range")
+    void shouldFindLoansOfBook() throws Exception {
+        ledgerArchive.publish(ledgerArchive.stage(loans(1, 300, 50)));
+        ledgerArchive.publish(ledgerArchive.stage(loans(100_000, 300, 10)));
+
+        List<ArchivedLoan> found = ledgerArchive.find(42L, 5 * DAY, 8 * DAY, 100);
+
+        assertEquals(6, found.size());
+        assertTrue(found.stream().allMatch(loan -> loan.bookId() == 42));
+        assertEquals(7 * DAY + 42, found.get(0).createdMicros());
+        assertEquals(5 * DAY + 42, found.get(5).createdMicros());
+        assertEquals(2, ledgerArchive.find(42L, 5 * DAY, 8 * DAY, 2).size());
+        assertTrue(ledgerArchive.find(301L, Long.MIN_VALUE, Long.MAX_VALUE, 100).isEmpty());
+        assertEquals(49 * DAY + 300, ledgerArchive.find(null, Long.MIN_VALUE, Long.MAX_VALUE, 1).get(0).createdMicros());
+    }
+
+    /**
+     * Test startup maps committed segments and removes the uncommitted and temporary files.
+     */
+    @Test
+    @DisplayName("Should remove uncommitted segments at startup")
+    void shouldRemoveUncommittedSegments() throws Exception {
+        LedgerSegment committed = ledgerArchive.stage(loans(1, 10, 1));
+        LedgerSegment uncommitted = ledgerArchive.stage(loans(500, 10, 1));
+        Path temporary = Files.writeString(directory.resolve("ledger-0000000000000000900.seg.tmp"), "partial");
+        when(ledgerArchiveRepository.findSegmentNames())
+                .thenReturn(List.of(committed.getPath().getFileName().toString()));
+
+        ledgerArchive.load();
+
+        assertEquals(1, ledgerArchive.segmentCount());
+        assertTrue(Files.exists(committed.getPath()));
+        assertFalse(Files.exists(uncommitted.getPath()));
+        assertFalse(Files.exists(temporary));
+        assertEquals(10, ledgerArchive.find(null, Long.MIN_VALUE, Long.MAX_VALUE, 100).size());
+    }
+}
@@ -0,0 +1,110 @@
+package com.library.management;
+
+import com.library.management.repository.LedgerPartitionRepository;
+import com.library.management.service.impl.LedgerPartitionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link LedgerPartitionServiceImpl}, the maintenance of the monthly ledger partitions.
+ * <p>
+ * These tests check that upcoming partitions are created and that only partitions past retention without
+ * active loans are detached.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class LedgerPartitionServiceTest {
+
+    private static final YearMonth CURRENT = YearMonth.of(2026, 10);
+
+    @Mock
+    private LedgerPartitionRepository ledgerPartitionRepository;
+
+    @InjectMocks
+    private LedgerPartitionServiceImpl ledgerPartitionService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(ledgerPartitionService, "monthsAhead", 3);
+        ReflectionTestUtils.setField(ledgerPartitionService, "retentionMonths", 24);
+    }
+
+    /**
+     * Test the current month and the months ahead get a partition, even when one of them fails.
+     */
+    @Test
+    @DisplayName("Should create the partitions of the coming months")
+    void shouldCreateUpcomingPartitions() {
+        doNothing().when(ledgerPartitionRepository).createPartition(any());
+        doThrow(new DataIntegrityViolationException("rows in ledger_default"))
+                .when(ledgerPartitionRepository).createPartition(CURRENT.plusMonths(1));
+
+        ledgerPartitionService.maintainPartitions(CURRENT);
+
+        for (int i = 0; i <= 3; i++) {
+            verify(ledgerPartitionRepository).createPartition(CURRENT.plusMonths(i));
+        }
+        verify(ledgerPartitionRepository, never()).createPartition(CURRENT.plusMonths(4));
+    }
+
+    /**
+     * Test partitions past retention are detached unless they still hold an active loan.
+     */
+    @Test
+    @DisplayName("Should detach old partitions without active loans")
+    void shouldDetachOldPartitions() {
+        YearMonth expired = YearMonth.of(2024, 8);
+        YearMonth expiredWithLoan = YearMonth.of(2024, 9);
+        YearMonth oldestKept = YearMonth.of(2024, 10);
+        when(ledgerPartitionRepository.findPartitionMonths()).thenReturn(List.of(expired, expiredWithLoan, oldestKept));
+        when(ledgerPartitionRepository.hasActiveLoans(expired)).thenReturn(false);
+        when(ledgerPartitionRepository.hasActiveLoans(expiredWithLoan)).thenReturn(true);
+
+        ledgerPartitionService.maintainPartitions(CURRENT);
+
+        verify(ledgerPartitionRepository).detachPartition(expired);
+        verify(ledgerPartitionRepository, never()).detachPartition(expiredWithLoan);
+        verify(ledgerPartitionRepository, never()).detachPartition(oldestKept);
+        verify(ledgerPartitionRepository, never()).dropDetachedPartition(any());
+    }
+
+    /**
+     * Test detached partitions are dropped only when configured, and retention 0 keeps everything.
+     */
+    @Test
+    @DisplayName("Should drop detached partitions only when configured")
+    void shouldDropDetachedPartitionsWhenConfigured() {
+        YearMonth expired = YearMonth.of(2020, 1);
+        when(ledgerPartitionRepository.findPartitionMonths()).thenReturn(List.of(expired));
+        ReflectionTestUtils.setField(ledgerPartitionService, "dropDetached", true);
+
+        ledgerPartitionService.maintainPartitions(CURRENT);
+
+        verify(ledgerPartitionRepository).detachPartition(expired);
+        verify(ledgerPartitionRepository).dropDetachedPartition(expired);
+
+        clearInvocations(ledgerPartitionRepository);
+        ReflectionTestUtils.setField(ledgerPartitionService, "retentionMonths", 0);
+
+        ledgerPartitionService.maintainPartitions(CURRENT);
+
+        verify(ledgerPartitionRepository, never()).findPartitionMonths();
+        verify(ledgerPartitionRepository, never()).detachPartition(any());
+    }
+}
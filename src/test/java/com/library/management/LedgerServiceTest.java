@@ -1,25 +1,45 @@
 package com.library.management;
 
-import com.library.management.enums.LedgerStatus;
+import com.library.management.cache.CatalogCache;
+import com.library.management.dto.BookDTO;
+import com.library.management.dto.LedgerRequestDTO;
+import com.library.management.dto.LedgerResultDTO;
+import com.library.management.enums.LedgerResultStatus;
+import com.library.management.event.EventSourcedLedger;
 import com.library.management.exception.ConflictException;
-import com.library.management.model.Book;
-import com.library.management.model.Borrower;
-import com.library.management.model.Ledger;
+import com.library.management.index.BookAvailabilityIndex;
+import com.library.management.ledger.EventSourcedLedgerWriter;
+import com.library.management.ledger.LedgerWriter;
+import com.library.management.ledger.SyncLedgerWriter;
+import com.library.management.ledger.WriteBehindLedgerWriter;
 import com.library.management.repository.BookRepository;
+import com.library.management.repository.LedgerBatchRepository;
 import com.library.management.repository.BorrowerRepository;
 import com.library.management.repository.LedgerRepository;
+import com.library.management.repository.LedgerWalRepository;
 import com.library.management.service.impl.LedgerServiceImpl;
+import com.library.management.wal.WriteBehindLedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 /**
@@ -29,7 +49,7 @@ import static org.mockito.Mockito.*;
  * </p>
  *
  * @author Chandru
- * @version 1.0
+ * @version 1.2
  * @since 2025-05-19
  */
 @ExtendWith(MockitoExtension.class)
@@ -44,25 +64,57 @@ public class LedgerServiceTest {
     @Mock
     private LedgerRepository ledgerRepository;
 
+    @Mock
+    private LedgerBatchRepository ledgerBatchRepository;
+
+    @Mock
+    private CatalogCache catalogCache;
+
+    @Mock
+    private LedgerWalRepository ledgerWalRepository;
+
+    @Spy
+    private BookAvailabilityIndex availabilityIndex = new BookAvailabilityIndex();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
-    private LedgerServiceImpl ledgerService;
+    private SyncLedgerWriter syncLedgerWriter;
 
-    private Book book;
-    private Borrower borrower;
-    private Ledger ledger;
+    @InjectMocks
+    private LedgerServiceImpl ledgerService;
 
+    /**
+     * Writes through the default writer unless a test switches the ledger mode.
+     */
     @BeforeEach
     void setUp() {
-        book = new Book();
-        book.setId(1L);
+        ReflectionTestUtils.setField(ledgerService, "ledgerWriter", syncLedgerWriter);
+    }
 
-        borrower = new Borrower();
-        borrower.setId(1L);
+    /**
+     * Switches the service to the write-behind writer, logging to the given ledger.
+     */
+    private void useWriteBehind(WriteBehindLedger writeBehindLedger) {
+        WriteBehindLedgerWriter writer = new WriteBehindLedgerWriter();
+        ReflectionTestUtils.setField(writer, "writeBehindLedger", writeBehindLedger);
+        ReflectionTestUtils.setField(writer, "ledgerWalRepository", ledgerWalRepository);
+        use(writer);
+    }
 
-        ledger = new Ledger();
-        ledger.setBookId(1L);
-        ledger.setBorrowerId(1L);
-        ledger.setStatus(LedgerStatus.BORROWED);
+    /**
+     * Switches the service to the event-sourced writer, appending to the given ledger.
+     */
+    private void useEventSourced(EventSourcedLedger eventSourcedLedger) {
+        EventSourcedLedgerWriter writer = new EventSourcedLedgerWriter();
+        ReflectionTestUtils.setField(writer, "eventSourcedLedger", eventSourcedLedger);
+        use(writer);
+    }
+
+    private void use(LedgerWriter writer) {
+        ReflectionTestUtils.setField(writer, "availabilityIndex", availabilityIndex);
+        ReflectionTestUtils.setField(ledgerService, "ledgerWriter", writer);
     }
 
     /**
@@ -71,30 +123,29 @@ public class LedgerServiceTest {
     @Test
     @DisplayName("Should allow borrowing when book is not already borrowed")
     void shouldAllowBorrowingWhenBookIsAvailable() throws ConflictException {
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
-        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(borrower));
-        when(ledgerRepository.findByBookIdAndStatus(1L, LedgerStatus.BORROWED))
-                .thenReturn(Optional.empty());
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Optional.of(10L));
 
         ledgerService.handleLedger(1L, 1L, true);
 
-        verify(ledgerRepository, times(1)).save(any(Ledger.class));
+        verify(ledgerRepository, times(1)).insertBorrow(1L, 1L);
+        verifyNoInteractions(bookRepository, borrowerRepository, availabilityIndex);
     }
 
     /**
-     * Should throw ConflictException when trying to borrow a book that is already borrowed.
+     * Should throw ConflictException when trying to borrow a book that is already borrowed, once the
+     * active loan index rejects the insert.
      */
     @Test
     @DisplayName("Should throw exception if book is already borrowed")
     void shouldThrowExceptionIfBookAlreadyBorrowed() {
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
-        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(borrower));
-        when(ledgerRepository.findByBookIdAndStatus(1L, LedgerStatus.BORROWED))
-                .thenReturn(Optional.of(ledger));
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Optional.empty());
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(1L)).thenReturn(true);
 
-        assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
 
-        verify(ledgerRepository, never()).save(any());
+        assertEquals("Book is already borrowed by someone", ex.getMessage());
+        verifyNoInteractions(availabilityIndex);
     }
 
     /**
@@ -103,43 +154,65 @@ public class LedgerServiceTest {
     @Test
     @DisplayName("Should allow returning a borrowed book")
     void shouldAllowReturningBook() throws ConflictException {
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
-        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(borrower));
-        when(ledgerRepository.findByBookIdAndStatus(1L, LedgerStatus.BORROWED))
-                .thenReturn(Optional.of(ledger));
+        when(ledgerRepository.markReturned(1L, 1L)).thenReturn(1);
 
         ledgerService.handleLedger(1L, 1L, false);
 
-        verify(ledgerRepository, times(1)).save(any(Ledger.class));
+        verify(ledgerRepository, times(1)).markReturned(1L, 1L);
+        verifyNoInteractions(bookRepository, borrowerRepository, availabilityIndex);
     }
 
     /**
-     * Should throw ConflictException when trying to return a book that hasn't been borrowed.
+     * Should throw ConflictException when trying to return a book that hasn't been borrowed, once the
+     * conditional update confirms there is no active loan.
      */
     @Test
     @DisplayName("Should throw exception if book is not borrowed but trying to return")
     void shouldThrowExceptionIfBookNotBorrowedButReturnAttempted() {
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
-        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(borrower));
-        when(ledgerRepository.findByBookIdAndStatus(1L, LedgerStatus.BORROWED))
-                .thenReturn(Optional.empty());
+        when(ledgerRepository.markReturned(1L, 1L)).thenReturn(0);
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(1L)).thenReturn(true);
 
-        assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, false));
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, false));
 
-        verify(ledgerRepository, never()).save(any());
+        assertEquals("Book is not borrowed to return", ex.getMessage());
     }
 
     /**
-     * Should throw ConflictException when trying to borrow or return a non-existent book.
+     * Should record every borrow and return under its operation and outcome.
+     */
+    @Test
+    @DisplayName("Should time borrows and returns by outcome")
+    void shouldTimeLedgerOperationsByOutcome() throws ConflictException {
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Optional.of(10L), Optional.empty());
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(1L)).thenReturn(true);
+
+        ledgerService.handleLedger(1L, 1L, true);
+        assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
+        assertThrows(ConflictException.class, () -> ledgerService.handleLedger(2L, 1L, false));
+
+        assertEquals(1, meterRegistry.get("library.ledger").tags("operation", "borrow", "outcome", "success")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("library.ledger").tags("operation", "borrow", "outcome", "conflict")
+                .timer().count());
+        assertEquals(1, meterRegistry.get("library.ledger").tags("operation", "return", "outcome", "conflict")
+                .timer().count());
+    }
+
+    /**
+     * Should throw ConflictException when trying to borrow a non-existent book.
      */
     @Test
     @DisplayName("Should throw exception when book does not exist")
     void shouldThrowExceptionWhenBookDoesNotExist() {
-        when(bookRepository.findById(1L)).thenReturn(Optional.empty());
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Optional.empty());
+        when(catalogCache.findById(1L)).thenReturn(Optional.empty());
 
-        assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
-        verify(borrowerRepository, never()).findById(any());
-        verify(ledgerRepository, never()).save(any());
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
+
+        assertEquals("Book not exists to borrow", ex.getMessage());
+        verify(borrowerRepository, never()).existsById(any());
     }
 
     /**
@@ -148,26 +221,237 @@ public class LedgerServiceTest {
     @Test
     @DisplayName("Should throw exception when borrower does not exist")
     void shouldThrowExceptionWhenBorrowerDoesNotExist() {
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
-        when(borrowerRepository.findById(1L)).thenReturn(Optional.empty());
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Optional.empty());
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(1L)).thenReturn(false);
+
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
+
+        assertEquals("Borrower not exists to borrow book", ex.getMessage());
+    }
+
+    /**
+     * Should report the missing borrower when a return updates no row.
+     */
+    @Test
+    @DisplayName("Should throw exception when the returning borrower does not exist")
+    void shouldThrowExceptionWhenReturningBorrowerDoesNotExist() {
+        when(ledgerRepository.markReturned(1L, 1L)).thenReturn(0);
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(1L)).thenReturn(false);
+
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, false));
+
+        assertEquals("Borrower not exists to borrow book", ex.getMessage());
+    }
+
+    /**
+     * Should record every valid item of a borrow batch with one existence query per table and one batch write.
+     */
+    @Test
+    @DisplayName("Should borrow a batch of available books")
+    void shouldBorrowBatchOfAvailableBooks() {
+        when(bookRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(borrowerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(ledgerBatchRepository.insertBorrows(anyList())).thenReturn(new int[]{1, 1});
+
+        List<LedgerResultDTO> results = ledgerService.handleLedgerBatch(
+                List.of(new LedgerRequestDTO(1L, 1L), new LedgerRequestDTO(2L, 1L)), true);
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(r -> r.getStatus() == LedgerResultStatus.SUCCESS));
+        verifyNoInteractions(availabilityIndex);
+        verify(bookRepository, times(1)).findExistingIds(anyCollection());
+        verify(borrowerRepository, times(1)).findExistingIds(anyCollection());
+        verify(ledgerBatchRepository, times(1)).insertBorrows(anyList());
+    }
+
+    /**
+     * Should report a conflict per item without failing the rest of the batch.
+     */
+    @Test
+    @DisplayName("Should report conflicts per item in a borrow batch")
+    void shouldReportConflictsPerItemInBorrowBatch() {
+        when(bookRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 3L));
+        when(borrowerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(ledgerBatchRepository.insertBorrows(anyList())).thenReturn(new int[]{1, 0, 0});
+
+        List<LedgerResultDTO> results = ledgerService.handleLedgerBatch(List.of(
+                new LedgerRequestDTO(1L, 1L),
+                new LedgerRequestDTO(1L, 1L),
+                new LedgerRequestDTO(2L, 1L),
+                new LedgerRequestDTO(3L, 1L),
+                new LedgerRequestDTO(1L, 9L)), true);
+
+        assertEquals(LedgerResultStatus.SUCCESS, results.get(0).getStatus());
+        assertEquals("Book is already borrowed by someone", results.get(1).getMessage());
+        assertEquals("Book not exists to borrow", results.get(2).getMessage());
+        assertEquals("Book is already borrowed by someone", results.get(3).getMessage());
+        assertEquals("Borrower not exists to borrow book", results.get(4).getMessage());
+        assertTrue(results.subList(1, 5).stream().allMatch(r -> r.getStatus() == LedgerResultStatus.CONFLICT));
+    }
+
+    /**
+     * Should report a conflict when the batch write finds a book already returned by another writer.
+     */
+    @Test
+    @DisplayName("Should report a conflict when a batch return updates no row")
+    void shouldReportConflictWhenBatchReturnUpdatesNothing() {
+        when(bookRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(borrowerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        when(ledgerBatchRepository.markReturned(anyList())).thenReturn(new int[]{1, 0});
+
+        List<LedgerResultDTO> results = ledgerService.handleLedgerBatch(
+                List.of(new LedgerRequestDTO(1L, 1L), new LedgerRequestDTO(2L, 1L)), false);
+
+        assertEquals(LedgerResultStatus.SUCCESS, results.get(0).getStatus());
+        assertEquals(LedgerResultStatus.CONFLICT, results.get(1).getStatus());
+    }
+
+    /**
+     * Should check the book and borrower up front and log the borrow instead of writing the table in
+     * write-behind mode.
+     */
+    @Test
+    @DisplayName("Should log a borrow to the write-behind ledger in write-behind mode")
+    void shouldRecordBorrowInWriteBehindMode() throws ConflictException {
+        WriteBehindLedger writeBehindLedger = mock(WriteBehindLedger.class);
+        useWriteBehind(writeBehindLedger);
+        when(ledgerWalRepository.findExistence(1L, 1L)).thenReturn(new boolean[]{true, true});
+
+        ledgerService.handleLedger(1L, 1L, true);
+
+        verify(writeBehindLedger).record(true, 1L, 1L);
+        verifyNoInteractions(ledgerRepository);
+        assertTrue(availabilityIndex.isBorrowed(1L));
+    }
+
+    /**
+     * Should reject a double borrow from the availability index in write-behind mode, without logging it.
+     */
+    @Test
+    @DisplayName("Should reject a double borrow from the index in write-behind mode")
+    void shouldRejectDoubleBorrowFromIndexInWriteBehindMode() {
+        WriteBehindLedger writeBehindLedger = mock(WriteBehindLedger.class);
+        useWriteBehind(writeBehindLedger);
+        availabilityIndex.markBorrowed(1L);
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(1L)).thenReturn(true);
+
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
+
+        assertEquals("Book is already borrowed by someone", ex.getMessage());
+        verifyNoInteractions(writeBehindLedger, ledgerRepository);
+        assertTrue(availabilityIndex.isBorrowed(1L));
+    }
+
+    /**
+     * Should report a missing book before the index conflict when returning an unknown book in write-behind mode,
+     * as in the default mode.
+     */
+    @Test
+    @DisplayName("Should report a missing book before an index conflict in write-behind mode")
+    void shouldReportMissingBookBeforeIndexConflictInWriteBehindMode() {
+        WriteBehindLedger writeBehindLedger = mock(WriteBehindLedger.class);
+        useWriteBehind(writeBehindLedger);
+        when(catalogCache.findById(1L)).thenReturn(Optional.empty());
+
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, false));
+
+        assertEquals("Book not exists to borrow", ex.getMessage());
+        verifyNoInteractions(writeBehindLedger);
+    }
+
+    /**
+     * Should reject a borrow by an unknown borrower before logging it in write-behind mode.
+     */
+    @Test
+    @DisplayName("Should not log a borrow by an unknown borrower in write-behind mode")
+    void shouldNotRecordUnknownBorrowerInWriteBehindMode() {
+        WriteBehindLedger writeBehindLedger = mock(WriteBehindLedger.class);
+        useWriteBehind(writeBehindLedger);
+        when(ledgerWalRepository.findExistence(1L, 9L)).thenReturn(new boolean[]{true, false});
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(9L)).thenReturn(false);
+
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 9L, true));
+
+        assertEquals("Borrower not exists to borrow book", ex.getMessage());
+        verifyNoInteractions(writeBehindLedger);
+        assertFalse(availabilityIndex.isBorrowed(1L));
+    }
+
+    /**
+     * Should release the books claimed by a batch when the write-behind ledger fails to log it, so they can be
+     * borrowed again.
+     */
+    @Test
+    @DisplayName("Should release the claimed books when a write-behind batch fails")
+    void shouldReleaseClaimsWhenWriteBehindBatchFails() {
+        WriteBehindLedger writeBehindLedger = mock(WriteBehindLedger.class);
+        useWriteBehind(writeBehindLedger);
+        when(bookRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(borrowerRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L));
+        doThrow(new IllegalStateException("log closed")).when(writeBehindLedger).recordAll(eq(true), anyList());
+
+        assertThrows(IllegalStateException.class, () -> ledgerService.handleLedgerBatch(
+                List.of(new LedgerRequestDTO(1L, 1L), new LedgerRequestDTO(2L, 1L)), true));
+
+        assertFalse(availabilityIndex.isBorrowed(1L));
+        assertFalse(availabilityIndex.isBorrowed(2L));
+    }
+
+    /**
+     * Should append the borrow to the event-sourced ledger instead of writing the table in event-sourced mode.
+     */
+    @Test
+    @DisplayName("Should append a borrow event in event-sourced mode")
+    void shouldAppendBorrowEventInEventSourcedMode() throws ConflictException {
+        EventSourcedLedger eventSourcedLedger = mock(EventSourcedLedger.class);
+        useEventSourced(eventSourcedLedger);
+        when(eventSourcedLedger.append(true, 1L, 1L)).thenReturn(true);
+
+        ledgerService.handleLedger(1L, 1L, true);
+
+        verifyNoInteractions(ledgerRepository);
+        assertTrue(availabilityIndex.isBorrowed(1L));
+    }
+
+    /**
+     * Should leave the availability index marked when the projection refuses the borrow, since the book is on
+     * loan there.
+     */
+    @Test
+    @DisplayName("Should follow the projection when it refuses a borrow in event-sourced mode")
+    void shouldFollowProjectionConflictInEventSourcedMode() throws ConflictException {
+        EventSourcedLedger eventSourcedLedger = mock(EventSourcedLedger.class);
+        useEventSourced(eventSourcedLedger);
+        when(eventSourcedLedger.append(true, 1L, 1L))
+                .thenThrow(new ConflictException("Book is already borrowed by someone"));
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(1L)).thenReturn(true);
 
         assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
-        verify(ledgerRepository, never()).save(any());
+
+        assertTrue(availabilityIndex.isBorrowed(1L));
     }
 
     /**
-     * Should set status to RETURNED when returning a borrowed book.
+     * Should ask for a retry, and revert the availability index, when the event was refused for a missing book
+     * or borrower that exists by the time it is looked up.
      */
     @Test
-    @DisplayName("Should set ledger status to RETURNED on return")
-    void shouldSetStatusToReturnedOnReturn() throws ConflictException {
-        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
-        when(borrowerRepository.findById(1L)).thenReturn(Optional.of(borrower));
-        when(ledgerRepository.findByBookIdAndStatus(1L, LedgerStatus.BORROWED)).thenReturn(Optional.of(ledger));
+    @DisplayName("Should ask for a retry when the book or borrower appears after the event was refused")
+    void shouldAskForRetryWhenEventRefusedForNewRow() throws ConflictException {
+        EventSourcedLedger eventSourcedLedger = mock(EventSourcedLedger.class);
+        useEventSourced(eventSourcedLedger);
+        when(eventSourcedLedger.append(true, 1L, 1L)).thenReturn(false);
+        when(catalogCache.findById(1L)).thenReturn(Optional.of(new BookDTO()));
+        when(borrowerRepository.existsById(1L)).thenReturn(true);
 
-        ledgerService.handleLedger(1L, 1L, false);
+        ConflictException ex = assertThrows(ConflictException.class, () -> ledgerService.handleLedger(1L, 1L, true));
 
-        assert ledger.getStatus() == LedgerStatus.RETURNED;
-        verify(ledgerRepository, times(1)).save(ledger);
+        assertEquals("Book or borrower was just added, please retry the borrow", ex.getMessage());
+        assertFalse(availabilityIndex.isBorrowed(1L));
     }
 }
@@ -0,0 +1,94 @@
+package com.library.management;
+
+import com.library.management.config.LimitedDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link LimitedDataSource}.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class LimitedDataSourceTest {
+
+    @Mock
+    private DataSource pool;
+
+    @Mock
+    private Connection connection;
+
+    /**
+     * Test a permit is taken per open connection and returned once, however often the connection is closed.
+     */
+    @Test
+    @DisplayName("Closing a connection should return its permit exactly once")
+    void shouldReleasePermitOnClose() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        LimitedDataSource dataSource = new LimitedDataSource(pool, 2, Duration.ofMillis(10));
+
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+        assertEquals(0, dataSource.getAvailablePermits());
+
+        first.close();
+        first.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    /**
+     * Test a caller fails with a transient error once all permits stay taken for longer than the max wait.
+     */
+    @Test
+    @DisplayName("getConnection should time out when all permits are taken")
+    void shouldTimeOutWhenExhausted() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        LimitedDataSource dataSource = new LimitedDataSource(pool, 1, Duration.ofMillis(10));
+
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(pool, times(1)).getConnection();
+    }
+
+    /**
+     * Test the permit is returned when the pool fails to hand out a connection.
+     */
+    @Test
+    @DisplayName("A failing pool should not leak permits")
+    void shouldReleasePermitWhenPoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLException("pool down"));
+        LimitedDataSource dataSource = new LimitedDataSource(pool, 1, Duration.ofMillis(10));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    /**
+     * Test calls other than close reach the pooled connection.
+     */
+    @Test
+    @DisplayName("Other connection calls should be delegated")
+    void shouldDelegateOtherCalls() throws SQLException {
+        when(pool.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        LimitedDataSource dataSource = new LimitedDataSource(pool, 1, Duration.ofMillis(10));
+
+        assertTrue(dataSource.getConnection().getAutoCommit());
+    }
+}
@@ -0,0 +1,85 @@
+package com.library.management;
+
+import com.library.management.config.DatabaseConcurrencyConfig;
+import com.library.management.config.ExceptionAdvice;
+import com.library.management.config.ReactiveExceptionAdvice;
+import com.library.management.config.StatementRecordingConfig;
+import com.library.management.dto.BookDTO;
+import com.library.management.dto.ErrorDetailsDTO;
+import com.library.management.service.impl.BookImportServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.ReflectiveRuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.BeanUtils;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the runtime hints the native image needs beyond those Spring AOT infers.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class NativeHintsTest {
+
+    /**
+     * Test the error body and the imported book DTO are registered for JSON binding.
+     */
+    @Test
+    @DisplayName("DTOs serialized outside controller signatures should be registered for binding")
+    void shouldRegisterBindingHints() {
+        RuntimeHints hints = new RuntimeHints();
+
+        new ReflectiveRuntimeHintsRegistrar().registerRuntimeHints(hints, ExceptionAdvice.class,
+                ReactiveExceptionAdvice.class, BookImportServiceImpl.class);
+
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(ErrorDetailsDTO.class, "getMessage").test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(BookDTO.class, "setIsbnNo").test(hints));
+    }
+
+    /**
+     * Test the {@link Connection} proxy of the database limiter is registered.
+     */
+    @Test
+    @DisplayName("The limiter's connection proxy should be registered")
+    void shouldRegisterConnectionProxy() {
+        RuntimeHints hints = new RuntimeHints();
+
+        register(hints, DatabaseConcurrencyConfig.class);
+
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+    }
+
+    /**
+     * Test the connection and statement proxies of the statement recorder are registered.
+     */
+    @Test
+    @DisplayName("The statement recorder's proxies should be registered")
+    void shouldRegisterStatementProxies() {
+        RuntimeHints hints = new RuntimeHints();
+
+        register(hints, StatementRecordingConfig.class);
+
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Connection.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(Statement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PreparedStatement.class).test(hints));
+        assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(CallableStatement.class).test(hints));
+    }
+
+    private void register(RuntimeHints hints, Class<?> configuration) {
+        for (Class<? extends RuntimeHintsRegistrar> registrar
+                : configuration.getAnnotation(ImportRuntimeHints.class).value()) {
+            BeanUtils.instantiateClass(registrar).registerHints(hints, getClass().getClassLoader());
+        }
+    }
+}
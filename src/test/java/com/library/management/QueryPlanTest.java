@@ -0,0 +1,311 @@
+package com.library.management;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.library.management.enums.LedgerStatus;
+import com.library.management.repository.BookRepository;
+import com.library.management.repository.BorrowerRepository;
+import com.library.management.repository.LedgerPartitionRepository;
+import com.library.management.repository.LedgerRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-plan regression tests for the repository queries.
+ * <p>
+ * The application runs against an embedded PostgreSQL server seeded with a realistic volume: 200,000 book
+ * copies, 100,000 borrowers and 300,000 ledger entries spread over a year of monthly partitions. Each test
+ * calls one repository method, captures the SQL it prepared and runs it again under
+ * {@code EXPLAIN (ANALYZE, FORMAT JSON)} with the same parameters. A test fails if the plan scans a table
+ * of more than {@value #SEQ_SCAN_MAX_ROWS} rows sequentially or if its total cost exceeds the budget,
+ * which leaves a margin over the cost of the expected index plan but not enough room for a full scan.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.1
+ * @since 2026-10-17
+ */
+public class QueryPlanTest {
+
+    /**
+     * Largest table, by planner estimate, that may be scanned sequentially.
+     */
+    private static final long SEQ_SCAN_MAX_ROWS = 1000;
+
+    private static final int BOOKS = 200_000;
+    private static final int BORROWERS = 100_000;
+    private static final int LEDGER_ENTRIES = 300_000;
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static EmbeddedPostgres postgres;
+    private static ConfigurableApplicationContext context;
+    private static JdbcTemplate jdbc;
+
+    /**
+     * Collects the SQL of every statement prepared on the application data source, by Hibernate and by the
+     * JDBC repositories alike.
+     */
+    static class SqlCapture implements BeanPostProcessor {
+
+        private static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        return capturing(obtainTargetDataSource().getConnection());
+                    }
+                };
+            }
+            return bean;
+        }
+
+        private static Connection capturing(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                        if (method.getName().equals("prepareStatement")) {
+                            synchronized (statements) {
+                                statements.add((String) args[0]);
+                            }
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+
+    @BeforeAll
+    static void start() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(LibraryManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .initializers(context -> context.getBeanFactory().addBeanPostProcessor(new SqlCapture()))
+                .run("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        "--ledger.archive.directory=target/query-plan-archive",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        jdbc = context.getBean(JdbcTemplate.class);
+        seed();
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    private static void seed() {
+        jdbc.update("insert into book (id, isbn_no, title, author, version, created_date, updated_date) "
+                + "select i, 'isbn-' || ((i - 1) / 4 + 1), 'Title ' || ((i - 1) / 4 + 1), "
+                + "'Author ' || ((i - 1) / 4 + 1), (i - 1) % 4 + 1, now(), now() "
+                + "from generate_series(1, ?) i", BOOKS);
+        jdbc.update("insert into borrower (id, name, email, created_date, updated_date) "
+                + "select i, 'Borrower ' || i, 'borrower' || i || '@example.com', now(), now() "
+                + "from generate_series(1, ?) i", BORROWERS);
+
+        LedgerPartitionRepository partitions = context.getBean(LedgerPartitionRepository.class);
+        for (int i = 0; i <= 12; i++) {
+            partitions.createPartition(YearMonth.now().minusMonths(i));
+        }
+        // Every 100th entry of the first 200,000 is still borrowed; its book is unique since 7919 and the
+        // book count are coprime
+        jdbc.update("insert into ledger (id, book_id, borrower_id, status, created_date, updated_date) "
+                + "select i, (i::bigint * 7919) % ? + 1, i % ? + 1, "
+                + "case when i % 100 = 0 and i <= ? then 'BORROWED' else 'RETURNED' end, "
+                + "date_trunc('day', now()) - (i % 360) * interval '1 day', now() "
+                + "from generate_series(1, ?) i", BOOKS, BORROWERS, BOOKS, LEDGER_ENTRIES);
+        jdbc.update("insert into ledger_active (book_id, ledger_id, created_date) "
+                + "select book_id, id, created_date from ledger where status = 'BORROWED'");
+        jdbc.execute("analyze");
+    }
+
+    /**
+     * Runs the invocation, explains the single query it issued and checks the plan.
+     *
+     * @param budget     the highest acceptable total plan cost
+     * @param invocation the repository call under test
+     * @param parameters the parameters the call bound, in order
+     */
+    private static void assertPlan(double budget, Runnable invocation, Object... parameters) throws Exception {
+        assertPlan(budget, Set.of(), invocation, parameters);
+    }
+
+    /**
+     * Like {@link #assertPlan(double, Runnable, Object...)}, for a query meant to read some tables in full.
+     *
+     * @param budget     the highest acceptable total plan cost
+     * @param fullScans  the tables the query may scan sequentially whatever their size
+     * @param invocation the repository call under test
+     * @param parameters the parameters the call bound, in order
+     */
+    private static void assertPlan(double budget, Set<String> fullScans, Runnable invocation, Object... parameters)
+            throws Exception {
+        List<String> queries;
+        synchronized (SqlCapture.statements) {
+            SqlCapture.statements.clear();
+        }
+        invocation.run();
+        synchronized (SqlCapture.statements) {
+            queries = SqlCapture.statements.stream()
+                    .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                    .toList();
+        }
+        assertEquals(1, queries.size(), () -> "Expected one query, got " + queries);
+
+        String explained = jdbc.queryForObject("explain (analyze, format json) " + queries.get(0), String.class,
+                parameters);
+        JsonNode plan = objectMapper.readTree(explained).get(0).get("Plan");
+        assertNoLargeSeqScan(plan, queries.get(0), fullScans);
+        double cost = plan.get("Total Cost").asDouble();
+        assertTrue(cost <= budget, () -> "Plan cost " + cost + " exceeds budget " + budget + " for "
+                + queries.get(0) + "\n" + plan.toPrettyString());
+    }
+
+    private static void assertNoLargeSeqScan(JsonNode node, String sql, Set<String> fullScans) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && !fullScans.contains(relation)) {
+            Long rows = jdbc.queryForObject("select cast(reltuples as bigint) from pg_class where relname = ?",
+                    Long.class, relation);
+            assertTrue(rows == null || rows <= SEQ_SCAN_MAX_ROWS,
+                    () -> "Sequential scan on " + relation + " (" + rows + " rows) for " + sql);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            assertNoLargeSeqScan(child, sql, fullScans);
+        }
+    }
+
+    /**
+     * Test the copies of an ISBN are found through the leading column of the unique key.
+     */
+    @Test
+    @DisplayName("findByIsbnNo should use an index on isbn_no")
+    void findByIsbnNo() throws Exception {
+        BookRepository repository = context.getBean(BookRepository.class);
+        assertPlan(100, () -> assertEquals(4, repository.findByIsbnNo("isbn-1234").size()), "isbn-1234");
+    }
+
+    /**
+     * Test keyset pagination seeks on the primary key instead of scanning and sorting.
+     */
+    @Test
+    @DisplayName("findByIdGreaterThan should seek on the primary key")
+    void findByIdGreaterThan() throws Exception {
+        BookRepository repository = context.getBean(BookRepository.class);
+        assertPlan(100, () -> repository.findByIdGreaterThan(150_000L, PageRequest.of(0, 20, Sort.by("id"))),
+                150_000L, 21);
+    }
+
+    /**
+     * Test the existence check of a batch of books uses the primary key.
+     */
+    @Test
+    @DisplayName("BookRepository.findExistingIds should use the primary key")
+    void findExistingBookIds() throws Exception {
+        BookRepository repository = context.getBean(BookRepository.class);
+        assertPlan(100, () -> assertEquals(2, repository.findExistingIds(List.of(10L, 20L, -1L)).size()),
+                10L, 20L, -1L);
+    }
+
+    /**
+     * Test a borrower is found through the name and email unique key.
+     */
+    @Test
+    @DisplayName("findByNameAndEmail should use the name and email unique key")
+    void findByNameAndEmail() throws Exception {
+        BorrowerRepository repository = context.getBean(BorrowerRepository.class);
+        assertPlan(100, () -> assertTrue(repository.findByNameAndEmail("Borrower 42", "borrower42@example.com")
+                .isPresent()), "Borrower 42", "borrower42@example.com");
+    }
+
+    /**
+     * Test the existence check of a batch of borrowers uses the primary key.
+     */
+    @Test
+    @DisplayName("BorrowerRepository.findExistingIds should use the primary key")
+    void findExistingBorrowerIds() throws Exception {
+        BorrowerRepository repository = context.getBean(BorrowerRepository.class);
+        assertPlan(100, () -> assertEquals(1, repository.findExistingIds(List.of(7L, -7L)).size()), 7L, -7L);
+    }
+
+    /**
+     * Test the returned loans of a book use the book and status index in every partition.
+     */
+    @Test
+    @DisplayName("findByBookIdAndStatus should use the book and status index")
+    void findByBookIdAndStatus() throws Exception {
+        LedgerRepository repository = context.getBean(LedgerRepository.class);
+        // Borrowed by entry 50,000 and returned once by entry 250,000
+        long bookId = 250_000L * 7919 % BOOKS + 1;
+        assertPlan(1000, () -> assertTrue(repository.findByBookIdAndStatus(bookId, LedgerStatus.RETURNED)
+                .isPresent()), bookId, LedgerStatus.RETURNED.name());
+    }
+
+    /**
+     * Test loading the active loans reads only {@code ledger_active}, which holds exactly one row per active
+     * loan, and none of the ledger partitions.
+     */
+    @Test
+    @DisplayName("findActiveBookIds should read only ledger_active")
+    void findActiveBookIds() throws Exception {
+        LedgerRepository repository = context.getBean(LedgerRepository.class);
+        assertPlan(100, Set.of("ledger_active"),
+                () -> assertEquals(BOOKS / 100, repository.findActiveBookIds().size()));
+    }
+
+    /**
+     * Test the partitions holding an active loan are told from the {@code ledger_active} created date index.
+     */
+    @Test
+    @DisplayName("hasActiveLoans should use the ledger_active created date index")
+    void hasActiveLoans() throws Exception {
+        LedgerPartitionRepository partitions = context.getBean(LedgerPartitionRepository.class);
+        YearMonth month = YearMonth.now();
+        assertPlan(100, () -> assertTrue(partitions.hasActiveLoans(month)),
+                start(month), start(month.plusMonths(1)));
+        YearMonth next = month.plusMonths(1);
+        assertPlan(100, () -> assertFalse(partitions.hasActiveLoans(next)),
+                start(next), start(next.plusMonths(1)));
+    }
+
+    private static LocalDateTime start(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+}
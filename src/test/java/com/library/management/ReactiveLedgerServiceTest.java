@@ -0,0 +1,144 @@
+package com.library.management;
+
+import com.library.management.exception.ConflictException;
+import com.library.management.repository.ReactiveLedgerRepository;
+import com.library.management.service.impl.ReactiveLedgerServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ReactiveLedgerServiceImpl}, checking it follows the rules of the blocking ledger service.
+ *
+ * @author Chandru
+ * @version 1.1
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class ReactiveLedgerServiceTest {
+
+    @Mock
+    private ReactiveLedgerRepository ledgerRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private ReactiveLedgerServiceImpl ledgerService;
+
+    /**
+     * Should insert a borrow entry without looking up the book and borrower.
+     */
+    @Test
+    @DisplayName("Should allow borrowing when book is not already borrowed")
+    void shouldAllowBorrowingWhenBookIsAvailable() {
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Mono.just(10L));
+
+        StepVerifier.create(ledgerService.handleLedger(1L, 1L, true)).verifyComplete();
+
+        verify(ledgerRepository, never()).bookExists(any());
+        assertEquals(1, meterRegistry.get("library.ledger").tag("operation", "borrow")
+                .tag("outcome", "success").timer().count());
+    }
+
+    /**
+     * Should reject a borrow of a book already on loan once the insert writes nothing.
+     */
+    @Test
+    @DisplayName("Should fail if book is already borrowed")
+    void shouldFailIfBookAlreadyBorrowed() {
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Mono.empty());
+        when(ledgerRepository.bookExists(1L)).thenReturn(Mono.just(true));
+        when(ledgerRepository.borrowerExists(1L)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(ledgerService.handleLedger(1L, 1L, true))
+                .verifyErrorSatisfies(e -> assertConflict(e, "Book is already borrowed by someone"));
+    }
+
+    /**
+     * Should report a missing book when the insert writes nothing.
+     */
+    @Test
+    @DisplayName("Should fail if the book does not exist")
+    void shouldFailIfBookDoesNotExist() {
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Mono.empty());
+        when(ledgerRepository.bookExists(1L)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(ledgerService.handleLedger(1L, 1L, true))
+                .verifyErrorSatisfies(e -> assertConflict(e, "Book not exists to borrow"));
+
+        verify(ledgerRepository, never()).borrowerExists(any());
+        assertEquals(1, meterRegistry.get("library.ledger").tag("outcome", "conflict").timer().count());
+    }
+
+    /**
+     * Should update the active loan on return without looking up the book and borrower.
+     */
+    @Test
+    @DisplayName("Should allow returning a borrowed book")
+    void shouldAllowReturningBorrowedBook() {
+        when(ledgerRepository.markReturned(1L, 1L)).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(ledgerService.handleLedger(1L, 1L, false)).verifyComplete();
+
+        verify(ledgerRepository, never()).bookExists(any());
+    }
+
+    /**
+     * Should reject a return of a book that is not on loan once the update changes nothing.
+     */
+    @Test
+    @DisplayName("Should fail if book is not borrowed but trying to return")
+    void shouldFailIfBookNotBorrowed() {
+        when(ledgerRepository.markReturned(1L, 1L)).thenReturn(Mono.just(0L));
+        when(ledgerRepository.bookExists(1L)).thenReturn(Mono.just(true));
+        when(ledgerRepository.borrowerExists(1L)).thenReturn(Mono.just(true));
+
+        StepVerifier.create(ledgerService.handleLedger(1L, 1L, false))
+                .verifyErrorSatisfies(e -> assertConflict(e, "Book is not borrowed to return"));
+    }
+
+    /**
+     * Should report a missing borrower on return.
+     */
+    @Test
+    @DisplayName("Should fail if the borrower does not exist on return")
+    void shouldFailIfBorrowerDoesNotExistOnReturn() {
+        when(ledgerRepository.markReturned(1L, 2L)).thenReturn(Mono.just(0L));
+        when(ledgerRepository.bookExists(1L)).thenReturn(Mono.just(true));
+        when(ledgerRepository.borrowerExists(2L)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(ledgerService.handleLedger(1L, 2L, false))
+                .verifyErrorSatisfies(e -> assertConflict(e, "Borrower not exists to borrow book"));
+    }
+
+    /**
+     * Should time a failed statement as an error.
+     */
+    @Test
+    @DisplayName("Should time a database failure as an error")
+    void shouldTimeDatabaseErrorAsError() {
+        when(ledgerRepository.insertBorrow(1L, 1L)).thenReturn(Mono.error(new IllegalStateException("down")));
+
+        StepVerifier.create(ledgerService.handleLedger(1L, 1L, true)).verifyError(IllegalStateException.class);
+
+        assertEquals(1, meterRegistry.get("library.ledger").tag("outcome", "error").timer().count());
+    }
+
+    private static void assertConflict(Throwable e, String message) {
+        assertTrue(e instanceof ConflictException, () -> "Expected a conflict, got " + e);
+        assertEquals(message, e.getMessage());
+    }
+}
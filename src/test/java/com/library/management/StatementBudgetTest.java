@@ -0,0 +1,193 @@
+package com.library.management;
+
+import com.library.management.sql.StatementBudget;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement-budget regression tests for the HTTP endpoints.
+ * <p>
+ * The application runs against an embedded PostgreSQL server with {@code sql.statement-budget.enforce=true},
+ * so a request running more statements than the {@link StatementBudget} of its controller method fails with
+ * a server error. Each test calls endpoints over HTTP with enough rows that an N+1 query pattern would go
+ * over budget, such as batches of {@value #BATCH} loans, and checks the expected status.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+public class StatementBudgetTest {
+
+    private static final int BOOKS = 40;
+    private static final int BATCH = 20;
+
+    private static EmbeddedPostgres postgres;
+    private static ConfigurableApplicationContext context;
+    private static HttpClient client;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void start() throws Exception {
+        postgres = EmbeddedPostgres.builder().start();
+        context = new SpringApplicationBuilder(LibraryManagementApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .run("--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "--spring.datasource.username=postgres",
+                        "--spring.datasource.password=",
+                        "--server.port=0",
+                        "--sql.statement-budget.enforce=true",
+                        "--ledger.archive.directory=target/statement-budget-archive",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+        Environment environment = context.getEnvironment();
+        baseUrl = "http://localhost:" + environment.getProperty("local.server.port")
+                + environment.getProperty("server.servlet.context-path", "");
+        client = HttpClient.newHttpClient();
+        seed();
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        if (client != null) {
+            client.close();
+        }
+        if (context != null) {
+            context.close();
+        }
+        if (postgres != null) {
+            postgres.close();
+        }
+    }
+
+    private static void seed() {
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        jdbc.update("insert into book (id, isbn_no, title, author, version, created_date, updated_date) "
+                + "select i, 'isbn-' || ((i - 1) / 4 + 1), 'Title ' || ((i - 1) / 4 + 1), "
+                + "'Author ' || ((i - 1) / 4 + 1), (i - 1) % 4 + 1, now(), now() "
+                + "from generate_series(1, ?) i", BOOKS);
+        jdbc.update("insert into book_isbn (isbn_no, title, author, copy_count, created_date, updated_date) "
+                + "select 'isbn-' || i, 'Title ' || i, 'Author ' || i, 4, now(), now() "
+                + "from generate_series(1, ?) i", BOOKS / 4);
+        jdbc.update("insert into borrower (id, name, email, created_date, updated_date) "
+                + "select i, 'Borrower ' || i, 'borrower' || i || '@example.com', now(), now() "
+                + "from generate_series(1, 2) i");
+        jdbc.execute("select setval('book_seq', 1000)");
+        jdbc.execute("select setval('borrower_seq', 1000)");
+    }
+
+    private static int send(String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (json != null) {
+            request.header("Content-Type", "application/json");
+        }
+        request.method(method, json != null ? HttpRequest.BodyPublishers.ofString(json)
+                : HttpRequest.BodyPublishers.noBody());
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static String batch(int firstBookId) {
+        return IntStream.range(firstBookId, firstBookId + BATCH)
+                .mapToObj(bookId -> "{\"bookId\":" + bookId + ",\"borrowerId\":1}")
+                .collect(Collectors.joining(",", "{\"items\":[", "]}"));
+    }
+
+    private static double exceeded() {
+        return context.getBean(MeterRegistry.class).find("library.sql.budget.exceeded").counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    /**
+     * Test adding books and borrowers, new and duplicate, stays within budget.
+     */
+    @Test
+    @DisplayName("Adding books and borrowers should stay within budget")
+    void shouldAddWithinBudget() throws Exception {
+        double exceeded = exceeded();
+        assertEquals(201, send("POST", "/book/add",
+                "{\"isbnNo\":\"978-0-13-468599-1\",\"title\":\"Effective Java\",\"author\":\"Joshua Bloch\"}"));
+        assertEquals(201, send("POST", "/book/add",
+                "{\"isbnNo\":\"978-0-13-468599-1\",\"title\":\"Effective Java\",\"author\":\"Joshua Bloch\"}"));
+        assertEquals(409, send("POST", "/book/add",
+                "{\"isbnNo\":\"978-0-13-468599-1\",\"title\":\"Other Title\",\"author\":\"Joshua Bloch\"}"));
+        assertEquals(201, send("POST", "/borrower/add", "{\"name\":\"Ann\",\"email\":\"ann@example.com\"}"));
+        assertEquals(409, send("POST", "/borrower/add", "{\"name\":\"Ann\",\"email\":\"ann@example.com\"}"));
+        assertEquals(exceeded, exceeded());
+    }
+
+    /**
+     * Test the catalog reads stay within budget with pages, slices and results of many books.
+     */
+    @Test
+    @DisplayName("Catalog reads should stay within budget")
+    void shouldReadCatalogWithinBudget() throws Exception {
+        double exceeded = exceeded();
+        assertEquals(200, send("GET", "/book/?pageNum=0&pageSize=" + BOOKS, null));
+        assertEquals(200, send("GET", "/book/1", null));
+        assertEquals(200, send("GET", "/book/1", null));
+        assertEquals(404, send("GET", "/book/999999", null));
+        assertEquals(200, send("GET", "/book/isbn/isbn-1", null));
+        assertEquals(200, send("GET", "/book/search?q=title&limit=100", null));
+        assertEquals(200, send("GET", "/book/suggest?prefix=tit", null));
+        assertEquals(200, send("GET", "/book/browse?size=" + BOOKS + "&includeTotal=true", null));
+        assertEquals(200, send("GET", "/book/history", null));
+        assertEquals(exceeded, exceeded());
+    }
+
+    /**
+     * Test borrows and returns, single and in batches of {@value #BATCH}, stay within budget, including
+     * conflicts.
+     */
+    @Test
+    @DisplayName("Borrows and returns should stay within budget")
+    void shouldLendWithinBudget() throws Exception {
+        double exceeded = exceeded();
+        assertEquals(200, send("POST", "/book/borrow?bookId=" + BOOKS + "&borrowerId=1", null));
+        assertEquals(409, send("POST", "/book/borrow?bookId=" + BOOKS + "&borrowerId=2", null));
+        assertEquals(200, send("POST", "/book/return?bookId=" + BOOKS + "&borrowerId=1", null));
+        assertEquals(409, send("POST", "/book/return?bookId=" + BOOKS + "&borrowerId=1", null));
+        assertEquals(409, send("POST", "/book/borrow?bookId=999999&borrowerId=1", null));
+        assertEquals(200, send("POST", "/book/borrow/batch", batch(1)));
+        assertEquals(200, send("POST", "/book/return/batch", batch(1)));
+        assertEquals(exceeded, exceeded());
+    }
+
+    /**
+     * Test a borrow and a return rejected by the table stay within budget. The service then looks the book
+     * and borrower up, and the book is not in the catalog cache.
+     */
+    @Test
+    @DisplayName("Loans rejected by the table should stay within budget")
+    void shouldRejectWithinBudget() throws Exception {
+        double exceeded = exceeded();
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+        long bookId = BOOKS - 1;
+
+        assertEquals(200, send("POST", "/book/borrow?bookId=" + bookId + "&borrowerId=1", null));
+        jdbc.update("delete from ledger_active where book_id = ?", bookId);
+        assertEquals(409, send("POST", "/book/return?bookId=" + bookId + "&borrowerId=1", null));
+
+        jdbc.update("insert into ledger_active (book_id, ledger_id, created_date) values (?, 0, now())", bookId - 1);
+        assertEquals(409, send("POST", "/book/borrow?bookId=" + (bookId - 1) + "&borrowerId=1", null));
+        assertEquals(exceeded, exceeded());
+    }
+}
@@ -0,0 +1,158 @@
+package com.library.management;
+
+import com.library.management.controller.LedgerController;
+import com.library.management.sql.RequestStatements;
+import com.library.management.sql.StatementRecordingDataSource;
+import com.library.management.sql.StatementRecordingInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link StatementRecordingDataSource} and {@link StatementRecordingInterceptor}.
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class StatementRecordingTest {
+
+    private static final String SELECT = "select id from book where id = ?";
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement preparedStatement;
+
+    @Mock
+    private Statement statement;
+
+    @AfterEach
+    void tearDown() {
+        RequestStatements.end();
+    }
+
+    private StatementRecordingDataSource dataSource(boolean enforceBudgets) throws SQLException {
+        when(target.getConnection()).thenReturn(connection);
+        return new StatementRecordingDataSource(target, Duration.ofSeconds(1), enforceBudgets);
+    }
+
+    /**
+     * Test every execution of a prepared or plain statement counts once, and other calls do not count.
+     */
+    @Test
+    @DisplayName("Executions should be counted against the current request")
+    void shouldCountExecutions() throws SQLException {
+        when(connection.prepareStatement(SELECT)).thenReturn(preparedStatement);
+        when(connection.createStatement()).thenReturn(statement);
+        RequestStatements request = RequestStatements.begin("BookController.getBook", RequestStatements.UNLIMITED);
+
+        Connection recorded = dataSource(false).getConnection();
+        PreparedStatement prepared = recorded.prepareStatement(SELECT);
+        prepared.setLong(1, 1L);
+        prepared.executeQuery();
+        prepared.executeQuery();
+        recorded.createStatement().execute("select 1");
+
+        assertEquals(3, request.getCount());
+        assertTrue(request.getNanos() > 0);
+        verify(preparedStatement).setLong(1, 1L);
+        verify(preparedStatement, times(2)).executeQuery();
+        verify(statement).execute("select 1");
+    }
+
+    /**
+     * Test a statement over the budget fails before reaching the database when budgets are enforced.
+     */
+    @Test
+    @DisplayName("A statement over the budget should fail when budgets are enforced")
+    void shouldFailOverBudget() throws SQLException {
+        when(connection.prepareStatement(SELECT)).thenReturn(preparedStatement);
+        RequestStatements request = RequestStatements.begin("BookController.getBook", 1);
+        PreparedStatement prepared = dataSource(true).getConnection().prepareStatement(SELECT);
+
+        prepared.executeQuery();
+        IllegalStateException exceeded = assertThrows(IllegalStateException.class, prepared::executeQuery);
+
+        assertEquals("BookController.getBook went over its budget of 1 SQL statements with: " + SELECT,
+                exceeded.getMessage());
+        verify(preparedStatement, times(1)).executeQuery();
+        assertTrue(request.isOverBudget());
+    }
+
+    /**
+     * Test statements over the budget still run when budgets are not enforced, and outside a request.
+     */
+    @Test
+    @DisplayName("Statements should run when budgets are not enforced or outside a request")
+    void shouldRunWithoutEnforcement() throws SQLException {
+        when(connection.prepareStatement(SELECT)).thenReturn(preparedStatement);
+        StatementRecordingDataSource dataSource = dataSource(false);
+        PreparedStatement outside = dataSource.getConnection().prepareStatement(SELECT);
+        outside.executeQuery();
+
+        RequestStatements request = RequestStatements.begin("BookController.getBook", 0);
+        dataSource.getConnection().prepareStatement(SELECT).executeQuery();
+
+        assertEquals(1, request.getCount());
+        assertTrue(request.isOverBudget());
+        verify(preparedStatement, times(2)).executeQuery();
+    }
+
+    /**
+     * Test the interceptor names the tally after the controller method, takes its budget and publishes the
+     * meters of the request once it completes.
+     */
+    @Test
+    @DisplayName("The interceptor should publish the statements of each controller method")
+    void shouldPublishPerHandler() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StatementRecordingInterceptor interceptor = new StatementRecordingInterceptor(meterRegistry);
+        HandlerMethod handler = new HandlerMethod(new LedgerController(),
+                LedgerController.class.getMethod("borrowBook", Long.class, Long.class));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, handler);
+        RequestStatements statements = RequestStatements.current();
+        assertEquals("LedgerController.borrowBook", statements.getHandler());
+        assertEquals(3, statements.getBudget());
+        for (int i = 0; i < 4; i++) {
+            ReflectionTestUtils.invokeMethod(statements, "record", 1_000_000L);
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertNull(RequestStatements.current());
+        assertEquals(4, meterRegistry.get("library.sql.statements").tag("handler", "LedgerController.borrowBook")
+                .summary().totalAmount());
+        assertEquals(4, meterRegistry.get("library.sql.time").tag("handler", "LedgerController.borrowBook")
+                .timer().totalTime(TimeUnit.MILLISECONDS));
+        assertEquals(1, meterRegistry.get("library.sql.budget.exceeded").tag("handler", "LedgerController.borrowBook")
+                .counter().count());
+    }
+}
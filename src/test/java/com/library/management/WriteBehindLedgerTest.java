@@ -0,0 +1,213 @@
+package com.library.management;
+
+import com.library.management.index.BookAvailabilityIndex;
+import com.library.management.repository.LedgerWalRepository;
+import com.library.management.wal.LedgerEvent;
+import com.library.management.wal.LedgerWal;
+import com.library.management.wal.WriteBehindLedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link WriteBehindLedger} and the {@link LedgerWal} file format.
+ * <p>
+ * These tests check that acknowledged events survive a restart and are applied exactly once, in order,
+ * and that a write torn by a crash ends the log.
+ * </p>
+ *
+ * @author Chandru
+ * @version 1.0
+ * @since 2026-10-17
+ */
+@ExtendWith(MockitoExtension.class)
+public class WriteBehindLedgerTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private LedgerWalRepository ledgerWalRepository;
+
+    @Mock
+    private BookAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private WriteBehindLedger writeBehindLedger;
+
+    private final List<LedgerEvent> applied = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(writeBehindLedger, "directory", directory);
+        ReflectionTestUtils.setField(writeBehindLedger, "segmentBytes", 10 * LedgerWal.RECORD_BYTES);
+        ReflectionTestUtils.setField(writeBehindLedger, "commitInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(writeBehindLedger, "maxGroupSize", 4);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(ledgerWalRepository.insertBorrows(anyList()))
+                .thenAnswer(invocation -> apply(invocation.getArgument(0)));
+        lenient().when(ledgerWalRepository.markReturned(anyList()))
+                .thenAnswer(invocation -> apply(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (ReflectionTestUtils.getField(writeBehindLedger, "committer") != null) {
+            writeBehindLedger.stop();
+        }
+    }
+
+    private int[] apply(List<LedgerEvent> events) {
+        applied.addAll(events);
+        int[] counts = new int[events.size()];
+        Arrays.fill(counts, 1);
+        return counts;
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    /**
+     * Test events acknowledged but not committed before a crash are replayed, in order, on the next start,
+     * and the availability index is reloaded afterwards.
+     */
+    @Test
+    @DisplayName("Acknowledged events should be replayed after a restart")
+    void shouldReplayUncommittedEvents() throws Exception {
+        when(ledgerWalRepository.findAppliedSeq()).thenReturn(0L);
+        writeBehindLedger.start();
+        for (long book = 1; book <= 12; book++) {
+            writeBehindLedger.record(book % 3 != 0, book, 7L);
+        }
+        assertEquals(12, writeBehindLedger.pendingCount());
+        assertTrue(applied.isEmpty());
+
+        // Restart without committing: a new instance reads the same directory
+        clearInvocations(availabilityIndex);
+        WriteBehindLedger restarted = new WriteBehindLedger();
+        ReflectionTestUtils.setField(restarted, "ledgerWalRepository", ledgerWalRepository);
+        ReflectionTestUtils.setField(restarted, "availabilityIndex", availabilityIndex);
+        ReflectionTestUtils.setField(restarted, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(restarted, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(restarted, "directory", directory);
+        ReflectionTestUtils.setField(restarted, "segmentBytes", 10 * LedgerWal.RECORD_BYTES);
+        ReflectionTestUtils.setField(restarted, "commitInterval", Duration.ofHours(1));
+        ReflectionTestUtils.setField(restarted, "maxGroupSize", 4);
+        restarted.start();
+
+        assertEquals(12, applied.size());
+        for (int i = 0; i < applied.size(); i++) {
+            assertEquals(i + 1, applied.get(i).seq());
+            assertEquals(i + 1, applied.get(i).bookId());
+            assertEquals((i + 1) % 3 != 0, applied.get(i).borrow());
+        }
+        verify(ledgerWalRepository).updateAppliedSeq(12L);
+        verify(availabilityIndex).load();
+        assertEquals(0, restarted.pendingCount());
+        // Both full segments are deleted; only the new active one is left
+        assertEquals(1, segmentFiles());
+        restarted.stop();
+    }
+
+    /**
+     * Test events already covered by the checkpoint are not applied again.
+     */
+    @Test
+    @DisplayName("Events up to the checkpoint should not be applied again")
+    void shouldSkipAppliedEvents() throws Exception {
+        try (LedgerWal wal = LedgerWal.open(directory, 1000, 0)) {
+            for (long book = 1; book <= 5; book++) {
+                wal.awaitDurable(wal.append(true, book, 1L, 0).seq());
+            }
+        }
+        when(ledgerWalRepository.findAppliedSeq()).thenReturn(3L);
+
+        writeBehindLedger.start();
+
+        assertEquals(List.of(4L, 5L), applied.stream().map(LedgerEvent::seq).toList());
+    }
+
+    /**
+     * Test a commit moves the checkpoint and clears the pending events; it happens on the committer thread
+     * in production and on shutdown at the latest.
+     */
+    @Test
+    @DisplayName("Committed events should leave the pending queue")
+    void shouldCommitPendingEvents() throws Exception {
+        when(ledgerWalRepository.findAppliedSeq()).thenReturn(0L);
+        writeBehindLedger.start();
+        writeBehindLedger.record(true, 1L, 1L);
+        writeBehindLedger.record(false, 1L, 1L);
+
+        ReflectionTestUtils.invokeMethod(writeBehindLedger, "commitPending");
+
+        assertEquals(0, writeBehindLedger.pendingCount());
+        assertEquals(2, applied.size());
+        verify(ledgerWalRepository).insertBorrows(anyList());
+        verify(ledgerWalRepository).markReturned(anyList());
+        verify(ledgerWalRepository).updateAppliedSeq(2L);
+    }
+
+    /**
+     * Test a record torn by a crash ends the log: it and anything after it are ignored.
+     */
+    @Test
+    @DisplayName("A torn record should end the log")
+    void shouldStopAtTornRecord() throws Exception {
+        try (LedgerWal wal = LedgerWal.open(directory, 1000, 0)) {
+            for (long book = 1; book <= 3; book++) {
+                wal.awaitDurable(wal.append(true, book, 1L, 0).seq());
+            }
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.sorted().findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(LedgerWal.RECORD_BYTES + 10);
+            file.write(0x55);
+        }
+
+        try (LedgerWal wal = LedgerWal.open(directory, 1000, 0)) {
+            assertEquals(List.of(1L), wal.recovered().stream().map(LedgerEvent::seq).toList());
+            assertEquals(2L, wal.append(true, 9L, 1L, 0).seq());
+        }
+    }
+}